@@ -20,8 +20,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
 import org.springframework.core.codec.Decoder;
 import org.springframework.core.codec.Encoder;
 import org.springframework.core.io.buffer.DataBuffer;
@@ -29,6 +33,9 @@ import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.graphql.ResponseError;
 import org.springframework.graphql.ResponseField;
+import org.springframework.http.codec.json.AbstractJackson2Decoder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 
@@ -38,11 +45,25 @@ import org.springframework.util.MimeTypeUtils;
  * field from {@link org.springframework.graphql.GraphQlResponse} and adds
  * support for decoding.
  *
+ * <p>When the JSON {@code Decoder} is Jackson based, the field value is
+ * converted to the target type with its {@code ObjectMapper} directly.
+ * Otherwise, the value is encoded with the JSON {@code Encoder}, and then
+ * decoded to the target type.
+ *
  * @author Rossen Stoyanchev
  * @since 1.0.0
  */
 final class DefaultClientResponseField implements ClientResponseField {
 
+	private static final boolean jackson2Present;
+
+	static {
+		ClassLoader classLoader = DefaultClientResponseField.class.getClassLoader();
+		jackson2Present = ClassUtils.isPresent("com.fasterxml.jackson.databind.ObjectMapper", classLoader) &&
+				ClassUtils.isPresent("org.springframework.http.codec.json.AbstractJackson2Decoder", classLoader);
+	}
+
+
 	private final DefaultClientGraphQlResponse response;
 
 	private final ResponseField field;
@@ -110,6 +131,14 @@ final class DefaultClientResponseField implements ClientResponseField {
 			throw new FieldAccessException(this.response.getRequest(), this.response, this);
 		}
 
+		Decoder<?> decoder = this.response.getDecoder();
+		if (jackson2Present) {
+			Object entity = JacksonConverter.convert(decoder, getValue(), targetType);
+			if (entity != JacksonConverter.NOT_CONVERTED) {
+				return (T) entity;
+			}
+		}
+
 		DataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
 		MimeType mimeType = MimeTypeUtils.APPLICATION_JSON;
 		Map<String, Object> hints = Collections.emptyMap();
@@ -117,7 +146,38 @@ final class DefaultClientResponseField implements ClientResponseField {
 		DataBuffer buffer = ((Encoder<T>) this.response.getEncoder()).encodeValue(
 				(T) getValue(), bufferFactory, ResolvableType.forInstance(getValue()), mimeType, hints);
 
-		return ((Decoder<T>) this.response.getDecoder()).decode(buffer, targetType, mimeType, hints);
+		return ((Decoder<T>) decoder).decode(buffer, targetType, mimeType, hints);
+	}
+
+
+	/**
+	 * Convert with the {@code ObjectMapper} of a Jackson {@code Decoder}, to
+	 * avoid encoding a field value to JSON only to decode it again.
+	 */
+	private static class JacksonConverter {
+
+		static final Object NOT_CONVERTED = new Object();
+
+		@Nullable
+		static Object convert(Decoder<?> decoder, @Nullable Object value, ResolvableType targetType) {
+			if (!(decoder instanceof AbstractJackson2Decoder)) {
+				return NOT_CONVERTED;
+			}
+			AbstractJackson2Decoder jacksonDecoder = (AbstractJackson2Decoder) decoder;
+			if (!jacksonDecoder.getObjectMappersForType(targetType.toClass()).isEmpty()) {
+				// Leave it to the Decoder to select the ObjectMapper
+				return NOT_CONVERTED;
+			}
+			ObjectMapper mapper = jacksonDecoder.getObjectMapper();
+			try {
+				JavaType javaType = mapper.constructType(targetType.getType());
+				return mapper.convertValue(value, javaType);
+			}
+			catch (IllegalArgumentException ex) {
+				throw new DecodingException("JSON conversion error: " + ex.getMessage(), ex);
+			}
+		}
+
 	}
 
 }
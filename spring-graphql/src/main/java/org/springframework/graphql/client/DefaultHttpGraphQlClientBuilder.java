@@ -17,10 +17,12 @@
 package org.springframework.graphql.client;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.function.Consumer;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.codec.CodecConfigurer;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.DefaultUriBuilderFactory;
@@ -41,6 +43,11 @@ final class DefaultHttpGraphQlClientBuilder
 
 	private final WebClient.Builder webClientBuilder;
 
+	@Nullable
+	private Duration batchWindow;
+
+	private int maxBatchSize;
+
 
 	/**
 	 * Constructor to start without a WebClient instance.
@@ -101,6 +108,15 @@ final class DefaultHttpGraphQlClientBuilder
 		return this;
 	}
 
+	@Override
+	public DefaultHttpGraphQlClientBuilder batching(Duration window, int maxBatchSize) {
+		Assert.notNull(window, "Batch window is required");
+		Assert.isTrue(maxBatchSize > 1, "'maxBatchSize' must be greater than 1");
+		this.batchWindow = window;
+		this.maxBatchSize = maxBatchSize;
+		return this;
+	}
+
 	@Override
 	public HttpGraphQlClient build() {
 
@@ -112,8 +128,19 @@ final class DefaultHttpGraphQlClientBuilder
 
 		WebClient webClient = this.webClientBuilder.build();
 
-		GraphQlClient graphQlClient = super.buildGraphQlClient(new HttpGraphQlTransport(webClient));
-		return new DefaultHttpGraphQlClient(graphQlClient, webClient, getBuilderInitializer());
+		HttpGraphQlTransport transport = new HttpGraphQlTransport(webClient, this.batchWindow, this.maxBatchSize);
+		GraphQlClient graphQlClient = super.buildGraphQlClient(transport);
+		return new DefaultHttpGraphQlClient(graphQlClient, webClient, getHttpBuilderInitializer());
+	}
+
+	private Consumer<AbstractGraphQlClientBuilder<?>> getHttpBuilderInitializer() {
+		Consumer<AbstractGraphQlClientBuilder<?>> initializer = getBuilderInitializer();
+		Duration window = this.batchWindow;
+		if (window == null) {
+			return initializer;
+		}
+		int batchSize = this.maxBatchSize;
+		return initializer.andThen(builder -> ((DefaultHttpGraphQlClientBuilder) builder).batching(window, batchSize));
 	}
 
 
@@ -16,6 +16,7 @@
 
 package org.springframework.graphql.client;
 
+import java.time.Duration;
 import java.util.function.Consumer;
 
 import org.springframework.web.reactive.function.client.WebClient;
@@ -80,6 +81,24 @@ public interface HttpGraphQlClient extends WebGraphQlClient {
 		 */
 		B webClient(Consumer<WebClient.Builder> webClient);
 
+		/**
+		 * Send requests executed within the given time window together, in one
+		 * HTTP request with a JSON array body, for use with servers that
+		 * support batched requests. A batch is sent when the window ends, or
+		 * when it reaches the maximum size, whichever comes first.
+		 * <p>A request cancelled before its batch is sent is removed from the
+		 * batch. The HTTP request for a batch is executed with the Reactor
+		 * context of the first request in the batch, e.g. for context-dependent
+		 * {@code ExchangeFilterFunction}s, while a batch with a single request
+		 * uses that request's own context.
+		 * <p>By default, each request is sent on its own.
+		 * @param window how long to wait for more requests after the first
+		 * request of a batch
+		 * @param maxBatchSize the maximum number of requests in a batch
+		 * @since 1.1.0
+		 */
+		B batching(Duration window, int maxBatchSize);
+
 		/**
 		 * Build the {@code HttpGraphQlClient} instance.
 		 */
@@ -16,16 +16,23 @@
 
 package org.springframework.graphql.client;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.context.ContextView;
 
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.graphql.GraphQlRequest;
 import org.springframework.graphql.GraphQlResponse;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.web.reactive.function.client.WebClient;
 
@@ -36,6 +43,10 @@ import org.springframework.web.reactive.function.client.WebClient;
  * <p>Supports only single-response requests over HTTP POST. For subscriptions,
  * see {@link WebSocketGraphQlTransport} and {@link RSocketGraphQlTransport}.
  *
+ * <p>Optionally, requests executed within a time window may be sent together
+ * in one HTTP request with a JSON array body, for servers that support
+ * batched requests.
+ *
  * @author Rossen Stoyanchev
  * @since 1.0.0
  */
@@ -44,16 +55,27 @@ final class HttpGraphQlTransport implements GraphQlTransport {
 	private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE =
 			new ParameterizedTypeReference<Map<String, Object>>() {};
 
+	private static final ParameterizedTypeReference<List<Map<String, Object>>> LIST_TYPE =
+			new ParameterizedTypeReference<List<Map<String, Object>>>() {};
+
 
 	private final WebClient webClient;
 
 	private final MediaType contentType;
 
+	@Nullable
+	private final RequestBatcher batcher;
+
 
 	HttpGraphQlTransport(WebClient webClient) {
+		this(webClient, null, 0);
+	}
+
+	HttpGraphQlTransport(WebClient webClient, @Nullable Duration batchWindow, int maxBatchSize) {
 		Assert.notNull(webClient, "WebClient is required");
 		this.webClient = webClient;
 		this.contentType = initContentType(webClient);
+		this.batcher = (batchWindow != null ? new RequestBatcher(batchWindow, maxBatchSize) : null);
 	}
 
 	private static MediaType initContentType(WebClient webClient) {
@@ -66,6 +88,14 @@ final class HttpGraphQlTransport implements GraphQlTransport {
 
 	@Override
 	public Mono<GraphQlResponse> execute(GraphQlRequest request) {
+		RequestBatcher requestBatcher = this.batcher;
+		if (requestBatcher != null) {
+			return Mono.deferContextual(contextView -> requestBatcher.add(request, contextView));
+		}
+		return executeSingle(request);
+	}
+
+	private Mono<GraphQlResponse> executeSingle(GraphQlRequest request) {
 		return this.webClient.post()
 				.contentType(this.contentType)
 				.accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_GRAPHQL)
@@ -75,9 +105,179 @@ final class HttpGraphQlTransport implements GraphQlTransport {
 				.map(ResponseMapGraphQlResponse::new);
 	}
 
+	private Flux<GraphQlResponse> executeBatch(List<GraphQlRequest> requests) {
+		List<Map<String, Object>> body = new ArrayList<>(requests.size());
+		for (GraphQlRequest request : requests) {
+			body.add(request.toMap());
+		}
+		return this.webClient.post()
+				.contentType(this.contentType)
+				.accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_GRAPHQL)
+				.bodyValue(body)
+				.retrieve()
+				.bodyToMono(LIST_TYPE)
+				.flatMapIterable(list -> {
+					Assert.state(list.size() == requests.size(),
+							"Expected " + requests.size() + " responses in batch, but got " + list.size());
+					return list;
+				})
+				.map(ResponseMapGraphQlResponse::new);
+	}
+
 	@Override
 	public Flux<GraphQlResponse> executeSubscription(GraphQlRequest request) {
 		throw new UnsupportedOperationException("Subscriptions not supported over HTTP");
 	}
 
+
+	/**
+	 * Collects requests during a time window, or until the maximum batch size,
+	 * and sends them together. A batch with a single request is sent as a
+	 * regular, non-batched request. The HTTP request for a batch is executed
+	 * with the Reactor context of the first request in the batch, and requests
+	 * cancelled before the batch is sent are removed from it.
+	 */
+	private class RequestBatcher {
+
+		private final Duration window;
+
+		private final int maxBatchSize;
+
+		private List<PendingRequest> pendingRequests = new ArrayList<>();
+
+		@Nullable
+		private Disposable windowTimer;
+
+		RequestBatcher(Duration window, int maxBatchSize) {
+			Assert.isTrue(maxBatchSize > 1, "'maxBatchSize' must be greater than 1");
+			this.window = window;
+			this.maxBatchSize = maxBatchSize;
+		}
+
+		Mono<GraphQlResponse> add(GraphQlRequest request, ContextView contextView) {
+			PendingRequest pendingRequest = new PendingRequest(request, contextView);
+			List<PendingRequest> batch = null;
+			synchronized (this) {
+				this.pendingRequests.add(pendingRequest);
+				if (this.pendingRequests.size() >= this.maxBatchSize) {
+					batch = takePendingRequests();
+				}
+				else if (this.pendingRequests.size() == 1) {
+					this.windowTimer = Mono.delay(this.window).subscribe(aLong -> flush());
+				}
+			}
+			if (batch != null) {
+				send(batch);
+			}
+			return pendingRequest.getResponse().doOnCancel(() -> cancel(pendingRequest));
+		}
+
+		private void cancel(PendingRequest pendingRequest) {
+			pendingRequest.cancel();
+			synchronized (this) {
+				if (this.pendingRequests.remove(pendingRequest) && this.pendingRequests.isEmpty()) {
+					takePendingRequests();
+				}
+			}
+		}
+
+		private void flush() {
+			List<PendingRequest> batch;
+			synchronized (this) {
+				batch = takePendingRequests();
+			}
+			if (!batch.isEmpty()) {
+				send(batch);
+			}
+		}
+
+		private List<PendingRequest> takePendingRequests() {
+			List<PendingRequest> batch = this.pendingRequests;
+			this.pendingRequests = new ArrayList<>();
+			if (this.windowTimer != null) {
+				this.windowTimer.dispose();
+				this.windowTimer = null;
+			}
+			return batch;
+		}
+
+		private void send(List<PendingRequest> batch) {
+			batch.removeIf(PendingRequest::isCancelled);
+			if (batch.isEmpty()) {
+				return;
+			}
+			if (batch.size() == 1) {
+				PendingRequest pendingRequest = batch.get(0);
+				pendingRequest.setDisposable(executeSingle(pendingRequest.request)
+						.contextWrite(pendingRequest.contextView)
+						.subscribe(pendingRequest::setResponse, pendingRequest::setError));
+				return;
+			}
+			List<GraphQlRequest> requests = new ArrayList<>(batch.size());
+			for (PendingRequest pendingRequest : batch) {
+				requests.add(pendingRequest.request);
+			}
+			executeBatch(requests).collectList().contextWrite(batch.get(0).contextView).subscribe(
+					responses -> {
+						for (int i = 0; i < batch.size(); i++) {
+							batch.get(i).setResponse(responses.get(i));
+						}
+					},
+					ex -> batch.forEach(pendingRequest -> pendingRequest.setError(ex)));
+		}
+
+	}
+
+
+	private static class PendingRequest {
+
+		private final GraphQlRequest request;
+
+		private final ContextView contextView;
+
+		private final Sinks.One<GraphQlResponse> responseSink = Sinks.one();
+
+		private volatile boolean cancelled;
+
+		@Nullable
+		private volatile Disposable disposable;
+
+		PendingRequest(GraphQlRequest request, ContextView contextView) {
+			this.request = request;
+			this.contextView = contextView;
+		}
+
+		Mono<GraphQlResponse> getResponse() {
+			return this.responseSink.asMono();
+		}
+
+		void setResponse(GraphQlResponse response) {
+			this.responseSink.tryEmitValue(response);
+		}
+
+		void setError(Throwable ex) {
+			this.responseSink.tryEmitError(ex);
+		}
+
+		boolean isCancelled() {
+			return this.cancelled;
+		}
+
+		void cancel() {
+			this.cancelled = true;
+			Disposable disposable = this.disposable;
+			if (disposable != null) {
+				disposable.dispose();
+			}
+		}
+
+		void setDisposable(Disposable disposable) {
+			this.disposable = disposable;
+			if (this.cancelled) {
+				disposable.dispose();
+			}
+		}
+
+	}
+
 }
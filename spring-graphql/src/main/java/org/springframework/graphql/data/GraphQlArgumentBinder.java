@@ -17,12 +17,12 @@
 package org.springframework.graphql.data;
 
 import java.lang.reflect.Constructor;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Stack;
 
 import graphql.schema.DataFetchingEnvironment;
 
@@ -38,6 +38,7 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.validation.BindException;
 import org.springframework.validation.BindingErrorProcessor;
 import org.springframework.validation.BindingResult;
@@ -53,17 +54,26 @@ import org.springframework.validation.FieldError;
  * constructor of the target object, or by using a default constructor and
  * mapping argument values to its properties. This is applied recursively.
  *
+ * <p>The constructor to use, along with its parameter names and types, is
+ * looked up once per target type and kept in a bounded cache.
+ *
  * @author Brian Clozel
  * @author Rossen Stoyanchev
  * @since 1.0.0
  */
 public class GraphQlArgumentBinder {
 
+	private static final int CONSTRUCTOR_CACHE_LIMIT = 256;
+
+
 	@Nullable
 	private final SimpleTypeConverter typeConverter;
 
 	private final BindingErrorProcessor bindingErrorProcessor = new DefaultBindingErrorProcessor();
 
+	private final ConcurrentLruCache<Class<?>, ConstructorInfo> constructorCache =
+			new ConcurrentLruCache<>(CONSTRUCTOR_CACHE_LIMIT, ConstructorInfo::new);
+
 
 	public GraphQlArgumentBinder() {
 		this(null);
@@ -121,16 +131,14 @@ public class GraphQlArgumentBinder {
 		Class<?> targetClass = targetType.resolve();
 		Assert.notNull(targetClass, "Could not determine target type from " + targetType);
 
-		DataBinder binder = new DataBinder(null, argumentName != null ? argumentName : "arguments");
-		BindingResult bindingResult = binder.getBindingResult();
-		Stack<String> segments = new Stack<>();
+		BindingState state = new BindingState(argumentName != null ? argumentName : "arguments");
 
 		try {
 			// From Collection
 
 			if (CollectionFactory.isApproximableCollectionType(rawValue.getClass())) {
-				segments.push(argumentName);
-				return createCollection((Collection<Object>) rawValue, targetType, bindingResult, segments);
+				state.push(argumentName);
+				return createCollection((Collection<Object>) rawValue, targetType, state);
 			}
 
 			if (targetClass == Optional.class) {
@@ -141,7 +149,7 @@ public class GraphQlArgumentBinder {
 			// From Map
 
 			if (rawValue instanceof Map) {
-				Object target = createValue((Map<String, Object>) rawValue, targetClass, bindingResult, segments);
+				Object target = createValue((Map<String, Object>) rawValue, targetClass, state);
 				return wrapAsOptionalIfNecessary(target, targetType);
 			}
 
@@ -151,11 +159,11 @@ public class GraphQlArgumentBinder {
 				return wrapAsOptionalIfNecessary(rawValue, targetType);
 			}
 
-			Object target = convertValue(rawValue, targetClass, bindingResult, segments);
+			Object target = convertValue(rawValue, targetClass, state);
 			return wrapAsOptionalIfNecessary(target, targetType);
 		}
 		finally {
-			checkBindingResult(bindingResult);
+			checkBindingResult(state);
 		}
 	}
 
@@ -166,44 +174,42 @@ public class GraphQlArgumentBinder {
 
 	@SuppressWarnings({"ConstantConditions", "unchecked"})
 	private <T> Collection<T> createCollection(
-			Collection<Object> rawCollection, ResolvableType collectionType,
-			BindingResult bindingResult, Stack<String> segments) {
+			Collection<Object> rawCollection, ResolvableType collectionType, BindingState state) {
 
 		if (!Collection.class.isAssignableFrom(collectionType.resolve())) {
-			bindingResult.rejectValue(toArgumentPath(segments), "typeMismatch", "Expected collection: " + collectionType);
+			state.getBindingResult().rejectValue(
+					state.getPath(), "typeMismatch", "Expected collection: " + collectionType);
 			return Collections.emptyList();
 		}
 
 		Class<?> elementClass = collectionType.asCollection().getGeneric(0).resolve();
 		if (elementClass == null) {
-			bindingResult.rejectValue(toArgumentPath(segments), "unknownElementType", "Unknown element type");
+			state.getBindingResult().rejectValue(state.getPath(), "unknownElementType", "Unknown element type");
 			return Collections.emptyList();
 		}
 
 		Collection<T> collection = CollectionFactory.createApproximateCollection(rawCollection, rawCollection.size());
 		int i = 0;
 		for (Object rawValue : rawCollection) {
-			segments.push("[" + i++ + "]");
+			state.pushIndex(i++);
 			if (elementClass.isAssignableFrom(rawValue.getClass())) {
 				collection.add((T) rawValue);
 			}
 			else if (rawValue instanceof Map) {
-				collection.add((T) createValueOrNull((Map<String, Object>) rawValue, elementClass, bindingResult, segments));
+				collection.add((T) createValueOrNull((Map<String, Object>) rawValue, elementClass, state));
 			}
 			else {
-				collection.add((T) convertValue(rawValue, elementClass, bindingResult, segments));
+				collection.add((T) convertValue(rawValue, elementClass, state));
 			}
-			segments.pop();
+			state.pop();
 		}
 		return collection;
 	}
 
 	@Nullable
-	private Object createValueOrNull(
-			Map<String, Object> rawMap, Class<?> targetType, BindingResult result, Stack<String> segments) {
-
+	private Object createValueOrNull(Map<String, Object> rawMap, Class<?> targetType, BindingState state) {
 		try {
-			return createValue(rawMap, targetType, result, segments);
+			return createValue(rawMap, targetType, state);
 		}
 		catch (BindException ex) {
 			return null;
@@ -212,24 +218,23 @@ public class GraphQlArgumentBinder {
 
 	@SuppressWarnings("unchecked")
 	private Object createValue(
-			Map<String, Object> rawMap, Class<?> targetType, BindingResult bindingResult,
-			Stack<String> segments) throws BindException {
+			Map<String, Object> rawMap, Class<?> targetType, BindingState state) throws BindException {
 
-		Object target;
-		Constructor<?> ctor = BeanUtils.getResolvableConstructor(targetType);
+		ConstructorInfo info = this.constructorCache.get(targetType);
+		Constructor<?> ctor = info.constructor;
 
 		// Default constructor with data binding
 
 		if (ctor.getParameterCount() == 0) {
-			target = BeanUtils.instantiateClass(ctor);
+			Object target = BeanUtils.instantiateClass(ctor);
 			DataBinder dataBinder = new DataBinder(target);
-			dataBinder.getBindingResult().setNestedPath(toArgumentPath(segments));
+			dataBinder.getBindingResult().setNestedPath(state.getPath());
 			dataBinder.setConversionService(getConversionService());
 			dataBinder.bind(initBindValues(rawMap));
 
 			if (dataBinder.getBindingResult().hasErrors()) {
-				addErrors(dataBinder, bindingResult, segments);
-				throw new BindException(bindingResult);
+				addErrors(dataBinder, state);
+				throw new BindException(state.getBindingResult());
 			}
 
 			return target;
@@ -237,37 +242,34 @@ public class GraphQlArgumentBinder {
 
 		// Data class constructor
 
-		if (!segments.isEmpty()) {
-			segments.push(".");
+		boolean nested = !state.isEmpty();
+		if (nested) {
+			state.push(".");
 		}
 
-		String[] paramNames = BeanUtils.getParameterNames(ctor);
-		Class<?>[] paramTypes = ctor.getParameterTypes();
-		Object[] args = new Object[paramTypes.length];
-
-		for (int i = 0; i < paramNames.length; i++) {
-			String paramName = paramNames[i];
+		Object[] args = new Object[info.parameterNames.length];
+		for (int i = 0; i < args.length; i++) {
+			String paramName = info.parameterNames[i];
+			Class<?> paramType = info.parameterTypes[i];
 			Object rawValue = rawMap.get(paramName);
-			segments.push(paramName);
-			MethodParameter methodParam = new MethodParameter(ctor, i);
-			if (rawValue == null && methodParam.isOptional()) {
-				args[i] = (paramTypes[i] == Optional.class ? Optional.empty() : null);
+			state.push(paramName);
+			if (rawValue == null && info.optionalParameters[i]) {
+				args[i] = (paramType == Optional.class ? Optional.empty() : null);
 			}
 			else if (rawValue != null && CollectionFactory.isApproximableCollectionType(rawValue.getClass())) {
-				ResolvableType elementType = ResolvableType.forMethodParameter(methodParam);
-				args[i] = createCollection((Collection<Object>) rawValue, elementType, bindingResult, segments);
+				args[i] = createCollection((Collection<Object>) rawValue, info.resolvableTypes[i], state);
 			}
 			else if (rawValue instanceof Map) {
-				args[i] = createValueOrNull((Map<String, Object>) rawValue, paramTypes[i], bindingResult, segments);
+				args[i] = createValueOrNull((Map<String, Object>) rawValue, paramType, state);
 			}
 			else {
-				args[i] = convertValue(rawValue, paramTypes[i], new TypeDescriptor(methodParam), bindingResult, segments);
+				args[i] = convertValue(rawValue, paramType, info.typeDescriptors[i], state);
 			}
-			segments.pop();
+			state.pop();
 		}
 
-		if (segments.size() > 1) {
-			segments.pop();
+		if (nested) {
+			state.pop();
 		}
 
 		try {
@@ -275,91 +277,194 @@ public class GraphQlArgumentBinder {
 		}
 		catch (BeanInstantiationException ex) {
 			// Swallow if we had binding errors, it's as far as we could go
-			checkBindingResult(bindingResult);
+			checkBindingResult(state);
 			throw ex;
 		}
 	}
 
 	private MutablePropertyValues initBindValues(Map<String, Object> rawMap) {
 		MutablePropertyValues mpvs = new MutablePropertyValues();
-		Stack<String> segments = new Stack<>();
-		for (String key : rawMap.keySet()) {
-			addBindValues(mpvs, key, rawMap.get(key), segments);
+		for (Map.Entry<String, Object> entry : rawMap.entrySet()) {
+			addBindValues(mpvs, entry.getKey(), entry.getValue());
 		}
 		return mpvs;
 	}
 
 	@SuppressWarnings("unchecked")
-	private void addBindValues(MutablePropertyValues mpvs, String name, Object value, Stack<String> segments) {
+	private void addBindValues(MutablePropertyValues mpvs, String path, Object value) {
 		if (value instanceof List) {
 			List<Object> items = (List<Object>) value;
 			if (items.isEmpty()) {
-				segments.push(name);
-				mpvs.add(toArgumentPath(segments), value);
-				segments.pop();
+				mpvs.add(path, value);
 			}
 			else {
 				for (int i = 0; i < items.size(); i++) {
-					addBindValues(mpvs, name + "[" + i + "]", items.get(i), segments);
+					addBindValues(mpvs, path + "[" + i + "]", items.get(i));
 				}
 			}
 		}
 		else if (value instanceof Map) {
-			segments.push(name + ".");
 			Map<String, Object> map = (Map<String, Object>) value;
-			for (String key : map.keySet()) {
-				addBindValues(mpvs, key, map.get(key), segments);
+			for (Map.Entry<String, Object> entry : map.entrySet()) {
+				addBindValues(mpvs, path + "." + entry.getKey(), entry.getValue());
 			}
-			segments.pop();
 		}
 		else {
-			segments.push(name);
-			mpvs.add(toArgumentPath(segments), value);
-			segments.pop();
+			mpvs.add(path, value);
 		}
 	}
 
-	private String toArgumentPath(Stack<String> path) {
-		StringBuilder sb = new StringBuilder();
-		path.forEach(sb::append);
-		return sb.toString();
-	}
-
-	@SuppressWarnings("unchecked")
 	@Nullable
-	private <T> T convertValue(@Nullable Object rawValue, Class<T> type, BindingResult result, Stack<String> segments) {
-		return (T) convertValue(rawValue, type, TypeDescriptor.valueOf(type), result, segments);
+	private Object convertValue(@Nullable Object rawValue, Class<?> type, BindingState state) {
+		return convertValue(rawValue, type, TypeDescriptor.valueOf(type), state);
 	}
 
 	@Nullable
 	private Object convertValue(
-			@Nullable Object rawValue, Class<?> type, TypeDescriptor descriptor,
-			BindingResult bindingResult, Stack<String> segments) {
+			@Nullable Object rawValue, Class<?> type, TypeDescriptor descriptor, BindingState state) {
 
 		try {
 			return getTypeConverter().convertIfNecessary(rawValue, type, descriptor);
 		}
 		catch (TypeMismatchException ex) {
-			String name = toArgumentPath(segments);
+			String name = state.getPath();
 			ex.initPropertyName(name);
+			BindingResult bindingResult = state.getBindingResult();
 			bindingResult.recordFieldValue(name, type, rawValue);
 			this.bindingErrorProcessor.processPropertyAccessException(ex, bindingResult);
 		}
 		return null;
 	}
 
-	private void addErrors(DataBinder binder, BindingResult bindingResult, Stack<String> segments) {
-		String path = (!segments.isEmpty() ? toArgumentPath(segments) + "." : "");
+	private void addErrors(DataBinder binder, BindingState state) {
+		String path = (!state.isEmpty() ? state.getPath() + "." : "");
+		BindingResult bindingResult = state.getBindingResult();
 		binder.getBindingResult().getFieldErrors().forEach(error -> bindingResult.addError(
 				new FieldError(bindingResult.getObjectName(), path + error.getField(),
 						error.getRejectedValue(), error.isBindingFailure(), error.getCodes(),
 						error.getArguments(), error.getDefaultMessage())));
 	}
 
-	private void checkBindingResult(BindingResult bindingResult) throws BindException {
-		if (bindingResult.hasErrors()) {
-			throw new BindException(bindingResult);
+	private void checkBindingResult(BindingState state) throws BindException {
+		if (state.hasErrors()) {
+			throw new BindException(state.getBindingResult());
+		}
+	}
+
+
+	/**
+	 * Constructor to bind to for a given target type, along with the names,
+	 * types, and other metadata for its parameters.
+	 */
+	private static final class ConstructorInfo {
+
+		private static final String[] EMPTY_NAMES = new String[0];
+
+		private final Constructor<?> constructor;
+
+		private final String[] parameterNames;
+
+		private final Class<?>[] parameterTypes;
+
+		private final ResolvableType[] resolvableTypes;
+
+		private final TypeDescriptor[] typeDescriptors;
+
+		private final boolean[] optionalParameters;
+
+		ConstructorInfo(Class<?> targetType) {
+			this.constructor = BeanUtils.getResolvableConstructor(targetType);
+			int count = this.constructor.getParameterCount();
+			this.parameterNames = (count != 0 ? BeanUtils.getParameterNames(this.constructor) : EMPTY_NAMES);
+			this.parameterTypes = this.constructor.getParameterTypes();
+			this.resolvableTypes = new ResolvableType[count];
+			this.typeDescriptors = new TypeDescriptor[count];
+			this.optionalParameters = new boolean[count];
+			for (int i = 0; i < count; i++) {
+				MethodParameter parameter = new MethodParameter(this.constructor, i);
+				this.resolvableTypes[i] = ResolvableType.forMethodParameter(parameter);
+				this.typeDescriptors[i] = new TypeDescriptor(parameter);
+				this.optionalParameters[i] = parameter.isOptional();
+			}
 		}
+
+	}
+
+
+	/**
+	 * Keeps track of the current argument path, and creates the
+	 * {@link BindingResult} when it is first needed. The path is kept as
+	 * segments, and a String for it is only created to report an error.
+	 */
+	private static final class BindingState {
+
+		private final String objectName;
+
+		@Nullable
+		private BindingResult bindingResult;
+
+		private String[] names = new String[8];
+
+		// -1 for name segments, or the index of a collection element
+		private int[] indexes = new int[8];
+
+		private int size;
+
+		BindingState(String objectName) {
+			this.objectName = objectName;
+		}
+
+		BindingResult getBindingResult() {
+			if (this.bindingResult == null) {
+				this.bindingResult = new DataBinder(null, this.objectName).getBindingResult();
+			}
+			return this.bindingResult;
+		}
+
+		boolean hasErrors() {
+			return (this.bindingResult != null && this.bindingResult.hasErrors());
+		}
+
+		void push(@Nullable String name) {
+			ensureCapacity();
+			this.names[this.size] = name;
+			this.indexes[this.size++] = -1;
+		}
+
+		void pushIndex(int index) {
+			ensureCapacity();
+			this.names[this.size] = null;
+			this.indexes[this.size++] = index;
+		}
+
+		void pop() {
+			this.names[--this.size] = null;
+		}
+
+		boolean isEmpty() {
+			return (this.size == 0);
+		}
+
+		private void ensureCapacity() {
+			if (this.size == this.names.length) {
+				this.names = Arrays.copyOf(this.names, this.size * 2);
+				this.indexes = Arrays.copyOf(this.indexes, this.size * 2);
+			}
+		}
+
+		String getPath() {
+			StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < this.size; i++) {
+				if (this.indexes[i] != -1) {
+					sb.append('[').append(this.indexes[i]).append(']');
+				}
+				else {
+					sb.append(this.names[i]);
+				}
+			}
+			return sb.toString();
+		}
+
 	}
 
 }
@@ -16,7 +16,11 @@
 package org.springframework.graphql.data.method;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -25,6 +29,7 @@ import org.apache.commons.logging.LogFactory;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.core.BridgeMethodResolver;
+import org.springframework.core.KotlinDetector;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.SynthesizingMethodParameter;
@@ -67,6 +72,9 @@ public class HandlerMethod {
 
 	private final MethodParameter[] parameters;
 
+	@Nullable
+	private final MethodHandle methodHandle;
+
 
 	/**
 	 * Constructor with a handler instance and a method.
@@ -81,6 +89,7 @@ public class HandlerMethod {
 		this.bridgedMethod = BridgeMethodResolver.findBridgedMethod(method);
 		ReflectionUtils.makeAccessible(this.bridgedMethod);
 		this.parameters = initMethodParameters();
+		this.methodHandle = initMethodHandle(this.bridgedMethod);
 	}
 
 	/**
@@ -104,6 +113,7 @@ public class HandlerMethod {
 		this.bridgedMethod = BridgeMethodResolver.findBridgedMethod(method);
 		ReflectionUtils.makeAccessible(this.bridgedMethod);
 		this.parameters = initMethodParameters();
+		this.methodHandle = initMethodHandle(this.bridgedMethod);
 	}
 
 	/**
@@ -125,6 +135,7 @@ public class HandlerMethod {
 		this.method = handlerMethod.method;
 		this.bridgedMethod = handlerMethod.bridgedMethod;
 		this.parameters = handlerMethod.parameters;
+		this.methodHandle = handlerMethod.methodHandle;
 	}
 
 	private MethodParameter[] initMethodParameters() {
@@ -136,6 +147,32 @@ public class HandlerMethod {
 		return result;
 	}
 
+	/**
+	 * Create a {@link MethodHandle} of type {@code (Object, Object[])Object}
+	 * that takes the bean instance and an array of argument values, or return
+	 * {@code null} if the method cannot be invoked through a method handle.
+	 */
+	@Nullable
+	private static MethodHandle initMethodHandle(Method method) {
+		if (KotlinDetector.isSuspendingFunction(method)) {
+			return null;
+		}
+		try {
+			MethodHandle handle = MethodHandles.lookup().unreflect(method);
+			if (Modifier.isStatic(method.getModifiers())) {
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			return handle.asSpreader(Object[].class, method.getParameterCount())
+					.asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+		}
+		catch (IllegalAccessException | IllegalArgumentException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Using reflection to invoke " + method.toGenericString() + ": " + ex.getMessage());
+			}
+			return null;
+		}
+	}
+
 
 	/**
 	 * Return the bean for this handler method.
@@ -168,6 +205,18 @@ public class HandlerMethod {
 		return this.bridgedMethod;
 	}
 
+	/**
+	 * Return a {@link MethodHandle} for the {@link #getBridgedMethod() bridged
+	 * method}, adapted to take the bean and an array of argument values, and
+	 * to return an {@code Object}, or {@code null} if the method must be
+	 * invoked through reflection instead.
+	 * @since 1.1.0
+	 */
+	@Nullable
+	protected MethodHandle getMethodHandle() {
+		return this.methodHandle;
+	}
+
 	/**
 	 * Return the method parameters for this handler method.
 	 */
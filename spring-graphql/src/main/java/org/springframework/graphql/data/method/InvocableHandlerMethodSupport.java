@@ -15,29 +15,37 @@
  */
 package org.springframework.graphql.data.method;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
-import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.Future;
 
 import graphql.GraphQLContext;
 import reactor.core.publisher.Mono;
 
 import org.springframework.core.CoroutinesUtils;
 import org.springframework.core.KotlinDetector;
+import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.graphql.execution.ReactorContextManager;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * Extension of {@link HandlerMethod} that adds support for invoking the
  * underlying handler methods.
  *
+ * <p>Methods are invoked through a {@link MethodHandle} prepared once for the
+ * handler method, falling back on reflection for Kotlin suspending functions,
+ * for methods that cannot be accessed through a method handle, and for
+ * argument values that do not match the parameter types, so that such
+ * mismatches are reported as they are for reflective invocation.
+ *
  * @author Rossen Stoyanchev
  * @since 1.0.0
  */
@@ -48,9 +56,14 @@ public abstract class InvocableHandlerMethodSupport extends HandlerMethod {
 
 	private final boolean hasCallableReturnValue;
 
+	private final Class<?>[] parameterTypes;
+
 	@Nullable
 	private final Executor executor;
 
+	@Nullable
+	private final Executor blockingExecutor;
+
 
 	/**
 	 * Create an instance.
@@ -58,27 +71,96 @@ public abstract class InvocableHandlerMethodSupport extends HandlerMethod {
 	 * @param executor an {@link Executor} to use for {@link Callable} return values
 	 */
 	protected InvocableHandlerMethodSupport(HandlerMethod handlerMethod, @Nullable Executor executor) {
+		this(handlerMethod, executor, null);
+	}
+
+	/**
+	 * Create an instance with an {@link Executor} to invoke the method on,
+	 * for a method that blocks.
+	 * @param handlerMethod the controller method
+	 * @param executor an {@link Executor} to use for {@link Callable} return values
+	 * @param blockingExecutor an {@link Executor} to invoke the method on, or
+	 * {@code null} to invoke it on the calling thread
+	 * @since 1.1.0
+	 */
+	protected InvocableHandlerMethodSupport(
+			HandlerMethod handlerMethod, @Nullable Executor executor, @Nullable Executor blockingExecutor) {
+
 		super(handlerMethod.createWithResolvedBean());
 		this.hasCallableReturnValue = getReturnType().getParameterType().equals(Callable.class);
+		this.parameterTypes = getBridgedMethod().getParameterTypes();
 		this.executor = executor;
+		this.blockingExecutor = blockingExecutor;
 		Assert.isTrue(!this.hasCallableReturnValue || this.executor != null,
 				"Controller method declared with Callable return value, but no Executor configured: " +
 						handlerMethod.getBridgedMethod().toGenericString());
+		Assert.isTrue(this.blockingExecutor == null || !hasAsyncReturnValue(),
+				"Controller method declared with async return value cannot be invoked on a blocking Executor: " +
+						handlerMethod.getBridgedMethod().toGenericString());
+	}
+
+	private boolean hasAsyncReturnValue() {
+		Class<?> returnType = getReturnType().getParameterType();
+		return (ReactiveAdapterRegistry.getSharedInstance().getAdapter(returnType) != null ||
+				Future.class.isAssignableFrom(returnType) || Callable.class.isAssignableFrom(returnType) ||
+				KotlinDetector.isSuspendingFunction(getMethod()));
 	}
 
 
 	/**
 	 * Invoke the handler method with the given argument values.
+	 * <p>If the method was created with an {@link Executor} for blocking
+	 * methods, it is invoked on that {@code Executor}, with ThreadLocal values
+	 * restored, and the result is a {@link CompletableFuture}. Methods with an
+	 * async return value are rejected for such an {@code Executor} on creation.
 	 * @param argValues the values to use to invoke the method
 	 * @return the value returned from the method or a {@code Mono<Throwable>}
 	 * if the invocation fails.
 	 */
-	@SuppressWarnings("ReactiveStreamsUnusedPublisher")
 	@Nullable
 	protected Object doInvoke(GraphQLContext graphQLContext, Object... argValues) {
 		if (logger.isTraceEnabled()) {
 			logger.trace("Arguments: " + Arrays.toString(argValues));
 		}
+		if (this.blockingExecutor != null) {
+			return invokeOnExecutor(this.blockingExecutor, graphQLContext, argValues);
+		}
+		return invokeOnCurrentThread(graphQLContext, argValues);
+	}
+
+	private Object invokeOnExecutor(Executor executor, GraphQLContext graphQLContext, Object[] argValues) {
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		try {
+			executor.execute(() -> {
+				try {
+					Object result = ReactorContextManager.invokeCallable(
+							() -> invokeOnCurrentThread(graphQLContext, argValues), graphQLContext);
+					if (result instanceof Mono) {
+						((Mono<?>) result).subscribe(future::complete, future::completeExceptionally,
+								() -> future.complete(null));
+					}
+					else {
+						future.complete(result);
+					}
+				}
+				catch (Throwable ex) {
+					future.completeExceptionally(ex);
+				}
+			});
+		}
+		catch (Throwable ex) {
+			return Mono.error(ex);
+		}
+		return future;
+	}
+
+	@SuppressWarnings("ReactiveStreamsUnusedPublisher")
+	@Nullable
+	private Object invokeOnCurrentThread(GraphQLContext graphQLContext, Object[] argValues) {
+		MethodHandle methodHandle = getMethodHandle();
+		if (methodHandle != null && isInvocableWith(argValues)) {
+			return invokeMethodHandle(methodHandle, graphQLContext, argValues);
+		}
 		Method method = getBridgedMethod();
 		try {
 			if (KotlinDetector.isSuspendingFunction(method)) {
@@ -108,6 +190,47 @@ public abstract class InvocableHandlerMethodSupport extends HandlerMethod {
 		}
 	}
 
+	/**
+	 * Whether the bean and argument values can be passed to the method handle
+	 * without a {@link ClassCastException} or {@link NullPointerException}
+	 * from adapting them to the method type. If not, the method is invoked
+	 * through reflection, which reports the mismatch.
+	 */
+	private boolean isInvocableWith(Object[] argValues) {
+		if (argValues.length != this.parameterTypes.length) {
+			return false;
+		}
+		Method method = getBridgedMethod();
+		if (!Modifier.isStatic(method.getModifiers()) && !method.getDeclaringClass().isInstance(getBean())) {
+			return false;
+		}
+		for (int i = 0; i < argValues.length; i++) {
+			Object value = argValues[i];
+			Class<?> type = this.parameterTypes[i];
+			if (value != null ? !ClassUtils.isAssignableValue(type, value) : type.isPrimitive()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Nullable
+	private Object invokeMethodHandle(MethodHandle methodHandle, GraphQLContext graphQLContext, Object[] argValues) {
+		Object result;
+		try {
+			result = methodHandle.invokeExact(getBean(), argValues);
+		}
+		catch (Throwable ex) {
+			// Arguments are checked, so this is from the method itself
+			// Not wrapped, as with InvocationTargetException, but also check the type
+			if (ex instanceof Error || ex instanceof Exception) {
+				return Mono.error(ex);
+			}
+			return Mono.error(new IllegalStateException(formatInvokeError("Invocation failure", argValues), ex));
+		}
+		return handleReturnValue(graphQLContext, result);
+	}
+
 	@Nullable
 	private Object handleReturnValue(GraphQLContext graphQLContext, @Nullable Object result) {
 		if (this.hasCallableReturnValue && result != null) {
@@ -126,22 +249,69 @@ public abstract class InvocableHandlerMethodSupport extends HandlerMethod {
 		return result;
 	}
 
+	/**
+	 * Whether any of the given argument values is a {@link Mono} that needs
+	 * to be resolved through {@link #toArgsMono(Object[])} first.
+	 * @param args the argument values to check
+	 * @since 1.1.0
+	 */
+	protected static boolean hasAsyncArgs(Object[] args) {
+		for (Object arg : args) {
+			if (arg instanceof Mono) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Use this method to resolve the arguments asynchronously. This is only
-	 * useful when at least one of the values is a {@link Mono}
+	 * useful when at least one of the values is a {@link Mono}.
+	 * <p>{@code Mono} values are replaced in the given array with the value
+	 * they produce, or with {@code null} if they complete empty.
 	 */
 	@SuppressWarnings("unchecked")
 	protected Mono<Object[]> toArgsMono(Object[] args) {
+		int asyncCount = 0;
+		int lastAsyncIndex = -1;
+		for (int i = 0; i < args.length; i++) {
+			if (args[i] instanceof Mono) {
+				asyncCount++;
+				lastAsyncIndex = i;
+			}
+		}
 
-		List<Mono<Object>> monoList = Arrays.stream(args)
-				.map(arg -> {
-					Mono<Object> argMono = (arg instanceof Mono ? (Mono<Object>) arg : Mono.justOrEmpty(arg));
-					return argMono.defaultIfEmpty(NO_VALUE);
-				})
-				.collect(Collectors.toList());
+		if (asyncCount == 0) {
+			return Mono.just(args);
+		}
+
+		if (asyncCount == 1) {
+			int index = lastAsyncIndex;
+			Mono<Object> argMono = (Mono<Object>) args[index];
+			args[index] = null;
+			return argMono
+					.map(value -> {
+						args[index] = value;
+						return args;
+					})
+					.defaultIfEmpty(args);
+		}
 
-		return Mono.zip(monoList,
-				values -> Stream.of(values).map(value -> value != NO_VALUE ? value : null).toArray());
+		Mono<?>[] argMonos = new Mono<?>[asyncCount];
+		int[] indexes = new int[asyncCount];
+		for (int i = 0, j = 0; i < args.length; i++) {
+			if (args[i] instanceof Mono) {
+				argMonos[j] = ((Mono<Object>) args[i]).defaultIfEmpty(NO_VALUE);
+				indexes[j++] = i;
+			}
+		}
+
+		return Mono.zip(values -> {
+			for (int j = 0; j < values.length; j++) {
+				args[indexes[j]] = (values[j] != NO_VALUE ? values[j] : null);
+			}
+			return args;
+		}, argMonos);
 	}
 
 }
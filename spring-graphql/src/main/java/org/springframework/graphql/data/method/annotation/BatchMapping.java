@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -95,4 +95,23 @@ public @interface BatchMapping {
 	 */
 	String typeName() default "";
 
+	/**
+	 * Set the maximum number of keys to pass to the method at a time. Larger
+	 * batches are split into chunks, and the method is invoked for each one.
+	 * <p>By default, this is -1, in which case batches are not split.
+	 * @since 1.1.0
+	 * @see org.springframework.graphql.execution.BatchLoaderRegistry.RegistrationSpec#withMaxBatchSize(int)
+	 */
+	int maxBatchSize() default -1;
+
+	/**
+	 * When batches are split due to {@link #maxBatchSize()}, set how many
+	 * chunks to load concurrently.
+	 * <p>By default, this is -1, in which case all chunks are loaded
+	 * concurrently.
+	 * @since 1.1.0
+	 * @see org.springframework.graphql.execution.BatchLoaderRegistry.RegistrationSpec#withBatchConcurrency(int)
+	 */
+	int batchConcurrency() default -1;
+
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.graphql.data.method.annotation;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * Annotation to mark a controller method, or all methods of a controller, as
+ * blocking, so that it is invoked on the
+ * {@link org.springframework.graphql.data.method.annotation.support.AnnotatedControllerConfigurer#setBlockingMethodExecutor
+ * blockingMethodExecutor}, if one is configured.
+ *
+ * <p>Methods with an async return value such as {@code Mono}, {@code Flux},
+ * {@code CompletableFuture}, or {@code Callable}, and Kotlin suspending
+ * functions, are not blocking, and are always invoked on the calling thread.
+ *
+ * @author agent
+ * @since 1.1.0
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Blocking {
+
+}
@@ -18,15 +18,23 @@ package org.springframework.graphql.data.method.annotation.support;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import jakarta.validation.Validator;
@@ -35,6 +43,7 @@ import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.FieldCoordinates;
 import graphql.schema.GraphQLCodeRegistry;
+import graphql.schema.GraphQLObjectType;
 import graphql.schema.idl.RuntimeWiring;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -50,6 +59,7 @@ import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.core.KotlinDetector;
 import org.springframework.core.MethodIntrospector;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.expression.BeanResolver;
@@ -61,6 +71,7 @@ import org.springframework.graphql.data.method.HandlerMethod;
 import org.springframework.graphql.data.method.HandlerMethodArgumentResolver;
 import org.springframework.graphql.data.method.HandlerMethodArgumentResolverComposite;
 import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.Blocking;
 import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.graphql.execution.BatchLoaderRegistry;
 import org.springframework.graphql.execution.RuntimeWiringConfigurer;
@@ -68,6 +79,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Controller;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -118,6 +130,21 @@ public class AnnotatedControllerConfigurer
 	@Nullable
 	private Executor executor;
 
+	@Nullable
+	private Executor blockingMethodExecutor;
+
+	private Predicate<HandlerMethod> blockingMethodPredicate = AnnotatedControllerConfigurer::isBlockingMethod;
+
+	@Nullable
+	private ControllerMappingIndex controllerMappingIndex;
+
+	/**
+	 * Batch loaders already registered, in case the configurer is applied
+	 * more than once, e.g. when a {@code GraphQlSource} is rebuilt to reload
+	 * the schema.
+	 */
+	private final Set<String> registeredBatchLoaders = ConcurrentHashMap.newKeySet();
+
 	@Nullable
 	private ApplicationContext applicationContext;
 
@@ -149,6 +176,112 @@ public class AnnotatedControllerConfigurer
 		this.executor = executor;
 	}
 
+	/**
+	 * Configure an {@link Executor} to invoke blocking controller methods on,
+	 * so that they do not hold up the thread that executes the request, and
+	 * independent fields can be fetched concurrently.
+	 * <p>A method is considered blocking if it matches the
+	 * {@link #setBlockingMethodPredicate(Predicate) blockingMethodPredicate},
+	 * which by default selects methods, or controllers, annotated with
+	 * {@link Blocking @Blocking}. Methods with an async return value, and
+	 * methods of the schema's subscription type, are always invoked on the
+	 * calling thread.
+	 * <p>Each invocation on the executor costs a thread hand-off, a
+	 * {@code CompletableFuture}, and the restoring of {@code ThreadLocal}
+	 * values, and that can outweigh the benefit for methods that return
+	 * quickly, e.g. a computed field on each item of a long list. This is why
+	 * methods need to be selected explicitly.
+	 * <p>By default, this is not set, and all methods are invoked on the
+	 * calling thread.
+	 * @param executor the executor to use
+	 * @since 1.1.0
+	 * @see #setBlockingMethodsOnVirtualThreads(boolean)
+	 */
+	public void setBlockingMethodExecutor(@Nullable Executor executor) {
+		this.blockingMethodExecutor = executor;
+	}
+
+	/**
+	 * Invoke blocking controller methods on virtual threads, one per
+	 * invocation. This is a shortcut for
+	 * {@link #setBlockingMethodExecutor(Executor)} with
+	 * {@code Executors.newVirtualThreadPerTaskExecutor()}, and requires
+	 * Java 21 or higher.
+	 * @param virtualThreads whether to use virtual threads
+	 * @since 1.1.0
+	 */
+	public void setBlockingMethodsOnVirtualThreads(boolean virtualThreads) {
+		this.blockingMethodExecutor = (virtualThreads ? createVirtualThreadExecutor() : null);
+	}
+
+	private static Executor createVirtualThreadExecutor() {
+		Method factoryMethod = ReflectionUtils.findMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
+		Assert.state(factoryMethod != null, "Virtual threads require Java 21 or higher");
+		Executor executor = (Executor) ReflectionUtils.invokeMethod(factoryMethod, null);
+		Assert.state(executor != null, "No virtual thread Executor");
+		return executor;
+	}
+
+	/**
+	 * Configure a predicate to decide which controller methods are invoked on
+	 * the {@link #setBlockingMethodExecutor(Executor) blockingMethodExecutor}.
+	 * <p>By default, methods annotated with {@link Blocking @Blocking}, or
+	 * declared in a controller annotated with it, are considered blocking.
+	 * Use this to select methods by other means, for example by package:
+	 * <pre class="code">
+	 * configurer.setBlockingMethodPredicate(handlerMethod -&gt;
+	 *         handlerMethod.getBeanType().getPackageName().startsWith("com.example.jdbc"));
+	 * </pre>
+	 * <p>Methods with an async return value such as {@code Mono}, {@code Flux},
+	 * {@code CompletableFuture}, or {@code Callable}, and Kotlin suspending
+	 * functions, are not tested against the predicate, and are always invoked
+	 * on the calling thread.
+	 * @param predicate the predicate to use
+	 * @since 1.1.0
+	 */
+	public void setBlockingMethodPredicate(Predicate<HandlerMethod> predicate) {
+		Assert.notNull(predicate, "Predicate is required");
+		this.blockingMethodPredicate = predicate;
+	}
+
+	private static boolean isBlockingMethod(HandlerMethod handlerMethod) {
+		return (handlerMethod.hasMethodAnnotation(Blocking.class) ||
+				AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), Blocking.class));
+	}
+
+	private static boolean hasAsyncReturnValue(HandlerMethod handlerMethod) {
+		Class<?> returnType = handlerMethod.getReturnType().getParameterType();
+		return (ReactiveAdapterRegistry.getSharedInstance().getAdapter(returnType) != null ||
+				CompletionStage.class.isAssignableFrom(returnType) ||
+				Future.class.isAssignableFrom(returnType) ||
+				Callable.class.isAssignableFrom(returnType) ||
+				KotlinDetector.isSuspendingFunction(handlerMethod.getMethod()));
+	}
+
+	@Nullable
+	private Executor getBlockingExecutor(MappingInfo info) {
+		HandlerMethod handlerMethod = info.getHandlerMethod();
+		if (this.blockingMethodExecutor == null || hasAsyncReturnValue(handlerMethod)) {
+			return null;
+		}
+		return (this.blockingMethodPredicate.test(handlerMethod) ? this.blockingMethodExecutor : null);
+	}
+
+	/**
+	 * Configure a {@link ControllerMappingIndex} to use to find the handler
+	 * methods of indexed controllers without introspecting all their methods.
+	 * When an index is used, only beans of the indexed controller types are
+	 * considered.
+	 * <p>By default, the index is loaded from
+	 * {@link ControllerMappingIndex#INDEX_LOCATION} in the classpath, if present.
+	 * @param index the index to use
+	 * @since 1.1.0
+	 * @see #createControllerMappingIndex()
+	 */
+	public void setControllerMappingIndex(@Nullable ControllerMappingIndex index) {
+		this.controllerMappingIndex = index;
+	}
+
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) {
 		this.applicationContext = applicationContext;
@@ -163,6 +296,10 @@ public class AnnotatedControllerConfigurer
 		if (beanValidationPresent) {
 			this.validator = HandlerMethodInputValidatorFactory.create(obtainApplicationContext());
 		}
+
+		if (this.controllerMappingIndex == null) {
+			this.controllerMappingIndex = ControllerMappingIndex.load(obtainApplicationContext().getClassLoader());
+		}
 	}
 
 	private HandlerMethodArgumentResolverComposite initArgumentResolvers() {
@@ -209,10 +346,11 @@ public class AnnotatedControllerConfigurer
 	public void configure(RuntimeWiring.Builder runtimeWiringBuilder) {
 		Assert.state(this.argumentResolvers != null, "`argumentResolvers` is not initialized");
 
-		findHandlerMethods().forEach((info) -> {
+		findHandlerMethods(this.controllerMappingIndex).forEach((info) -> {
 			DataFetcher<?> dataFetcher;
 			if (!info.isBatchMapping()) {
-				dataFetcher = new SchemaMappingDataFetcher(info, this.argumentResolvers, this.validator, this.executor);
+				dataFetcher = new SchemaMappingDataFetcher(info, this.argumentResolvers, this.validator,
+						this.executor, getBlockingExecutor(info), isSingleton(info));
 			}
 			else {
 				String dataLoaderKey = registerBatchLoader(info);
@@ -223,13 +361,51 @@ public class AnnotatedControllerConfigurer
 		});
 	}
 
+	/**
+	 * Whether the controller bean for the given mapping can be resolved once,
+	 * and the resulting invocable handler method reused across invocations.
+	 */
+	private boolean isSingleton(MappingInfo info) {
+		Object bean = info.getHandlerMethod().getBean();
+		return (!(bean instanceof String) || obtainApplicationContext().isSingleton((String) bean));
+	}
+
+	/**
+	 * Detect handler methods in all controllers, without the use of an index,
+	 * and create a {@link ControllerMappingIndex} from them. This can be used
+	 * at build time to generate the index, and write it to
+	 * {@link ControllerMappingIndex#INDEX_LOCATION} in the build output.
+	 * <p>The configurer must be initialized, but not necessarily
+	 * {@link #configure(RuntimeWiring.Builder) applied}.
+	 * @return the created index
+	 * @since 1.1.0
+	 */
+	public ControllerMappingIndex createControllerMappingIndex() {
+		Assert.state(this.argumentResolvers != null, "`argumentResolvers` is not initialized");
+		Map<String, Map<String, FieldCoordinates>> mappings = new LinkedHashMap<>();
+		Map<String, String> checksums = new LinkedHashMap<>();
+		for (MappingInfo info : findHandlerMethods(null)) {
+			HandlerMethod handlerMethod = info.getHandlerMethod();
+			Class<?> userClass = ClassUtils.getUserClass(handlerMethod.getBeanType());
+			mappings.computeIfAbsent(userClass.getName(), name -> new LinkedHashMap<>())
+					.put(ControllerMappingIndex.getSignature(handlerMethod.getMethod()), info.getCoordinates());
+			if (!checksums.containsKey(userClass.getName())) {
+				String checksum = ControllerMappingIndex.computeChecksum(userClass);
+				if (checksum != null) {
+					checksums.put(userClass.getName(), checksum);
+				}
+			}
+		}
+		return new ControllerMappingIndex(mappings, checksums);
+	}
+
 	/**
 	 * Scan beans in the ApplicationContext, detect and prepare a map of handler methods.
 	 */
-	private Collection<MappingInfo> findHandlerMethods() {
+	private Collection<MappingInfo> findHandlerMethods(@Nullable ControllerMappingIndex index) {
 		ApplicationContext context = obtainApplicationContext();
 		Map<FieldCoordinates, MappingInfo> result = new HashMap<>();
-		for (String beanName : context.getBeanNamesForType(Object.class)) {
+		for (String beanName : getCandidateBeanNames(index)) {
 			if (beanName.startsWith(SCOPED_TARGET_NAME_PREFIX)) {
 				continue;
 			}
@@ -246,8 +422,11 @@ public class AnnotatedControllerConfigurer
 			if (beanType == null || !AnnotatedElementUtils.hasAnnotation(beanType, Controller.class)) {
 				continue;
 			}
-			Class<?> beanClass = context.getType(beanName);
-			findHandlerMethods(beanName, beanClass).forEach((info) -> {
+			Collection<MappingInfo> infos = (index != null ? findIndexedHandlerMethods(index, beanName, beanType) : null);
+			if (infos == null) {
+				infos = findHandlerMethods(beanName, beanType);
+			}
+			infos.forEach((info) -> {
 				HandlerMethod handlerMethod = info.getHandlerMethod();
 				MappingInfo existing = result.put(info.getCoordinates(), info);
 				if (existing != null && !existing.getHandlerMethod().equals(handlerMethod)) {
@@ -261,6 +440,79 @@ public class AnnotatedControllerConfigurer
 		return result.values();
 	}
 
+	/**
+	 * Return the names of all beans, or with an index, only the names of
+	 * beans of the indexed controller types.
+	 */
+	private Collection<String> getCandidateBeanNames(@Nullable ControllerMappingIndex index) {
+		ApplicationContext context = obtainApplicationContext();
+		if (index == null) {
+			return Arrays.asList(context.getBeanNamesForType(Object.class));
+		}
+		Set<String> beanNames = new LinkedHashSet<>();
+		for (String typeName : index.getControllerTypeNames()) {
+			Class<?> type;
+			try {
+				type = ClassUtils.forName(typeName, context.getClassLoader());
+			}
+			catch (ClassNotFoundException | LinkageError ex) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Controller mapping index has " + typeName + ", but it could not be loaded", ex);
+				}
+				continue;
+			}
+			beanNames.addAll(Arrays.asList(context.getBeanNamesForType(type)));
+		}
+		return beanNames;
+	}
+
+	/**
+	 * Find the handler methods of an indexed controller. The class files of
+	 * the controller must match the checksum recorded in the index, and each
+	 * indexed method must be mapped to the indexed coordinates.
+	 * @return the handler methods, or {@code null} if the controller is not
+	 * indexed, or the index no longer matches the controller
+	 */
+	@Nullable
+	private Collection<MappingInfo> findIndexedHandlerMethods(
+			ControllerMappingIndex index, String beanName, Class<?> handlerClass) {
+
+		Class<?> userClass = ClassUtils.getUserClass(handlerClass);
+		Map<String, FieldCoordinates> mappings = index.getMappings(userClass.getName());
+		if (mappings == null) {
+			return null;
+		}
+
+		String checksum = index.getChecksum(userClass.getName());
+		if (checksum == null || !checksum.equals(ControllerMappingIndex.computeChecksum(userClass))) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Controller mapping index checksum does not match " + userClass.getName() +
+						", detecting handler methods instead");
+			}
+			return null;
+		}
+
+		List<MappingInfo> mappingInfos = new ArrayList<>(mappings.size());
+		for (Map.Entry<String, FieldCoordinates> entry : mappings.entrySet()) {
+			Method method = ControllerMappingIndex.resolveMethod(userClass, entry.getKey());
+			MappingInfo info = (method != null ? getMappingInfo(method, beanName, userClass) : null);
+			if (info == null || !info.getCoordinates().equals(entry.getValue())) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Controller mapping index does not match " + userClass.getName() +
+							"#" + entry.getKey() + ", detecting handler methods instead");
+				}
+				return null;
+			}
+			mappingInfos.add(info);
+		}
+
+		if (logger.isTraceEnabled() && !mappingInfos.isEmpty()) {
+			logger.trace(formatMappings(userClass, mappingInfos));
+		}
+
+		return mappingInfos;
+	}
+
 	private Collection<MappingInfo> findHandlerMethods(Object handler, @Nullable Class<?> handlerClass) {
 		if (handlerClass == null) {
 			return Collections.emptyList();
@@ -373,26 +625,38 @@ public class AnnotatedControllerConfigurer
 		}
 
 		String dataLoaderKey = info.getCoordinates().toString();
+		if (this.registeredBatchLoaders.contains(dataLoaderKey)) {
+			return dataLoaderKey;
+		}
+
 		BatchLoaderRegistry registry = obtainApplicationContext().getBean(BatchLoaderRegistry.class);
 
 		HandlerMethod handlerMethod = info.getHandlerMethod();
-		BatchLoaderHandlerMethod invocable = new BatchLoaderHandlerMethod(handlerMethod, this.executor);
+		BatchLoaderHandlerMethod invocable =
+				new BatchLoaderHandlerMethod(handlerMethod, this.executor, getBlockingExecutor(info));
 
 		MethodParameter returnType = handlerMethod.getReturnType();
 		Class<?> clazz = returnType.getParameterType();
 		Class<?> nestedClass = (clazz.equals(Callable.class) ? returnType.nested().getNestedParameterType() : clazz);
 
+		BatchLoaderRegistry.RegistrationSpec<Object, Object> spec = registry.forName(dataLoaderKey);
+		BatchMapping mapping = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), BatchMapping.class);
+		if (mapping != null) {
+			spec.withMaxBatchSize(mapping.maxBatchSize()).withBatchConcurrency(mapping.batchConcurrency());
+		}
+
 		if (clazz.equals(Flux.class) || Collection.class.isAssignableFrom(nestedClass)) {
-			registry.forName(dataLoaderKey).registerBatchLoader(invocable::invokeForIterable);
+			spec.registerBatchLoader(invocable::invokeForIterable);
 		}
 		else if (clazz.equals(Mono.class) || nestedClass.equals(Map.class)) {
-			registry.forName(dataLoaderKey).registerMappedBatchLoader(invocable::invokeForMap);
+			spec.registerMappedBatchLoader(invocable::invokeForMap);
 		}
 		else {
 			throw new IllegalStateException("@BatchMapping method is expected to return " +
 					"Flux<V>, List<V>, Mono<Map<K, V>>, or Map<K, V>: " + handlerMethod);
 		}
 
+		this.registeredBatchLoaders.add(dataLoaderKey);
 		return dataLoaderKey;
 	}
 
@@ -465,18 +729,28 @@ public class AnnotatedControllerConfigurer
 		@Nullable
 		private final Executor executor;
 
+		@Nullable
+		private final Executor blockingExecutor;
+
 		private final boolean subscription;
 
+		private final boolean singleton;
+
+		@Nullable
+		private volatile DataFetcherHandlerMethod invocableHandlerMethod;
+
 		public SchemaMappingDataFetcher(
 				MappingInfo info, HandlerMethodArgumentResolverComposite resolvers,
 				@Nullable HandlerMethodInputValidator validator,
-				@Nullable Executor executor) {
+				@Nullable Executor executor, @Nullable Executor blockingExecutor, boolean singleton) {
 
 			this.info = info;
 			this.argumentResolvers = resolvers;
 			this.validator = validator;
 			this.executor = executor;
+			this.blockingExecutor = blockingExecutor;
 			this.subscription = this.info.getCoordinates().getTypeName().equalsIgnoreCase("Subscription");
+			this.singleton = singleton;
 		}
 
 		/**
@@ -490,11 +764,31 @@ public class AnnotatedControllerConfigurer
 		@Override
 		@SuppressWarnings("ConstantConditions")
 		public Object get(DataFetchingEnvironment environment) throws Exception {
+			return getInvocableHandlerMethod(environment).invoke(environment);
+		}
 
-			DataFetcherHandlerMethod handlerMethod = new DataFetcherHandlerMethod(
-					getHandlerMethod(), this.argumentResolvers, this.validator, this.executor, this.subscription);
+		/**
+		 * For singleton controllers, the bean is resolved lazily on first use,
+		 * and the invocable handler method is then reused. Otherwise, a new one
+		 * is created for each invocation to resolve the bean every time.
+		 */
+		private DataFetcherHandlerMethod getInvocableHandlerMethod(DataFetchingEnvironment environment) {
+			DataFetcherHandlerMethod handlerMethod = this.invocableHandlerMethod;
+			if (handlerMethod == null) {
+				Executor blockingExecutor = (isSubscriptionField(environment) ? null : this.blockingExecutor);
+				handlerMethod = new DataFetcherHandlerMethod(getHandlerMethod(), this.argumentResolvers,
+						this.validator, this.executor, blockingExecutor, this.subscription);
+				if (this.singleton) {
+					this.invocableHandlerMethod = handlerMethod;
+				}
+			}
+			return handlerMethod;
+		}
 
-			return handlerMethod.invoke(environment);
+		private boolean isSubscriptionField(DataFetchingEnvironment environment) {
+			GraphQLObjectType subscriptionType = environment.getGraphQLSchema().getSubscriptionType();
+			return (subscriptionType != null &&
+					subscriptionType.getName().equals(this.info.getCoordinates().getTypeName()));
 		}
 	}
 
@@ -16,7 +16,6 @@
 package org.springframework.graphql.data.method.annotation.support;
 
 import java.security.Principal;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -53,8 +52,45 @@ public class BatchLoaderHandlerMethod extends InvocableHandlerMethodSupport {
 			AnnotatedControllerConfigurer.class.getClassLoader());
 
 
+	private final boolean mayHaveAsyncArgs;
+
+
 	public BatchLoaderHandlerMethod(HandlerMethod handlerMethod, @Nullable Executor executor) {
-		super(handlerMethod, executor);
+		this(handlerMethod, executor, null);
+	}
+
+	/**
+	 * Variant of {@link #BatchLoaderHandlerMethod(HandlerMethod, Executor)}
+	 * with an {@link Executor} to invoke a blocking method on.
+	 * @param handlerMethod the handler method
+	 * @param executor an {@link Executor} to use for {@link java.util.concurrent.Callable} return values
+	 * @param blockingExecutor an {@link Executor} to invoke the method on, or
+	 * {@code null} to invoke it on the calling thread
+	 * @since 1.1.0
+	 */
+	public BatchLoaderHandlerMethod(
+			HandlerMethod handlerMethod, @Nullable Executor executor, @Nullable Executor blockingExecutor) {
+
+		super(handlerMethod, executor, blockingExecutor);
+		this.mayHaveAsyncArgs = mayHaveAsyncArgs(getMethodParameters());
+	}
+
+	/**
+	 * Whether any parameter may be resolved to a {@code Mono}, in the same
+	 * order of checks as {@link #resolveArgument}.
+	 */
+	private static boolean mayHaveAsyncArgs(MethodParameter[] parameters) {
+		for (MethodParameter parameter : parameters) {
+			Class<?> parameterType = parameter.getParameterType();
+			if (Collection.class.isAssignableFrom(parameterType)) {
+				continue;
+			}
+			if (parameter.hasParameterAnnotation(ContextValue.class) ||
+					(springSecurityPresent && Principal.class.isAssignableFrom(parameterType))) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 
@@ -103,9 +139,10 @@ public class BatchLoaderHandlerMethod extends InvocableHandlerMethodSupport {
 	}
 
 	private <K> Object[] getMethodArgumentValues(Collection<K> keys, BatchLoaderEnvironment environment) {
-		Object[] args = new Object[getMethodParameters().length];
-		for (int i = 0; i < getMethodParameters().length; i++) {
-			args[i] = resolveArgument(getMethodParameters()[i], keys, environment);
+		MethodParameter[] parameters = getMethodParameters();
+		Object[] args = new Object[parameters.length];
+		for (int i = 0; i < parameters.length; i++) {
+			args[i] = resolveArgument(parameters[i], keys, environment);
 		}
 		return args;
 	}
@@ -157,7 +194,7 @@ public class BatchLoaderHandlerMethod extends InvocableHandlerMethodSupport {
 	}
 
 	private boolean doesNotHaveAsyncArgs(Object[] args) {
-		return Arrays.stream(args).noneMatch(arg -> arg instanceof Mono);
+		return (!this.mayHaveAsyncArgs || !hasAsyncArgs(args));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.data.method.annotation.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import graphql.schema.FieldCoordinates;
+
+import org.springframework.context.index.CandidateComponentsIndexLoader;
+import org.springframework.core.SpringProperties;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+
+/**
+ * Index of {@code @SchemaMapping} and {@code @BatchMapping} controller methods
+ * and the schema fields they are mapped to, which
+ * {@link AnnotatedControllerConfigurer} uses instead of introspecting every
+ * method of indexed controllers on startup.
+ *
+ * <p>The index is generated at build time with
+ * {@link AnnotatedControllerConfigurer#createControllerMappingIndex()} and
+ * {@link #write(Writer)}, and stored under {@link #INDEX_LOCATION} in the
+ * application classpath. As with the Spring Framework candidate components
+ * index, when an index is present, only controller beans of the indexed
+ * types are looked up, and other controllers are not detected. Set the
+ * {@code "spring.index.ignore"} property to {@code true} to ignore the index.
+ *
+ * <p>The index records a checksum of the class files of each controller and
+ * its superclasses and interfaces. A controller whose class files no longer
+ * match the checksum, e.g. because a mapping method was added after the index
+ * was generated, is introspected as before.
+ *
+ * @author agent
+ * @since 1.1.0
+ */
+public final class ControllerMappingIndex {
+
+	/**
+	 * The location to look for the index in the classpath.
+	 */
+	public static final String INDEX_LOCATION = "META-INF/spring-graphql-controllers.properties";
+
+
+	/** Controller class name to method signatures and coordinates. */
+	private final Map<String, Map<String, FieldCoordinates>> mappings;
+
+	/** Controller class name to the checksum of its class files. */
+	private final Map<String, String> checksums;
+
+
+	ControllerMappingIndex(Map<String, Map<String, FieldCoordinates>> mappings, Map<String, String> checksums) {
+		this.mappings = mappings;
+		this.checksums = checksums;
+	}
+
+
+	/**
+	 * Return the names of the indexed controller classes.
+	 */
+	public Set<String> getControllerTypeNames() {
+		return Collections.unmodifiableSet(this.mappings.keySet());
+	}
+
+	/**
+	 * Return the method signatures and coordinates for the given controller
+	 * class, or {@code null} if it is not indexed.
+	 */
+	@Nullable
+	Map<String, FieldCoordinates> getMappings(String controllerTypeName) {
+		return this.mappings.get(controllerTypeName);
+	}
+
+	/**
+	 * Return the checksum recorded for the given controller class, or
+	 * {@code null} if there is none.
+	 */
+	@Nullable
+	String getChecksum(String controllerTypeName) {
+		return this.checksums.get(controllerTypeName);
+	}
+
+	/**
+	 * Return the number of indexed methods.
+	 */
+	public int size() {
+		return this.mappings.values().stream().mapToInt(Map::size).sum();
+	}
+
+	/**
+	 * Write the index in the properties format expected by
+	 * {@link #load(ClassLoader)}, with one line per controller checksum and
+	 * per method, sorted, and without a timestamp, so that the output is the
+	 * same for the same controllers.
+	 * @param writer the writer to use
+	 * @throws IOException if writing fails
+	 */
+	public void write(Writer writer) throws IOException {
+		Map<String, String> lines = new TreeMap<>(this.checksums);
+		this.mappings.forEach((typeName, methods) -> methods.forEach((signature, coordinates) ->
+				lines.put(typeName + "#" + signature, coordinates.getTypeName() + "." + coordinates.getFieldName())));
+		for (Map.Entry<String, String> line : lines.entrySet()) {
+			writer.write(line.getKey() + "=" + line.getValue() + "\n");
+		}
+		writer.flush();
+	}
+
+
+	/**
+	 * Load the index from all {@link #INDEX_LOCATION} resources in the
+	 * classpath.
+	 * @param classLoader the class loader to use
+	 * @return the index, or {@code null} if there is none, or it is ignored
+	 */
+	@Nullable
+	public static ControllerMappingIndex load(@Nullable ClassLoader classLoader) {
+		if (SpringProperties.getFlag(CandidateComponentsIndexLoader.IGNORE_INDEX)) {
+			return null;
+		}
+		try {
+			Properties properties = PropertiesLoaderUtils.loadAllProperties(INDEX_LOCATION, classLoader);
+			return (!properties.isEmpty() ? fromProperties(properties) : null);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Unable to load index from location [" + INDEX_LOCATION + "]", ex);
+		}
+	}
+
+	/**
+	 * Create an index from properties in the format written by
+	 * {@link #write(Writer)}.
+	 * @param properties the properties to use
+	 * @return the created index
+	 */
+	public static ControllerMappingIndex fromProperties(Properties properties) {
+		Map<String, Map<String, FieldCoordinates>> mappings = new LinkedHashMap<>();
+		Map<String, String> checksums = new LinkedHashMap<>();
+		for (String key : properties.stringPropertyNames()) {
+			String value = properties.getProperty(key);
+			int methodIndex = key.indexOf('#');
+			if (methodIndex == -1) {
+				checksums.put(key, value.trim());
+				continue;
+			}
+			int fieldIndex = value.indexOf('.');
+			if (fieldIndex == -1) {
+				throw new IllegalArgumentException("Invalid controller mapping index entry: " + key + "=" + value);
+			}
+			FieldCoordinates coordinates = FieldCoordinates.coordinates(
+					value.substring(0, fieldIndex).trim(), value.substring(fieldIndex + 1).trim());
+			mappings.computeIfAbsent(key.substring(0, methodIndex), typeName -> new LinkedHashMap<>())
+					.put(key.substring(methodIndex + 1), coordinates);
+		}
+		return new ControllerMappingIndex(mappings, checksums);
+	}
+
+
+	/**
+	 * Return the signature under which the given method is indexed.
+	 */
+	static String getSignature(Method method) {
+		return method.getName() + Arrays.stream(method.getParameterTypes())
+				.map(Class::getName)
+				.collect(Collectors.joining(",", "(", ")"));
+	}
+
+	/**
+	 * Compute a checksum of the class files of the given class, and of its
+	 * superclasses and interfaces, other than JDK types.
+	 * @return the checksum, or {@code null} if a class file is not available
+	 */
+	@Nullable
+	static String computeChecksum(Class<?> type) {
+		CRC32 crc = new CRC32();
+		Set<Class<?>> types = new LinkedHashSet<>();
+		for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+			types.add(current);
+		}
+		types.addAll(ClassUtils.getAllInterfacesForClassAsSet(type));
+		for (Class<?> current : types) {
+			ClassLoader classLoader = current.getClassLoader();
+			if (classLoader == null || current.getName().startsWith("java.")) {
+				continue;
+			}
+			String resourceName = ClassUtils.convertClassNameToResourcePath(current.getName()) + ClassUtils.CLASS_FILE_SUFFIX;
+			try (InputStream inputStream = classLoader.getResourceAsStream(resourceName)) {
+				if (inputStream == null) {
+					return null;
+				}
+				crc.update(inputStream.readAllBytes());
+			}
+			catch (IOException ex) {
+				return null;
+			}
+		}
+		return Long.toHexString(crc.getValue());
+	}
+
+	/**
+	 * Resolve the method for an indexed signature.
+	 * @return the method, or {@code null} if it no longer exists
+	 */
+	@Nullable
+	static Method resolveMethod(Class<?> type, String signature) {
+		int index = signature.indexOf('(');
+		if (index == -1 || !signature.endsWith(")")) {
+			return null;
+		}
+		String[] typeNames = StringUtils.commaDelimitedListToStringArray(
+				signature.substring(index + 1, signature.length() - 1));
+		Class<?>[] parameterTypes = new Class<?>[typeNames.length];
+		try {
+			for (int i = 0; i < typeNames.length; i++) {
+				parameterTypes[i] = ClassUtils.forName(typeNames[i], type.getClassLoader());
+			}
+		}
+		catch (ClassNotFoundException | LinkageError ex) {
+			return null;
+		}
+		return ReflectionUtils.findMethod(type, signature.substring(0, index), parameterTypes);
+	}
+
+}
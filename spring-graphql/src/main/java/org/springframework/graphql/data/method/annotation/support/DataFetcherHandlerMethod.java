@@ -15,7 +15,8 @@
  */
 package org.springframework.graphql.data.method.annotation.support;
 
-import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
 import graphql.schema.DataFetchingEnvironment;
@@ -47,32 +48,99 @@ public class DataFetcherHandlerMethod extends InvocableHandlerMethodSupport {
 	private static final Object[] EMPTY_ARGS = new Object[0];
 
 
+	private static final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+	/**
+	 * Built-in resolvers that never return a {@link Mono}. Sub-classes are not
+	 * included since they may override that.
+	 */
+	private static final Set<Class<?>> synchronousResolverTypes = Set.of(
+			ArgumentMethodArgumentResolver.class, ArgumentsMethodArgumentResolver.class,
+			ArgumentMapMethodArgumentResolver.class, ProjectedPayloadMethodArgumentResolver.class,
+			DataFetchingEnvironmentMethodArgumentResolver.class, DataLoaderMethodArgumentResolver.class,
+			SourceMethodArgumentResolver.class, ContinuationHandlerMethodArgumentResolver.class);
+
+
 	private final HandlerMethodArgumentResolverComposite resolvers;
 
 	@Nullable
 	private final HandlerMethodInputValidator validator;
-	
-	private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
 
 	private final boolean subscription;
 
+	private final HandlerMethodArgumentResolver[] parameterResolvers;
+
+	private final boolean mayHaveAsyncArgs;
+
 
 	/**
 	 * Constructor with a parent handler method.
 	 * @param handlerMethod the handler method
 	 * @param resolvers the argument resolvers
 	 * @param validator the input validator
+	 * @param executor an {@link Executor} to use for {@link java.util.concurrent.Callable} return values
 	 * @param subscription whether the field being fetched is of subscription type
 	 */
 	public DataFetcherHandlerMethod(HandlerMethod handlerMethod,
 			HandlerMethodArgumentResolverComposite resolvers, @Nullable HandlerMethodInputValidator validator,
 			@Nullable Executor executor, boolean subscription) {
 
-		super(handlerMethod, executor);
+		this(handlerMethod, resolvers, validator, executor, null, subscription);
+	}
+
+	/**
+	 * Variant of
+	 * {@link #DataFetcherHandlerMethod(HandlerMethod, HandlerMethodArgumentResolverComposite, HandlerMethodInputValidator, Executor, boolean)}
+	 * with an {@link Executor} to invoke a blocking method on.
+	 * @param handlerMethod the handler method
+	 * @param resolvers the argument resolvers
+	 * @param validator the input validator
+	 * @param executor an {@link Executor} to use for {@link java.util.concurrent.Callable} return values
+	 * @param blockingExecutor an {@link Executor} to invoke the method on, or
+	 * {@code null} to invoke it on the calling thread
+	 * @param subscription whether the field being fetched is of subscription type
+	 * @since 1.1.0
+	 */
+	public DataFetcherHandlerMethod(HandlerMethod handlerMethod,
+			HandlerMethodArgumentResolverComposite resolvers, @Nullable HandlerMethodInputValidator validator,
+			@Nullable Executor executor, @Nullable Executor blockingExecutor, boolean subscription) {
+
+		super(handlerMethod, executor, blockingExecutor);
 		Assert.isTrue(!resolvers.getResolvers().isEmpty(), "No argument resolvers");
 		this.resolvers = resolvers;
 		this.validator = validator;
 		this.subscription = subscription;
+		this.parameterResolvers = initParameterResolvers(getMethodParameters(), resolvers);
+		this.mayHaveAsyncArgs = mayHaveAsyncArgs(this.parameterResolvers);
+	}
+
+	/**
+	 * Initialize parameter name discovery and look up the resolver for each
+	 * parameter once, rather than for every invocation. A {@code null} entry
+	 * means no resolver supports the parameter, which is reported on invocation.
+	 */
+	private static HandlerMethodArgumentResolver[] initParameterResolvers(
+			MethodParameter[] parameters, HandlerMethodArgumentResolverComposite resolvers) {
+
+		HandlerMethodArgumentResolver[] result = new HandlerMethodArgumentResolver[parameters.length];
+		for (int i = 0; i < parameters.length; i++) {
+			parameters[i].initParameterNameDiscovery(parameterNameDiscoverer);
+			result[i] = resolvers.getArgumentResolver(parameters[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Whether any of the resolvers may return a {@code Mono}, which requires
+	 * checking argument values on every invocation.
+	 */
+	private static boolean mayHaveAsyncArgs(HandlerMethodArgumentResolver[] resolvers) {
+		for (HandlerMethodArgumentResolver resolver : resolvers) {
+			if (resolver != null && !synchronousResolverTypes.contains(resolver.getClass())) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 
@@ -118,7 +186,7 @@ public class DataFetcherHandlerMethod extends InvocableHandlerMethodSupport {
 			return Mono.error(ex);
 		}
 
-		if (Arrays.stream(args).noneMatch(arg -> arg instanceof Mono)) {
+		if (!this.mayHaveAsyncArgs || !hasAsyncArgs(args)) {
 			return validateAndInvoke(args, environment);
 		}
 
@@ -136,6 +204,9 @@ public class DataFetcherHandlerMethod extends InvocableHandlerMethodSupport {
 					else if (result instanceof Flux) {
 						return Flux.from((Flux<?>) result).collectList();
 					}
+					else if (result instanceof CompletableFuture) {
+						return Mono.fromFuture((CompletableFuture<?>) result);
+					}
 					else {
 						return Mono.justOrEmpty(result);
 					}
@@ -143,12 +214,11 @@ public class DataFetcherHandlerMethod extends InvocableHandlerMethodSupport {
 	}
 
 	/**
-	 * Get the method argument values for the current request, checking the provided
-	 * argument values and falling back to the configured argument resolvers.
+	 * Get the method argument values for the current request through the
+	 * argument resolvers bound to each parameter.
 	 * <p>The resulting array will be passed into {@link #doInvoke}.
 	 */
-	private Object[] getMethodArgumentValues(
-			DataFetchingEnvironment environment, Object... providedArgs) throws Exception {
+	private Object[] getMethodArgumentValues(DataFetchingEnvironment environment) throws Exception {
 
 		MethodParameter[] parameters = getMethodParameters();
 		if (ObjectUtils.isEmpty(parameters)) {
@@ -158,16 +228,12 @@ public class DataFetcherHandlerMethod extends InvocableHandlerMethodSupport {
 		Object[] args = new Object[parameters.length];
 		for (int i = 0; i < parameters.length; i++) {
 			MethodParameter parameter = parameters[i];
-			parameter.initParameterNameDiscovery(this.parameterNameDiscoverer);
-			args[i] = findProvidedArgument(parameter, providedArgs);
-			if (args[i] != null) {
-				continue;
-			}
-			if (!this.resolvers.supportsParameter(parameter)) {
+			HandlerMethodArgumentResolver resolver = this.parameterResolvers[i];
+			if (resolver == null) {
 				throw new IllegalStateException(formatArgumentError(parameter, "No suitable resolver"));
 			}
 			try {
-				args[i] = this.resolvers.resolveArgument(parameter, environment);
+				args[i] = resolver.resolveArgument(parameter, environment);
 			}
 			catch (Exception ex) {
 				// Leave stack trace for later, exception may actually be resolved and handled...
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.data.query;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.graphql.execution.ReactorContextManager;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link DataFetcher} that invokes a blocking {@code DataFetcher} on an
+ * {@link Executor}, with ThreadLocal values restored, and returns a
+ * {@link CompletableFuture} for the result. If the {@code Executor} rejects
+ * the fetch, the future is completed with the {@link RejectedExecutionException}.
+ *
+ * @author agent
+ * @since 1.1.0
+ * @param <T> the result type of the blocking {@code DataFetcher}
+ */
+final class AsyncDataFetcher<T> implements DataFetcher<CompletableFuture<T>> {
+
+	private static final Executor DEFAULT_EXECUTOR = task -> Schedulers.boundedElastic().schedule(task);
+
+
+	private final DataFetcher<T> delegate;
+
+	private final Executor executor;
+
+
+	private AsyncDataFetcher(DataFetcher<T> delegate, Executor executor) {
+		this.delegate = delegate;
+		this.executor = executor;
+	}
+
+
+	@Override
+	public CompletableFuture<T> get(DataFetchingEnvironment environment) {
+		FetchTask<T> task = new FetchTask<>(this.delegate, environment);
+		try {
+			this.executor.execute(task);
+		}
+		catch (RejectedExecutionException ex) {
+			task.reject(ex);
+		}
+		return task.getFuture();
+	}
+
+
+	/**
+	 * Create a {@code DataFetcher} that invokes the given {@code DataFetcher}
+	 * on the given {@link Executor}.
+	 */
+	static <T> DataFetcher<CompletableFuture<T>> create(DataFetcher<T> delegate, Executor executor) {
+		return new AsyncDataFetcher<>(delegate, executor);
+	}
+
+
+	/**
+	 * Executor settings of a builder. The {@link Executor} is created on first
+	 * use, and is shared by all builders that have the same settings instance,
+	 * so that builders derived from one another through options other than
+	 * the {@code Executor} and the limit share one concurrency limit.
+	 */
+	static final class ExecutorSettings {
+
+		@Nullable
+		private final Executor executor;
+
+		private final int maxConcurrency;
+
+		@Nullable
+		private volatile Executor asyncExecutor;
+
+		/**
+		 * Create an instance.
+		 * @param executor the executor to use, or {@code null} to use
+		 * {@link Schedulers#boundedElastic()}
+		 * @param maxConcurrency the maximum number of fetches in progress at a
+		 * time, or -1 for no limit
+		 */
+		ExecutorSettings(@Nullable Executor executor, int maxConcurrency) {
+			this.executor = executor;
+			this.maxConcurrency = maxConcurrency;
+		}
+
+		ExecutorSettings withExecutor(Executor executor) {
+			return new ExecutorSettings(executor, this.maxConcurrency);
+		}
+
+		ExecutorSettings withMaxConcurrency(int maxConcurrency) {
+			return new ExecutorSettings(this.executor, maxConcurrency);
+		}
+
+		/**
+		 * Return the {@code Executor} to use, creating it if necessary.
+		 */
+		Executor getExecutor() {
+			Executor asyncExecutor = this.asyncExecutor;
+			if (asyncExecutor == null) {
+				synchronized (this) {
+					asyncExecutor = this.asyncExecutor;
+					if (asyncExecutor == null) {
+						Executor executorToUse = (this.executor != null ? this.executor : DEFAULT_EXECUTOR);
+						asyncExecutor = (this.maxConcurrency > 0 ?
+								new ConcurrencyLimitedExecutor(executorToUse, this.maxConcurrency) : executorToUse);
+						this.asyncExecutor = asyncExecutor;
+					}
+				}
+			}
+			return asyncExecutor;
+		}
+
+	}
+
+
+	/**
+	 * Task to invoke the blocking {@code DataFetcher} and complete the future.
+	 */
+	private static final class FetchTask<T> implements ConcurrencyLimitedExecutor.RejectableTask {
+
+		private final DataFetcher<T> delegate;
+
+		private final DataFetchingEnvironment environment;
+
+		private final CompletableFuture<T> future = new CompletableFuture<>();
+
+		FetchTask(DataFetcher<T> delegate, DataFetchingEnvironment environment) {
+			this.delegate = delegate;
+			this.environment = environment;
+		}
+
+		CompletableFuture<T> getFuture() {
+			return this.future;
+		}
+
+		@Override
+		public void run() {
+			try {
+				this.future.complete(ReactorContextManager.invokeCallable(
+						() -> this.delegate.get(this.environment), this.environment.getGraphQlContext()));
+			}
+			catch (Throwable ex) {
+				this.future.completeExceptionally(ex);
+			}
+		}
+
+		@Override
+		public void reject(RejectedExecutionException ex) {
+			this.future.completeExceptionally(ex);
+		}
+
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.data.query;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link Executor} that passes at most a given number of tasks at a time to
+ * a delegate {@code Executor}, and queues the rest without blocking the
+ * caller. Tasks rejected by the delegate are not run, since the calling
+ * thread may be one that must not block, e.g. an event loop thread. A
+ * {@link RejectableTask} is notified instead, e.g. to complete a future
+ * exceptionally, while other tasks are dropped.
+ *
+ * @author agent
+ * @since 1.1.0
+ */
+final class ConcurrencyLimitedExecutor implements Executor {
+
+	private static final Log logger = LogFactory.getLog(ConcurrencyLimitedExecutor.class);
+
+
+	private final Executor delegate;
+
+	private final int maxConcurrency;
+
+	private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger active = new AtomicInteger();
+
+
+	ConcurrencyLimitedExecutor(Executor delegate, int maxConcurrency) {
+		Assert.isTrue(maxConcurrency > 0, "'maxConcurrency' must be greater than 0");
+		this.delegate = delegate;
+		this.maxConcurrency = maxConcurrency;
+	}
+
+
+	@Override
+	public void execute(Runnable task) {
+		this.queue.add(task);
+		drain();
+	}
+
+	private void drain() {
+		while (!this.queue.isEmpty()) {
+			int count = this.active.get();
+			if (count >= this.maxConcurrency) {
+				// A running task will drain the queue when it completes
+				return;
+			}
+			if (!this.active.compareAndSet(count, count + 1)) {
+				continue;
+			}
+			Runnable task = this.queue.poll();
+			if (task == null) {
+				this.active.decrementAndGet();
+				continue;
+			}
+			try {
+				this.delegate.execute(() -> runAndDrain(task));
+			}
+			catch (RejectedExecutionException ex) {
+				this.active.decrementAndGet();
+				reject(task, ex);
+			}
+		}
+	}
+
+	private static void reject(Runnable task, RejectedExecutionException ex) {
+		if (task instanceof RejectableTask) {
+			((RejectableTask) task).reject(ex);
+		}
+		else if (logger.isWarnEnabled()) {
+			logger.warn("Task rejected by the delegate Executor, and dropped: " + ex.getMessage());
+		}
+	}
+
+	private void runAndDrain(Runnable task) {
+		try {
+			task.run();
+		}
+		finally {
+			this.active.decrementAndGet();
+			drain();
+		}
+	}
+
+
+	/**
+	 * Task to notify if it is rejected by the delegate {@code Executor}.
+	 */
+	interface RejectableTask extends Runnable {
+
+		/**
+		 * Handle the rejection of the task, which will not be run.
+		 * @param ex the exception from the delegate {@code Executor}
+		 */
+		void reject(RejectedExecutionException ex);
+
+	}
+
+}
@@ -18,8 +18,10 @@ package org.springframework.graphql.data.query;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -28,6 +30,9 @@ import graphql.schema.SelectedField;
 
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * Utility to compute {@link PropertyPath property paths} from
@@ -44,6 +49,17 @@ import org.springframework.data.util.TypeInformation;
  */
 class PropertySelection {
 
+	static final int PROPERTY_PATH_CACHE_LIMIT = 1024;
+
+	/**
+	 * Property paths for a domain type and the qualified names of the selected
+	 * fields, for repeated queries with the same selection. The selection is
+	 * chosen by the client, so the cache is bounded.
+	 */
+	private static final ConcurrentLruCache<CacheKey, List<String>> propertyPathCache =
+			new ConcurrentLruCache<>(PROPERTY_PATH_CACHE_LIMIT, CacheKey::createPropertyPaths);
+
+
 	private final List<PropertyPath> propertyPaths;
 
 	private PropertySelection(List<PropertyPath> propertyPaths) {
@@ -63,6 +79,33 @@ class PropertySelection {
 		return create(typeInformation, new DataFetchingFieldSelection(selectionSet));
 	}
 
+	/**
+	 * Return the property paths for the given {@link TypeInformation type} and
+	 * {@link DataFetchingFieldSelectionSet}, as {@link #toList()} on a
+	 * {@link #create created} property selection would. The result is cached
+	 * for the type and the selected fields.
+	 *
+	 * @param typeInformation the type to inspect
+	 * @param selectionSet    the field selection to apply
+	 * @return the property paths
+	 * @since 1.1.0
+	 */
+	public static List<String> getPropertyPaths(TypeInformation<?> typeInformation,
+			DataFetchingFieldSelectionSet selectionSet) {
+		List<SelectedField> fields = selectionSet.getFields();
+		List<String> qualifiedNames = new ArrayList<>(fields.size());
+		for (SelectedField field : fields) {
+			qualifiedNames.add(field.getQualifiedName());
+		}
+		CacheKey key = new CacheKey(typeInformation, qualifiedNames, selectionSet);
+		try {
+			return propertyPathCache.get(key);
+		}
+		finally {
+			key.releaseSelectionSet();
+		}
+	}
+
 	private static PropertySelection create(TypeInformation<?> typeInformation, FieldSelection selection) {
 		List<PropertyPath> propertyPaths = collectPropertyPaths(typeInformation,
 				selection,
@@ -160,17 +203,32 @@ class PropertySelection {
 
 		private final List<SelectedField> selectedFields;
 
-		private final List<SelectedField> allFields;
+		private final Map<SelectedField, List<SelectedField>> nestedFields;
 
 		DataFetchingFieldSelection(DataFetchingFieldSelectionSet selectionSet) {
 			this.selectedFields = selectionSet.getImmediateFields();
-			this.allFields = selectionSet.getFields();
+			this.nestedFields = initNestedFields(selectionSet.getFields());
 		}
 
 		private DataFetchingFieldSelection(List<SelectedField> selectedFields,
-				List<SelectedField> allFields) {
+				Map<SelectedField, List<SelectedField>> nestedFields) {
 			this.selectedFields = selectedFields;
-			this.allFields = allFields;
+			this.nestedFields = nestedFields;
+		}
+
+		/**
+		 * Index all fields by parent field once, rather than scanning all
+		 * fields for the nested fields of each selected field.
+		 */
+		private static Map<SelectedField, List<SelectedField>> initNestedFields(List<SelectedField> allFields) {
+			Map<SelectedField, List<SelectedField>> result = new HashMap<>(allFields.size());
+			for (SelectedField selectedField : allFields) {
+				SelectedField parentField = selectedField.getParentField();
+				if (parentField != null) {
+					result.computeIfAbsent(parentField, field -> new ArrayList<>()).add(selectedField);
+				}
+			}
+			return result;
 		}
 
 		@Override
@@ -180,16 +238,9 @@ class PropertySelection {
 
 		@Override
 		public FieldSelection select(SelectedField field) {
-			List<SelectedField> selectedFields = new ArrayList<>();
-
-			for (SelectedField selectedField : allFields) {
-				if (field.equals(selectedField.getParentField())) {
-					selectedFields.add(selectedField);
-				}
-			}
-
-			return (selectedFields.isEmpty() ? EmptyFieldSelection.INSTANCE
-					: new DataFetchingFieldSelection(selectedFields, allFields));
+			List<SelectedField> selectedFields = this.nestedFields.get(field);
+			return (selectedFields == null ? EmptyFieldSelection.INSTANCE
+					: new DataFetchingFieldSelection(selectedFields, this.nestedFields));
 		}
 
 		@Override
@@ -199,4 +250,55 @@ class PropertySelection {
 
 	}
 
+
+	private static final class CacheKey {
+
+		private final TypeInformation<?> typeInformation;
+
+		private final List<String> qualifiedNames;
+
+		private final int hashCode;
+
+		/** Used to create the paths on a cache miss, not retained after that. */
+		@Nullable
+		private DataFetchingFieldSelectionSet selectionSet;
+
+		CacheKey(TypeInformation<?> typeInformation, List<String> qualifiedNames,
+				DataFetchingFieldSelectionSet selectionSet) {
+
+			this.typeInformation = typeInformation;
+			this.qualifiedNames = qualifiedNames;
+			this.hashCode = 31 * typeInformation.hashCode() + qualifiedNames.hashCode();
+			this.selectionSet = selectionSet;
+		}
+
+		List<String> createPropertyPaths() {
+			Assert.state(this.selectionSet != null, "No selection set");
+			return Collections.unmodifiableList(create(this.typeInformation, this.selectionSet).toList());
+		}
+
+		void releaseSelectionSet() {
+			this.selectionSet = null;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey otherKey = (CacheKey) other;
+			return (this.typeInformation.equals(otherKey.typeInformation) &&
+					this.qualifiedNames.equals(otherKey.qualifiedNames));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+	}
+
 }
@@ -21,6 +21,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import graphql.schema.DataFetcher;
@@ -41,6 +43,7 @@ import org.springframework.data.util.TypeInformation;
 import org.springframework.graphql.data.GraphQlArgumentBinder;
 import org.springframework.graphql.data.GraphQlRepository;
 import org.springframework.graphql.execution.RuntimeWiringConfigurer;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.validation.BindException;
 
@@ -122,7 +125,7 @@ public abstract class QueryByExampleDataFetcher<T> {
 		if (this.domainType.getType().equals(resultType) ||
 				this.domainType.getType().isAssignableFrom(resultType) ||
 				this.domainType.isSubTypeOf(resultType)) {
-			return PropertySelection.create(this.domainType, selection).toList();
+			return PropertySelection.getPropertyPaths(this.domainType, selection);
 		}
 		return Collections.emptyList();
 	}
@@ -178,6 +181,48 @@ public abstract class QueryByExampleDataFetcher<T> {
 			}
 		}
 
+		return initAutoRegistrationConfigurer(factories, reactiveExecutors);
+	}
+
+	/**
+	 * Variant of {@link #autoRegistrationConfigurer(List, List)} that queries
+	 * non-reactive repositories on the given {@link Executor}, rather than
+	 * blocking the thread that executes the request.
+	 *
+	 * @param executors repositories to consider for registration
+	 * @param reactiveExecutors reactive repositories to consider for registration
+	 * @param taskExecutor the executor to query non-reactive repositories on,
+	 * or {@code null} to use {@link reactor.core.scheduler.Schedulers#boundedElastic()}
+	 * @param maxConcurrency the maximum number of queries in progress at a time
+	 * for each non-reactive repository, or -1 for no limit
+	 * @return the created configurer
+	 * @since 1.1.0
+	 */
+	public static RuntimeWiringConfigurer autoRegistrationConfigurer(
+			List<QueryByExampleExecutor<?>> executors,
+			List<ReactiveQueryByExampleExecutor<?>> reactiveExecutors,
+			@Nullable Executor taskExecutor, int maxConcurrency) {
+
+		Assert.isTrue(maxConcurrency > 0 || maxConcurrency == -1, "'maxConcurrency' must be positive or -1");
+
+		Map<String, Function<Boolean, DataFetcher<?>>> factories = new HashMap<>();
+
+		for (QueryByExampleExecutor<?> executor : executors) {
+			String typeName = RepositoryUtils.getGraphQlTypeName(executor);
+			if (typeName != null) {
+				Builder<?, ?> builder = builder(executor).maxConcurrency(maxConcurrency);
+				Builder<?, ?> builderToUse = (taskExecutor != null ? builder.executor(taskExecutor) : builder);
+				factories.put(typeName, single -> single ? builderToUse.singleAsync() : builderToUse.manyAsync());
+			}
+		}
+
+		return initAutoRegistrationConfigurer(factories, reactiveExecutors);
+	}
+
+	private static RuntimeWiringConfigurer initAutoRegistrationConfigurer(
+			Map<String, Function<Boolean, DataFetcher<?>>> factories,
+			List<ReactiveQueryByExampleExecutor<?>> reactiveExecutors) {
+
 		for (ReactiveQueryByExampleExecutor<?> executor : reactiveExecutors) {
 			String typeName = RepositoryUtils.getGraphQlTypeName(executor);
 			if (typeName != null) {
@@ -243,16 +288,22 @@ public abstract class QueryByExampleDataFetcher<T> {
 
 		private final Sort sort;
 
+		private final AsyncDataFetcher.ExecutorSettings asyncSettings;
+
 		@SuppressWarnings("unchecked")
 		Builder(QueryByExampleExecutor<T> executor, Class<R> domainType) {
-			this(executor, ClassTypeInformation.from((Class<T>) domainType), domainType, Sort.unsorted());
+			this(executor, ClassTypeInformation.from((Class<T>) domainType), domainType, Sort.unsorted(),
+					new AsyncDataFetcher.ExecutorSettings(null, -1));
 		}
 
-		Builder(QueryByExampleExecutor<T> executor, ClassTypeInformation<T> domainType, Class<R> resultType, Sort sort) {
+		Builder(QueryByExampleExecutor<T> executor, ClassTypeInformation<T> domainType, Class<R> resultType,
+				Sort sort, AsyncDataFetcher.ExecutorSettings asyncSettings) {
+
 			this.executor = executor;
 			this.domainType = domainType;
 			this.resultType = resultType;
 			this.sort = sort;
+			this.asyncSettings = asyncSettings;
 		}
 
 		/**
@@ -266,7 +317,8 @@ public abstract class QueryByExampleDataFetcher<T> {
 		 */
 		public <P> Builder<T, P> projectAs(Class<P> projectionType) {
 			Assert.notNull(projectionType, "Projection type must not be null");
-			return new Builder<>(this.executor, this.domainType, projectionType, this.sort);
+			return new Builder<>(this.executor, this.domainType, projectionType, this.sort,
+					this.asyncSettings);
 		}
 
 		/**
@@ -277,7 +329,42 @@ public abstract class QueryByExampleDataFetcher<T> {
 		 */
 		public Builder<T, R> sortBy(Sort sort) {
 			Assert.notNull(sort, "Sort must not be null");
-			return new Builder<>(this.executor, this.domainType, this.resultType, sort);
+			return new Builder<>(this.executor, this.domainType, this.resultType, sort,
+					this.asyncSettings);
+		}
+
+		/**
+		 * Set the {@link Executor} to query the repository on for data fetchers
+		 * built with {@link #singleAsync()} and {@link #manyAsync()}.
+		 * <p>By default, this is {@link reactor.core.scheduler.Schedulers#boundedElastic()}.
+		 * @param executor the executor to use
+		 * @return a new {@link Builder} instance with all previously configured
+		 * options and {@code Executor} applied
+		 * @since 1.1.0
+		 */
+		public Builder<T, R> executor(Executor executor) {
+			Assert.notNull(executor, "Executor must not be null");
+			return new Builder<>(this.executor, this.domainType, this.resultType, this.sort,
+					this.asyncSettings.withExecutor(executor));
+		}
+
+		/**
+		 * Limit how many queries data fetchers built with {@link #singleAsync()}
+		 * and {@link #manyAsync()} may have in progress at a time, across all
+		 * data fetchers built from the returned builder, and from builders
+		 * derived from it through other options than the {@code Executor}.
+		 * Further queries wait in a queue without blocking the calling thread.
+		 * <p>By default, this is -1, in which case there is no limit.
+		 * @param maxConcurrency the maximum number of queries in progress,
+		 * greater than 0, or -1 for no limit
+		 * @return a new {@link Builder} instance with all previously configured
+		 * options and the limit applied
+		 * @since 1.1.0
+		 */
+		public Builder<T, R> maxConcurrency(int maxConcurrency) {
+			Assert.isTrue(maxConcurrency > 0 || maxConcurrency == -1, "'maxConcurrency' must be positive or -1");
+			return new Builder<>(this.executor, this.domainType, this.resultType, this.sort,
+					this.asyncSettings.withMaxConcurrency(maxConcurrency));
 		}
 
 		/**
@@ -294,6 +381,26 @@ public abstract class QueryByExampleDataFetcher<T> {
 			return new ManyEntityFetcher<>(this.executor, this.domainType, this.resultType, this.sort);
 		}
 
+		/**
+		 * Variant of {@link #single()} that queries the repository on the
+		 * configured {@link #executor(Executor) Executor}, rather than blocking
+		 * the thread that executes the request.
+		 * @since 1.1.0
+		 */
+		public DataFetcher<CompletableFuture<R>> singleAsync() {
+			return AsyncDataFetcher.create(single(), this.asyncSettings.getExecutor());
+		}
+
+		/**
+		 * Variant of {@link #many()} that queries the repository on the
+		 * configured {@link #executor(Executor) Executor}, rather than blocking
+		 * the thread that executes the request.
+		 * @since 1.1.0
+		 */
+		public DataFetcher<CompletableFuture<Iterable<R>>> manyAsync() {
+			return AsyncDataFetcher.create(many(), this.asyncSettings.getExecutor());
+		}
+
 	}
 
 
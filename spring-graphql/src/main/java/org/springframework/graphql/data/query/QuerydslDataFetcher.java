@@ -21,6 +21,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import com.querydsl.core.types.EntityPath;
@@ -46,6 +48,7 @@ import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.graphql.data.GraphQlRepository;
 import org.springframework.graphql.execution.RuntimeWiringConfigurer;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -148,7 +151,7 @@ public abstract class QuerydslDataFetcher<T> {
 		if (this.domainType.getType().equals(resultType) ||
 				this.domainType.getType().isAssignableFrom(resultType) ||
 				this.domainType.isSubTypeOf(resultType)) {
-			return PropertySelection.create(this.domainType, selection).toList();
+			return PropertySelection.getPropertyPaths(this.domainType, selection);
 		}
 		return Collections.emptyList();
 	}
@@ -207,6 +210,52 @@ public abstract class QuerydslDataFetcher<T> {
 			}
 		}
 
+		return initAutoRegistrationConfigurer(factories, reactiveExecutors);
+	}
+
+	/**
+	 * Variant of {@link #autoRegistrationConfigurer(List, List)} that queries
+	 * non-reactive repositories on the given {@link Executor}, rather than
+	 * blocking the thread that executes the request.
+	 *
+	 * @param executors repositories to consider for registration
+	 * @param reactiveExecutors reactive repositories to consider for registration
+	 * @param taskExecutor the executor to query non-reactive repositories on,
+	 * or {@code null} to use {@link reactor.core.scheduler.Schedulers#boundedElastic()}
+	 * @param maxConcurrency the maximum number of queries in progress at a time
+	 * for each non-reactive repository, or -1 for no limit
+	 * @return the created configurer
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public static RuntimeWiringConfigurer autoRegistrationConfigurer(
+			List<QuerydslPredicateExecutor<?>> executors,
+			List<ReactiveQuerydslPredicateExecutor<?>> reactiveExecutors,
+			@Nullable Executor taskExecutor, int maxConcurrency) {
+
+		Assert.isTrue(maxConcurrency > 0 || maxConcurrency == -1, "'maxConcurrency' must be positive or -1");
+
+		Map<String, Function<Boolean, DataFetcher<?>>> factories = new HashMap<>();
+
+		for (QuerydslPredicateExecutor<?> executor : executors) {
+			String typeName = RepositoryUtils.getGraphQlTypeName(executor);
+			if (typeName != null) {
+				Builder builder = QuerydslDataFetcher.builder(executor)
+						.customizer(customizer(executor))
+						.maxConcurrency(maxConcurrency);
+				Builder builderToUse = (taskExecutor != null ? builder.executor(taskExecutor) : builder);
+				factories.put(typeName, single -> single ? builderToUse.singleAsync() : builderToUse.manyAsync());
+			}
+		}
+
+		return initAutoRegistrationConfigurer(factories, reactiveExecutors);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static RuntimeWiringConfigurer initAutoRegistrationConfigurer(
+			Map<String, Function<Boolean, DataFetcher<?>>> factories,
+			List<ReactiveQuerydslPredicateExecutor<?>> reactiveExecutors) {
+
 		for (ReactiveQuerydslPredicateExecutor<?> executor : reactiveExecutors) {
 			String typeName = RepositoryUtils.getGraphQlTypeName(executor);
 			if (typeName != null) {
@@ -289,23 +338,28 @@ public abstract class QuerydslDataFetcher<T> {
 
 		private final QuerydslBinderCustomizer<? extends EntityPath<T>> customizer;
 
+		private final AsyncDataFetcher.ExecutorSettings asyncSettings;
+
 		@SuppressWarnings("unchecked")
 		Builder(QuerydslPredicateExecutor<T> executor, Class<R> domainType) {
 			this(executor,
 					ClassTypeInformation.from((Class<T>) domainType),
 					domainType,
 					Sort.unsorted(),
-					NO_OP_BINDER_CUSTOMIZER);
+					NO_OP_BINDER_CUSTOMIZER,
+					new AsyncDataFetcher.ExecutorSettings(null, -1));
 		}
 
 		Builder(QuerydslPredicateExecutor<T> executor, ClassTypeInformation<T> domainType,
-				Class<R> resultType, Sort sort, QuerydslBinderCustomizer<? extends EntityPath<T>> customizer) {
+				Class<R> resultType, Sort sort, QuerydslBinderCustomizer<? extends EntityPath<T>> customizer,
+				AsyncDataFetcher.ExecutorSettings asyncSettings) {
 
 			this.executor = executor;
 			this.domainType = domainType;
 			this.resultType = resultType;
 			this.sort = sort;
 			this.customizer = customizer;
+			this.asyncSettings = asyncSettings;
 		}
 
 		/**
@@ -319,7 +373,8 @@ public abstract class QuerydslDataFetcher<T> {
 		 */
 		public <P> Builder<T, P> projectAs(Class<P> projectionType) {
 			Assert.notNull(projectionType, "Projection type must not be null");
-			return new Builder<>(this.executor, this.domainType, projectionType, this.sort, this.customizer);
+			return new Builder<>(this.executor, this.domainType, projectionType, this.sort, this.customizer,
+					this.asyncSettings);
 		}
 
 		/**
@@ -330,7 +385,8 @@ public abstract class QuerydslDataFetcher<T> {
 		 */
 		public Builder<T, R> sortBy(Sort sort) {
 			Assert.notNull(sort, "Sort must not be null");
-			return new Builder<>(this.executor, this.domainType, this.resultType, sort, customizer);
+			return new Builder<>(this.executor, this.domainType, this.resultType, sort, this.customizer,
+					this.asyncSettings);
 		}
 
 		/**
@@ -348,7 +404,42 @@ public abstract class QuerydslDataFetcher<T> {
 		 */
 		public Builder<T, R> customizer(QuerydslBinderCustomizer<? extends EntityPath<T>> customizer) {
 			Assert.notNull(customizer, "QuerydslBinderCustomizer must not be null");
-			return new Builder<>(this.executor, this.domainType, this.resultType, this.sort, customizer);
+			return new Builder<>(this.executor, this.domainType, this.resultType, this.sort, customizer,
+					this.asyncSettings);
+		}
+
+		/**
+		 * Set the {@link Executor} to query the repository on for data fetchers
+		 * built with {@link #singleAsync()} and {@link #manyAsync()}.
+		 * <p>By default, this is {@link reactor.core.scheduler.Schedulers#boundedElastic()}.
+		 * @param executor the executor to use
+		 * @return a new {@link Builder} instance with all previously configured
+		 * options and {@code Executor} applied
+		 * @since 1.1.0
+		 */
+		public Builder<T, R> executor(Executor executor) {
+			Assert.notNull(executor, "Executor must not be null");
+			return new Builder<>(this.executor, this.domainType, this.resultType, this.sort, this.customizer,
+					this.asyncSettings.withExecutor(executor));
+		}
+
+		/**
+		 * Limit how many queries data fetchers built with {@link #singleAsync()}
+		 * and {@link #manyAsync()} may have in progress at a time, across all
+		 * data fetchers built from the returned builder, and from builders
+		 * derived from it through other options than the {@code Executor}.
+		 * Further queries wait in a queue without blocking the calling thread.
+		 * <p>By default, this is -1, in which case there is no limit.
+		 * @param maxConcurrency the maximum number of queries in progress,
+		 * greater than 0, or -1 for no limit
+		 * @return a new {@link Builder} instance with all previously configured
+		 * options and the limit applied
+		 * @since 1.1.0
+		 */
+		public Builder<T, R> maxConcurrency(int maxConcurrency) {
+			Assert.isTrue(maxConcurrency > 0 || maxConcurrency == -1, "'maxConcurrency' must be positive or -1");
+			return new Builder<>(this.executor, this.domainType, this.resultType, this.sort, this.customizer,
+					this.asyncSettings.withMaxConcurrency(maxConcurrency));
 		}
 
 		/**
@@ -367,6 +458,26 @@ public abstract class QuerydslDataFetcher<T> {
 					this.executor, this.domainType, this.resultType, this.sort, this.customizer);
 		}
 
+		/**
+		 * Variant of {@link #single()} that queries the repository on the
+		 * configured {@link #executor(Executor) Executor}, rather than blocking
+		 * the thread that executes the request.
+		 * @since 1.1.0
+		 */
+		public DataFetcher<CompletableFuture<R>> singleAsync() {
+			return AsyncDataFetcher.create(single(), this.asyncSettings.getExecutor());
+		}
+
+		/**
+		 * Variant of {@link #many()} that queries the repository on the
+		 * configured {@link #executor(Executor) Executor}, rather than blocking
+		 * the thread that executes the request.
+		 * @since 1.1.0
+		 */
+		public DataFetcher<CompletableFuture<Iterable<R>>> manyAsync() {
+			return AsyncDataFetcher.create(many(), this.asyncSettings.getExecutor());
+		}
+
 	}
 
 
@@ -30,6 +30,9 @@ import graphql.schema.GraphQLSchema;
 import graphql.schema.GraphQLTypeVisitor;
 import graphql.schema.SchemaTraverser;
 
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
 
 /**
  * Implementation of {@link GraphQlSource.Builder} that leaves it to subclasses
@@ -47,6 +50,9 @@ abstract class AbstractGraphQlSourceBuilder<B extends GraphQlSource.Builder<B>>
 
 	private final List<Instrumentation> instrumentations = new ArrayList<>();
 
+	@Nullable
+	private PreparsedDocumentCache preparsedDocumentCache;
+
 	private Consumer<GraphQL.Builder> graphQlConfigurers = (builder) -> {
 	};
 
@@ -75,6 +81,13 @@ abstract class AbstractGraphQlSourceBuilder<B extends GraphQlSource.Builder<B>>
 		return self();
 	}
 
+	@Override
+	public B preparsedDocumentCache(PreparsedDocumentCache cache) {
+		Assert.notNull(cache, "PreparsedDocumentCache is required");
+		this.preparsedDocumentCache = cache;
+		return self();
+	}
+
 	@SuppressWarnings("unchecked")
 	private  <T extends B> T self() {
 		return (T) this;
@@ -93,6 +106,10 @@ abstract class AbstractGraphQlSourceBuilder<B extends GraphQlSource.Builder<B>>
 			builder = builder.instrumentation(new ChainedInstrumentation(this.instrumentations));
 		}
 
+		if (this.preparsedDocumentCache != null) {
+			builder = builder.preparsedDocumentProvider(this.preparsedDocumentCache.forNewSchema());
+		}
+
 		this.graphQlConfigurers.accept(builder);
 
 		return new FixedGraphQlSource(builder.build(), schema);
@@ -125,6 +125,42 @@ public interface BatchLoaderRegistry extends DataLoaderRegistrar {
 		 */
 		RegistrationSpec<K, V> withOptions(DataLoaderOptions options);
 
+		/**
+		 * Set the maximum number of keys to pass to the batch loading function
+		 * at a time. Larger batches are split into chunks, and the function is
+		 * invoked for each chunk, with up to
+		 * {@link #withBatchConcurrency(int) batchConcurrency} invocations in
+		 * progress at a time. The results are combined in the order of the keys.
+		 * <p>By default, this is -1, in which case batches are not split.
+		 * @param maxBatchSize the maximum number of keys per invocation
+		 * @return a spec to complete the registration
+		 * @since 1.1.0
+		 */
+		RegistrationSpec<K, V> withMaxBatchSize(int maxBatchSize);
+
+		/**
+		 * Set how many chunks of a batch, split due to
+		 * {@link #withMaxBatchSize(int) maxBatchSize}, to load concurrently.
+		 * <p>By default, this is -1, in which case all chunks are loaded
+		 * concurrently.
+		 * @param batchConcurrency the maximum number of chunks to load concurrently
+		 * @return a spec to complete the registration
+		 * @since 1.1.0
+		 */
+		RegistrationSpec<K, V> withBatchConcurrency(int batchConcurrency);
+
+		/**
+		 * Set a cache to share loaded values across requests, in addition to
+		 * the per request cache of the {@link org.dataloader.DataLoader}.
+		 * Keys with a value in the shared cache are not passed to the batch
+		 * loading function.
+		 * <p>By default, this is not set, and values are cached per request only.
+		 * @param cache the cache to use, typically one per batch loader
+		 * @return a spec to complete the registration
+		 * @since 1.1.0
+		 */
+		RegistrationSpec<K, V> withSharedCache(SharedValueCache<K, V> cache);
+
 		/**
 		 * Register the give batch loading function.
 		 * <p>The values returned from the function must match the order and
@@ -26,21 +26,31 @@ import graphql.schema.TypeResolver;
 
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * {@link TypeResolver} that tries to find a GraphQL Object type based on the
  * class name of a value returned from a {@code DataFetcher}. If necessary, it
  * walks up the base class and interface hierarchy to find a match.
  *
+ * <p>The result for each class is cached, and the cache is cleared when the
+ * schema changes, or when the configuration of the resolver changes.
+ *
  * @author Rossen Stoyanchev
  * @since 1.0.0
  */
 public class ClassNameTypeResolver implements TypeResolver {
 
+	private static final Object NO_MATCH = new Object();
+
+
 	private Function<Class<?>, String> classNameExtractor = Class::getSimpleName;
 
 	private final Map<Class<?>, String> mappings = new LinkedHashMap<>();
 
+	@Nullable
+	private volatile TypeCache typeCache;
+
 
 	/**
 	 * Customize how the name of a class, or a base class/interface, is determined.
@@ -52,6 +62,7 @@ public class ClassNameTypeResolver implements TypeResolver {
 	public void setClassNameExtractor(Function<Class<?>, String> classNameExtractor) {
 		Assert.notNull(classNameExtractor, "'classNameExtractor' is required");
 		this.classNameExtractor = classNameExtractor;
+		this.typeCache = null;
 	}
 
 	/**
@@ -63,6 +74,7 @@ public class ClassNameTypeResolver implements TypeResolver {
 	 */
 	public void addMapping(Class<?> clazz, String graphQlTypeName) {
 		this.mappings.put(clazz, graphQlTypeName);
+		this.typeCache = null;
 	}
 
 
@@ -76,7 +88,18 @@ public class ClassNameTypeResolver implements TypeResolver {
 		// We don't assert "not null" since GraphQL Java will do that anyway.
 		// Leaving the method nullable provides option for delegation.
 
-		return getTypeForClass(clazz, schema);
+		TypeCache cache = this.typeCache;
+		if (cache == null || cache.schema != schema) {
+			cache = new TypeCache(schema);
+			this.typeCache = cache;
+		}
+
+		Object type = cache.types.get(clazz);
+		if (type == null) {
+			type = getTypeForClass(clazz, schema);
+			cache.types.put(clazz, (type != null ? type : NO_MATCH));
+		}
+		return (type != NO_MATCH ? (GraphQLObjectType) type : null);
 	}
 
 	@Nullable
@@ -126,4 +149,20 @@ public class ClassNameTypeResolver implements TypeResolver {
 		return null;
 	}
 
+
+	/**
+	 * Resolved types for the classes seen so far, for a given schema.
+	 */
+	private static class TypeCache {
+
+		private final GraphQLSchema schema;
+
+		private final Map<Class<?>, Object> types = new ConcurrentReferenceHashMap<>();
+
+		TypeCache(GraphQLSchema schema) {
+			this.schema = schema;
+		}
+
+	}
+
 }
@@ -17,6 +17,7 @@
 package org.springframework.graphql.execution;
 
 import graphql.ExecutionInput;
+import graphql.TrivialDataFetcher;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.GraphQLCodeRegistry;
@@ -60,10 +61,14 @@ final class ContextDataFetcherDecorator implements DataFetcher<Object> {
 	@Override
 	public Object get(DataFetchingEnvironment environment) throws Exception {
 
-		Object value = ReactorContextManager.invokeCallable(() ->
-				this.delegate.get(environment), environment.getGraphQlContext());
+		ReactorContextManager.ContextSnapshot snapshot =
+				ReactorContextManager.getContextSnapshot(environment.getGraphQlContext());
 
-		ContextView contextView = ReactorContextManager.getReactorContext(environment.getGraphQlContext());
+		Object value = (snapshot.requiresRestore() ?
+				snapshot.invokeCallable(() -> this.delegate.get(environment)) :
+				this.delegate.get(environment));
+
+		ContextView contextView = snapshot.getContextView();
 
 		if (this.subscription) {
 			return (!contextView.isEmpty() ? Flux.from((Publisher<?>) value).contextWrite(contextView) : value);
@@ -86,7 +91,9 @@ final class ContextDataFetcherDecorator implements DataFetcher<Object> {
 
 	/**
 	 * {@link GraphQLTypeVisitor} that wraps non-GraphQL data fetchers and adapts them if
-	 * they return {@link Flux} or {@link Mono}.
+	 * they return {@link Flux} or {@link Mono}. Data fetchers marked as
+	 * {@link TrivialDataFetcher} are not wrapped, since they neither need context
+	 * nor return a reactive type.
 	 */
 	static GraphQLTypeVisitor TYPE_VISITOR = new GraphQLTypeVisitorStub() {
 
@@ -98,7 +105,8 @@ final class ContextDataFetcherDecorator implements DataFetcher<Object> {
 			GraphQLFieldsContainer parent = (GraphQLFieldsContainer) context.getParentNode();
 			DataFetcher<?> dataFetcher = codeRegistry.getDataFetcher(parent, fieldDefinition);
 
-			if (dataFetcher.getClass().getPackage().getName().startsWith("graphql.")) {
+			if (dataFetcher instanceof TrivialDataFetcher ||
+					dataFetcher.getClass().getPackage().getName().startsWith("graphql.")) {
 				return TraversalControl.CONTINUE;
 			}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2022 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,18 @@
 package org.springframework.graphql.execution;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import graphql.GraphQLContext;
 import org.dataloader.BatchLoaderContextProvider;
@@ -34,8 +40,8 @@ import org.dataloader.DataLoaderRegistry;
 import org.dataloader.MappedBatchLoaderWithContext;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.context.ContextView;
 
+import org.springframework.graphql.execution.ReactorContextManager.ContextSnapshot;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -65,27 +71,43 @@ public class DefaultBatchLoaderRegistry implements BatchLoaderRegistry {
 		return new DefaultRegistrationSpec<>(name);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>When the given registry is the one created by
+	 * {@link DefaultExecutionGraphQlService}, {@code DataLoader}s are created
+	 * lazily, when first looked up by name.
+	 */
 	@Override
 	public void registerDataLoaders(DataLoaderRegistry registry, GraphQLContext context) {
 		BatchLoaderContextProvider contextProvider = () -> context;
-		DataLoaderOptions defaultOptions = DataLoaderOptions.newOptions().setBatchLoaderContextProvider(contextProvider);
 		for (ReactorBatchLoader<?, ?> loader : this.loaders) {
-			DataLoaderOptions options = loader.getOptionsOrDefault(contextProvider, defaultOptions);
-			DataLoader<?, ?> dataLoader = DataLoaderFactory.newDataLoader(loader, options);
-			registerDataLoader(loader.getName(), dataLoader, registry);
+			registerDataLoader(loader.getName(), registry, name ->
+					DataLoaderFactory.newDataLoader(loader, loader.getOptions(contextProvider)));
 		}
 		for (ReactorMappedBatchLoader<?, ?> loader : this.mappedLoaders) {
-			DataLoaderOptions options = loader.getOptionsOrDefault(contextProvider, defaultOptions);
-			DataLoader<?, ?> dataLoader = DataLoaderFactory.newMappedDataLoader(loader, options);
-			registerDataLoader(loader.getName(), dataLoader, registry);
+			registerDataLoader(loader.getName(), registry, name ->
+					DataLoaderFactory.newMappedDataLoader(loader, loader.getOptions(contextProvider)));
 		}
 	}
 
-	private void registerDataLoader(String name, DataLoader<?, ?> dataLoader, DataLoaderRegistry registry) {
+	private void registerDataLoader(
+			String name, DataLoaderRegistry registry, Function<String, DataLoader<?, ?>> factory) {
+
+		if (registry instanceof LazyDataLoaderRegistry) {
+			((LazyDataLoaderRegistry) registry).registerFactory(name, factory);
+			return;
+		}
 		if (registry.getDataLoader(name) != null) {
 			throw new IllegalStateException("More than one DataLoader named '" + name + "'");
 		}
-		registry.register(name, dataLoader);
+		registry.register(name, factory.apply(name));
+	}
+
+	private void assertUniqueName(String name) {
+		if (this.loaders.stream().anyMatch(loader -> loader.getName().equals(name)) ||
+				this.mappedLoaders.stream().anyMatch(loader -> loader.getName().equals(name))) {
+			throw new IllegalStateException("More than one DataLoader named '" + name + "'");
+		}
 	}
 
 
@@ -100,6 +122,13 @@ public class DefaultBatchLoaderRegistry implements BatchLoaderRegistry {
 		@Nullable
 		private DataLoaderOptions options;
 
+		private int maxBatchSize = -1;
+
+		private int batchConcurrency = -1;
+
+		@Nullable
+		private SharedValueCache<K, V> sharedCache;
+
 		public DefaultRegistrationSpec(Class<V> valueType) {
 			this.valueType = valueType;
 		}
@@ -128,16 +157,38 @@ public class DefaultBatchLoaderRegistry implements BatchLoaderRegistry {
 			return this;
 		}
 
+		@Override
+		public RegistrationSpec<K, V> withMaxBatchSize(int maxBatchSize) {
+			this.maxBatchSize = maxBatchSize;
+			return this;
+		}
+
+		@Override
+		public RegistrationSpec<K, V> withBatchConcurrency(int batchConcurrency) {
+			this.batchConcurrency = batchConcurrency;
+			return this;
+		}
+
+		@Override
+		public RegistrationSpec<K, V> withSharedCache(SharedValueCache<K, V> cache) {
+			this.sharedCache = cache;
+			return this;
+		}
+
 		@Override
 		public void registerBatchLoader(BiFunction<List<K>, BatchLoaderEnvironment, Flux<V>> loader) {
-			DefaultBatchLoaderRegistry.this.loaders.add(
-					new ReactorBatchLoader<>(initName(), loader, this.options));
+			String name = initName();
+			assertUniqueName(name);
+			DefaultBatchLoaderRegistry.this.loaders.add(new ReactorBatchLoader<>(
+					name, loader, this.options, this.maxBatchSize, this.batchConcurrency, this.sharedCache));
 		}
 
 		@Override
 		public void registerMappedBatchLoader(BiFunction<Set<K>, BatchLoaderEnvironment, Mono<Map<K, V>>> loader) {
-			DefaultBatchLoaderRegistry.this.mappedLoaders.add(
-					new ReactorMappedBatchLoader<>(initName(), loader, this.options));
+			String name = initName();
+			assertUniqueName(name);
+			DefaultBatchLoaderRegistry.this.mappedLoaders.add(new ReactorMappedBatchLoader<>(
+					name, loader, this.options, this.maxBatchSize, this.batchConcurrency, this.sharedCache));
 		}
 
 		private String initName() {
@@ -150,6 +201,34 @@ public class DefaultBatchLoaderRegistry implements BatchLoaderRegistry {
 	}
 
 
+	/**
+	 * Split the given keys into chunks of up to the given size.
+	 */
+	private static <K, C extends Collection<K>> List<C> split(
+			Collection<K> keys, int maxBatchSize, Supplier<C> chunkSupplier) {
+
+		List<C> chunks = new ArrayList<>((keys.size() + maxBatchSize - 1) / maxBatchSize);
+		C chunk = chunkSupplier.get();
+		for (K key : keys) {
+			if (chunk.size() == maxBatchSize) {
+				chunks.add(chunk);
+				chunk = chunkSupplier.get();
+			}
+			chunk.add(key);
+		}
+		chunks.add(chunk);
+		return chunks;
+	}
+
+	/**
+	 * Invoke the loader for a chunk of keys, restoring ThreadLocal values,
+	 * since chunks beyond the concurrency limit are loaded on other threads.
+	 */
+	private static <T, R> R invokeLoader(Function<T, R> loader, T keys, ContextSnapshot snapshot) {
+		return snapshot.invokeSupplier(() -> loader.apply(keys));
+	}
+
+
 	/**
 	 * {@link BatchLoaderWithContext} that delegates to a {@link Flux} batch
 	 * loading function and exposes Reactor context to it.
@@ -163,39 +242,78 @@ public class DefaultBatchLoaderRegistry implements BatchLoaderRegistry {
 		@Nullable
 		private final DataLoaderOptions options;
 
+		private final int maxBatchSize;
+
+		private final int batchConcurrency;
+
+		@Nullable
+		private final SharedValueCache<K, V> sharedCache;
+
 		private ReactorBatchLoader(String name,
 				BiFunction<List<K>, BatchLoaderEnvironment, Flux<V>> loader,
-				@Nullable DataLoaderOptions options) {
+				@Nullable DataLoaderOptions options, int maxBatchSize, int batchConcurrency,
+				@Nullable SharedValueCache<K, V> sharedCache) {
 
 			this.name = name;
 			this.loader = loader;
 			this.options = options;
+			this.maxBatchSize = maxBatchSize;
+			this.batchConcurrency = batchConcurrency;
+			this.sharedCache = sharedCache;
 		}
 
 		public String getName() {
 			return this.name;
 		}
 
-		public DataLoaderOptions getOptionsOrDefault(
-				BatchLoaderContextProvider provider, DataLoaderOptions defaultOptions) {
-
-			if (this.options != null) {
-				return new DataLoaderOptions(this.options).setBatchLoaderContextProvider(provider);
+		public DataLoaderOptions getOptions(BatchLoaderContextProvider provider) {
+			DataLoaderOptions options = (this.options != null ?
+					new DataLoaderOptions(this.options) : DataLoaderOptions.newOptions());
+			if (this.sharedCache != null) {
+				options.setValueCache(this.sharedCache);
 			}
-
-			return defaultOptions;
+			return options.setBatchLoaderContextProvider(provider);
 		}
 
 		@Override
 		public CompletionStage<List<V>> load(List<K> keys, BatchLoaderEnvironment environment) {
-			ContextView contextView = ReactorContextManager.getReactorContext(environment.getContext());
-			try {
-				ReactorContextManager.restoreThreadLocalValues(contextView);
-				return this.loader.apply(keys, environment).collectList().contextWrite(contextView).toFuture();
+			ContextSnapshot snapshot = ReactorContextManager.getContextSnapshot(environment.getContext());
+			return snapshot.invokeSupplier(() -> {
+				Mono<List<V>> values = (this.sharedCache != null ?
+						loadWithSharedCache(keys, this.sharedCache, environment, snapshot) :
+						loadValues(keys, environment, snapshot).collectList());
+				return values.contextWrite(snapshot.getContextView()).toFuture();
+			});
+		}
+
+		private Mono<List<V>> loadWithSharedCache(List<K> keys, SharedValueCache<K, V> cache,
+				BatchLoaderEnvironment environment, ContextSnapshot snapshot) {
+
+			return cache.load(keys, keysToLoad ->
+							invokeLoader(chunk -> loadValues(chunk, environment, snapshot), keysToLoad, snapshot)
+									.collectList()
+									.map(values -> toMap(keysToLoad, values)))
+					.map(valueMap -> keys.stream().map(valueMap::get).collect(Collectors.toList()));
+		}
+
+		private static <K, V> Map<K, V> toMap(List<K> keys, List<V> values) {
+			Assert.state(keys.size() == values.size(),
+					() -> "Expected " + keys.size() + " values for " + keys.size() + " keys, but got " + values.size());
+			Map<K, V> map = new HashMap<>(keys.size());
+			for (int i = 0; i < keys.size(); i++) {
+				map.put(keys.get(i), values.get(i));
 			}
-			finally {
-				ReactorContextManager.resetThreadLocalValues(contextView);
+			return map;
+		}
+
+		private Flux<V> loadValues(List<K> keys, BatchLoaderEnvironment environment, ContextSnapshot snapshot) {
+			if (this.maxBatchSize <= 0 || keys.size() <= this.maxBatchSize) {
+				return this.loader.apply(keys, environment);
 			}
+			List<List<K>> chunks = split(keys, this.maxBatchSize, ArrayList::new);
+			int concurrency = (this.batchConcurrency > 0 ? this.batchConcurrency : chunks.size());
+			return Flux.fromIterable(chunks).flatMapSequential(chunk ->
+					invokeLoader(chunkKeys -> this.loader.apply(chunkKeys, environment), chunk, snapshot), concurrency);
 		}
 
 	}
@@ -214,39 +332,63 @@ public class DefaultBatchLoaderRegistry implements BatchLoaderRegistry {
 		@Nullable
 		private final DataLoaderOptions options;
 
+		private final int maxBatchSize;
+
+		private final int batchConcurrency;
+
+		@Nullable
+		private final SharedValueCache<K, V> sharedCache;
+
 		private ReactorMappedBatchLoader(String name,
 				BiFunction<Set<K>, BatchLoaderEnvironment, Mono<Map<K, V>>> loader,
-				@Nullable DataLoaderOptions options) {
+				@Nullable DataLoaderOptions options, int maxBatchSize, int batchConcurrency,
+				@Nullable SharedValueCache<K, V> sharedCache) {
 
 			this.name = name;
 			this.loader = loader;
 			this.options = options;
+			this.maxBatchSize = maxBatchSize;
+			this.batchConcurrency = batchConcurrency;
+			this.sharedCache = sharedCache;
 		}
 
 		public String getName() {
 			return this.name;
 		}
 
-		public DataLoaderOptions getOptionsOrDefault(
-				BatchLoaderContextProvider provider, DataLoaderOptions defaultOptions) {
-
-			if (this.options != null) {
-				return new DataLoaderOptions(this.options).setBatchLoaderContextProvider(provider);
+		public DataLoaderOptions getOptions(BatchLoaderContextProvider provider) {
+			DataLoaderOptions options = (this.options != null ?
+					new DataLoaderOptions(this.options) : DataLoaderOptions.newOptions());
+			if (this.sharedCache != null) {
+				options.setValueCache(this.sharedCache);
 			}
-
-			return defaultOptions;
+			return options.setBatchLoaderContextProvider(provider);
 		}
 
 		@Override
 		public CompletionStage<Map<K, V>> load(Set<K> keys, BatchLoaderEnvironment environment) {
-			ContextView contextView = ReactorContextManager.getReactorContext(environment.getContext());
-			try {
-				ReactorContextManager.restoreThreadLocalValues(contextView);
-				return this.loader.apply(keys, environment).contextWrite(contextView).toFuture();
-			}
-			finally {
-				ReactorContextManager.resetThreadLocalValues(contextView);
+			ContextSnapshot snapshot = ReactorContextManager.getContextSnapshot(environment.getContext());
+			return snapshot.invokeSupplier(() -> {
+				Mono<Map<K, V>> values = (this.sharedCache != null ?
+						this.sharedCache.load(keys, keysToLoad -> invokeLoader(
+								chunk -> loadValues(new LinkedHashSet<>(chunk), environment, snapshot),
+								keysToLoad, snapshot)) :
+						loadValues(keys, environment, snapshot));
+				return values.contextWrite(snapshot.getContextView()).toFuture();
+			});
+		}
+
+		private Mono<Map<K, V>> loadValues(Set<K> keys, BatchLoaderEnvironment environment, ContextSnapshot snapshot) {
+			if (this.maxBatchSize <= 0 || keys.size() <= this.maxBatchSize) {
+				return this.loader.apply(keys, environment);
 			}
+			List<Set<K>> chunks = split(keys, this.maxBatchSize, LinkedHashSet::new);
+			int concurrency = (this.batchConcurrency > 0 ? this.batchConcurrency : chunks.size());
+			return Flux.fromIterable(chunks)
+					.flatMap(chunk ->
+							invokeLoader(chunkKeys -> this.loader.apply(chunkKeys, environment), chunk, snapshot),
+							concurrency)
+					.collect(() -> new HashMap<K, V>(keys.size()), Map::putAll);
 		}
 
 	}
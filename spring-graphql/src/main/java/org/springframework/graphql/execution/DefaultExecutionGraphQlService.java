@@ -16,21 +16,29 @@
 
 package org.springframework.graphql.execution;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.BiFunction;
 
 import graphql.ExecutionInput;
+import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLContext;
 import graphql.execution.ExecutionIdProvider;
+import graphql.schema.GraphQLSchema;
 import org.dataloader.DataLoaderRegistry;
+import org.dataloader.registries.DispatchPredicate;
+import org.dataloader.registries.ScheduledDataLoaderRegistry;
 import reactor.core.publisher.Mono;
 
 import org.springframework.graphql.ExecutionGraphQlRequest;
 import org.springframework.graphql.ExecutionGraphQlResponse;
 import org.springframework.graphql.ExecutionGraphQlService;
 import org.springframework.graphql.support.DefaultExecutionGraphQlResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * {@link ExecutionGraphQlService} that uses a {@link GraphQlSource} to obtain a
@@ -49,49 +57,145 @@ public class DefaultExecutionGraphQlService implements ExecutionGraphQlService {
 
 	private final List<DataLoaderRegistrar> dataLoaderRegistrars = new ArrayList<>();
 
-	private final boolean isDefaultExecutionIdProvider;
+	@Nullable
+	private Duration dispatchWindow;
+
+	@Nullable
+	private DispatchPredicate dispatchPredicate;
+
+	@Nullable
+	private ScheduledExecutorService dispatchScheduler;
+
+	@Nullable
+	private IntrospectionResultCache introspectionResultCache;
 
 
 	public DefaultExecutionGraphQlService(GraphQlSource graphQlSource) {
 		this.graphQlSource = graphQlSource;
-		this.isDefaultExecutionIdProvider =
-				(graphQlSource.graphQl().getIdProvider() == ExecutionIdProvider.DEFAULT_EXECUTION_ID_PROVIDER);
 	}
 
 
 	/**
 	 * Add a registrar to get access to and configure the
 	 * {@link DataLoaderRegistry} for each request.
+	 * <p>When a request has a {@link SharedDataLoaderRegistry}, registrars
+	 * are applied to it once, for the first request that uses it, and
+	 * {@code DataLoader}s registered by them see the {@code GraphQLContext}
+	 * of that request.
 	 * @param registrar the registrar to add
 	 */
 	public void addDataLoaderRegistrar(DataLoaderRegistrar registrar) {
 		this.dataLoaderRegistrars.add(registrar);
 	}
 
+	/**
+	 * Enable windowed dispatching of DataLoaders, where a {@code DataLoader}
+	 * is dispatched only once it has more than the given number of keys
+	 * queued, or once the given time window has passed since it was last
+	 * dispatched. This allows loads from several levels of a query to be
+	 * coalesced into fewer batches, at the expense of added latency.
+	 * <p>By default, this is not set, and all DataLoaders are dispatched
+	 * at the end of each level of the query.
+	 * <p><strong>Note:</strong> when this is set, {@code DataLoader}s are
+	 * created for every request, rather than lazily on first use.
+	 * @param window the maximum time to wait before dispatching
+	 * @param batchSize the number of queued keys at which to dispatch sooner
+	 * @param scheduler the scheduler to check DataLoaders that were not yet
+	 * dispatched, once per window
+	 * @since 1.1.0
+	 */
+	public void setDataLoaderDispatchWindow(Duration window, int batchSize, ScheduledExecutorService scheduler) {
+		Assert.isTrue(!window.isNegative() && !window.isZero(), "'window' must be positive");
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0");
+		Assert.notNull(scheduler, "ScheduledExecutorService is required");
+		this.dispatchWindow = window;
+		this.dispatchPredicate = DispatchPredicate.dispatchIfDepthGreaterThan(batchSize - 1)
+				.or(DispatchPredicate.dispatchIfLongerThan(window));
+		this.dispatchScheduler = scheduler;
+	}
+
+	/**
+	 * Configure a cache for the results of introspection queries, which are
+	 * then executed only once for a given schema instance, and served from the
+	 * cache for subsequent requests.
+	 * <p>A cached result is returned without executing the query, which means
+	 * that {@link graphql.execution.instrumentation.Instrumentation} is not
+	 * invoked for the request, and the same result is shared by all callers.
+	 * Results are cached without extensions. See
+	 * {@link IntrospectionResultCache} for details.
+	 * <p>By default, this is not set, and introspection queries are executed
+	 * for every request.
+	 * @param cache the cache to use
+	 * @since 1.1.0
+	 */
+	public void setIntrospectionResultCache(@Nullable IntrospectionResultCache cache) {
+		this.introspectionResultCache = cache;
+	}
+
 
 	@Override
 	public final Mono<ExecutionGraphQlResponse> execute(ExecutionGraphQlRequest request) {
 		return Mono.deferContextual((contextView) -> {
-			if (!this.isDefaultExecutionIdProvider && request.getExecutionId() == null) {
+			// Use the same GraphQL throughout, in case the GraphQlSource is reloaded
+			GraphQL graphQl = this.graphQlSource.graphQl();
+			if (graphQl.getIdProvider() != ExecutionIdProvider.DEFAULT_EXECUTION_ID_PROVIDER &&
+					request.getExecutionId() == null) {
 				request.configureExecutionInput(RESET_EXECUTION_ID_CONFIGURER);
 			}
 			ExecutionInput executionInput = request.toExecutionInput();
 			ReactorContextManager.setReactorContext(contextView, executionInput.getGraphQLContext());
+			IntrospectionResultCache cache = this.introspectionResultCache;
+			Object cacheKey = (cache != null ? cache.getCacheKey(executionInput) : null);
+			if (cache != null && cacheKey != null) {
+				return executeIntrospection(graphQl, executionInput, cache, cacheKey);
+			}
 			ExecutionInput updatedExecutionInput = registerDataLoaders(executionInput);
-			return Mono.fromFuture(this.graphQlSource.graphQl().executeAsync(updatedExecutionInput))
+			return Mono.fromFuture(graphQl.executeAsync(updatedExecutionInput))
 					.map(result -> new DefaultExecutionGraphQlResponse(updatedExecutionInput, result));
 		});
 	}
 
+	private Mono<ExecutionGraphQlResponse> executeIntrospection(
+			GraphQL graphQl, ExecutionInput executionInput, IntrospectionResultCache cache, Object cacheKey) {
+
+		GraphQLSchema schema = graphQl.getGraphQLSchema();
+		ExecutionResult cachedResult = cache.get(schema, cacheKey);
+		if (cachedResult != null) {
+			return Mono.just(new DefaultExecutionGraphQlResponse(executionInput, cachedResult));
+		}
+		return Mono.fromFuture(graphQl.executeAsync(executionInput))
+				.map(result -> {
+					cache.put(schema, cacheKey, result);
+					return new DefaultExecutionGraphQlResponse(executionInput, result);
+				});
+	}
+
 	private ExecutionInput registerDataLoaders(ExecutionInput executionInput) {
 		if (!this.dataLoaderRegistrars.isEmpty()) {
 			GraphQLContext graphQLContext = executionInput.getGraphQLContext();
 			DataLoaderRegistry previousRegistry = executionInput.getDataLoaderRegistry();
-			DataLoaderRegistry newRegistry = DataLoaderRegistry.newRegistry().registerAll(previousRegistry).build();
+			if (previousRegistry instanceof SharedDataLoaderRegistry) {
+				((SharedDataLoaderRegistry) previousRegistry).initialize(registry -> this.dataLoaderRegistrars
+						.forEach(registrar -> registrar.registerDataLoaders(registry, graphQLContext)));
+				return executionInput;
+			}
+			DataLoaderRegistry newRegistry = createDataLoaderRegistry(previousRegistry);
 			this.dataLoaderRegistrars.forEach(registrar -> registrar.registerDataLoaders(newRegistry, graphQLContext));
 			executionInput = executionInput.transform(builder -> builder.dataLoaderRegistry(newRegistry));
 		}
 		return executionInput;
 	}
 
+	private DataLoaderRegistry createDataLoaderRegistry(DataLoaderRegistry previousRegistry) {
+		if (this.dispatchWindow != null && this.dispatchPredicate != null && this.dispatchScheduler != null) {
+			return ScheduledDataLoaderRegistry.newScheduledRegistry()
+					.registerAll(previousRegistry)
+					.dispatchPredicate(this.dispatchPredicate)
+					.schedule(this.dispatchWindow)
+					.scheduledExecutorService(this.dispatchScheduler)
+					.build();
+		}
+		return new LazyDataLoaderRegistry(previousRegistry);
+	}
+
 }
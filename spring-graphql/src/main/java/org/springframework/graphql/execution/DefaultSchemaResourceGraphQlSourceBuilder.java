@@ -16,6 +16,7 @@
 
 package org.springframework.graphql.execution;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
@@ -24,6 +25,9 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import graphql.language.InterfaceTypeDefinition;
 import graphql.language.UnionTypeDefinition;
@@ -63,6 +67,9 @@ final class DefaultSchemaResourceGraphQlSourceBuilder
 	@Nullable
 	private BiFunction<TypeDefinitionRegistry, RuntimeWiring, GraphQLSchema> schemaFactory;
 
+	@Nullable
+	private SchemaResourceCache schemaResourceCache;
+
 
 	@Override
 	public DefaultSchemaResourceGraphQlSourceBuilder schemaResources(Resource... resources) {
@@ -90,13 +97,16 @@ final class DefaultSchemaResourceGraphQlSourceBuilder
 		return this;
 	}
 
+	@Override
+	public DefaultSchemaResourceGraphQlSourceBuilder schemaResourceCache(SchemaResourceCache cache) {
+		this.schemaResourceCache = cache;
+		return this;
+	}
+
 	@Override
 	protected GraphQLSchema initGraphQlSchema() {
 
-		TypeDefinitionRegistry registry = this.schemaResources.stream()
-				.map(this::parse)
-				.reduce(TypeDefinitionRegistry::merge)
-				.orElseThrow(MissingSchemaException::new);
+		TypeDefinitionRegistry registry = parseSchemaResources();
 
 		RuntimeWiring runtimeWiring = initRuntimeWiring();
 
@@ -112,11 +122,45 @@ final class DefaultSchemaResourceGraphQlSourceBuilder
 				new SchemaGenerator().makeExecutableSchema(registry, runtimeWiring));
 	}
 
+	/**
+	 * Parse schema resources in parallel, if there is more than one, and merge
+	 * the results in the order of the resources. If any resource fails to
+	 * parse, the failure for the first such resource is raised.
+	 */
+	private TypeDefinitionRegistry parseSchemaResources() {
+		if (this.schemaResources.isEmpty()) {
+			throw new MissingSchemaException();
+		}
+		Stream<Resource> stream = (this.schemaResources.size() > 1 ?
+				this.schemaResources.parallelStream() : this.schemaResources.stream());
+		List<Supplier<TypeDefinitionRegistry>> results = stream
+				.map(resource -> {
+					try {
+						TypeDefinitionRegistry parsed = parse(resource);
+						return (Supplier<TypeDefinitionRegistry>) () -> parsed;
+					}
+					catch (RuntimeException ex) {
+						return (Supplier<TypeDefinitionRegistry>) () -> {
+							throw ex;
+						};
+					}
+				})
+				.collect(Collectors.toList());
+		// Merge into a new registry, leaving cached registries unchanged
+		TypeDefinitionRegistry registry = new TypeDefinitionRegistry();
+		results.forEach(result -> registry.merge(result.get()));
+		return registry;
+	}
+
 	private TypeDefinitionRegistry parse(Resource schemaResource) {
 		Assert.notNull(schemaResource, "'schemaResource' not provided");
 		Assert.isTrue(schemaResource.exists(), "'schemaResource' must exist: " + schemaResource);
 		try {
 			try (InputStream inputStream = schemaResource.getInputStream()) {
+				if (this.schemaResourceCache != null) {
+					return this.schemaResourceCache.getRegistry(inputStream.readAllBytes(),
+							content -> new SchemaParser().parse(new ByteArrayInputStream(content)));
+				}
 				return new SchemaParser().parse(inputStream);
 			}
 		}
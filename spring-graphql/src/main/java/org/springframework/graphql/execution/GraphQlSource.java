@@ -119,6 +119,19 @@ public interface GraphQlSource {
 		 */
 		B configureGraphQl(Consumer<GraphQL.Builder> configurer);
 
+		/**
+		 * Configure a {@link PreparsedDocumentCache} to avoid parsing and
+		 * validating documents that have been seen before.
+		 * <p>By default, no cache is used and every request is parsed and
+		 * validated. The cache is set on the {@link GraphQL.Builder} before
+		 * {@link #configureGraphQl(Consumer) configurers} are applied, which
+		 * may still replace it.
+		 * @param cache the cache to use
+		 * @return the current builder
+		 * @since 1.1.0
+		 */
+		B preparsedDocumentCache(PreparsedDocumentCache cache);
+
 		/**
 		 * Build the {@link GraphQlSource} instance.
 		 */
@@ -173,6 +186,20 @@ public interface GraphQlSource {
 		 */
 		SchemaResourceBuilder schemaFactory(BiFunction<TypeDefinitionRegistry, RuntimeWiring, GraphQLSchema> schemaFactory);
 
+		/**
+		 * Configure a {@link SchemaResourceCache} to avoid parsing schema
+		 * resources whose content has not changed since they were last parsed.
+		 * This is useful when a {@code GraphQlSource} is built more than once
+		 * in the same JVM, e.g. when {@link ReloadableGraphQlSource reloading}
+		 * the schema. It does not help the first build.
+		 * <p>By default, no cache is used and all resources are parsed.
+		 * Either way, resources are parsed in parallel.
+		 * @param cache the cache to use
+		 * @return the current builder
+		 * @since 1.1.0
+		 */
+		SchemaResourceBuilder schemaResourceCache(SchemaResourceCache cache);
+
 	}
 
 }
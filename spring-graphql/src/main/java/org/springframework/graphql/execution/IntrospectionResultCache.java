@@ -0,0 +1,382 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.execution;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.parser.Parser;
+import graphql.schema.GraphQLSchema;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+
+/**
+ * Bounded, least recently used cache of results for introspection queries,
+ * i.e. queries that select {@code __schema} or {@code __type}, and optionally
+ * {@code __typename}, and nothing else at the top level, such as those sent
+ * by IDEs, gateways, and code generation tools. A cached result is returned without executing
+ * the query again, for as long as the schema remains the same instance.
+ *
+ * <p>Results are keyed by the document text, with whitespace normalized, the
+ * operation name, and the variables. Only results without errors are cached.
+ * The cache is bounded by the number of entries and by the total weight of
+ * cached results, where the weight of a result is an estimate of its size in
+ * characters.
+ *
+ * <p>A cached result is returned without executing the query, and therefore
+ * without {@link graphql.execution.instrumentation.Instrumentation} or data
+ * fetchers being invoked for the request. The same result instance is shared
+ * by all requests that hit the same entry, and must not be modified. Results
+ * are cached without {@link ExecutionResult#getExtensions() extensions}, so
+ * that values added for one request are not served to others. Do not use this
+ * cache if field visibility or instrumentation vary the introspection result
+ * per request, or if instrumentation needs to observe every request.
+ *
+ * @author agent
+ * @since 1.1.0
+ * @see DefaultExecutionGraphQlService#setIntrospectionResultCache(IntrospectionResultCache)
+ */
+public class IntrospectionResultCache {
+
+	private final int maxEntries;
+
+	private final long maxWeight;
+
+	private final Map<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	@Nullable
+	private GraphQLSchema schema;
+
+	private long weight;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+
+	/**
+	 * Create an instance.
+	 * @param maxEntries the maximum number of results to cache
+	 * @param maxWeight the maximum total estimated size of cached results,
+	 * in characters
+	 */
+	public IntrospectionResultCache(int maxEntries, long maxWeight) {
+		Assert.isTrue(maxEntries > 0, "'maxEntries' must be greater than 0");
+		Assert.isTrue(maxWeight > 0, "'maxWeight' must be greater than 0");
+		this.maxEntries = maxEntries;
+		this.maxWeight = maxWeight;
+	}
+
+
+	/**
+	 * Return the configured maximum number of entries.
+	 */
+	public int getMaxEntries() {
+		return this.maxEntries;
+	}
+
+	/**
+	 * Return the configured maximum total estimated size of cached results.
+	 */
+	public long getMaxWeight() {
+		return this.maxWeight;
+	}
+
+
+	/**
+	 * Return a key to cache the result of the given input with, or
+	 * {@code null} if it is not an introspection query.
+	 */
+	@Nullable
+	Object getCacheKey(ExecutionInput executionInput) {
+		String document = executionInput.getQuery();
+		if (!containsName(document, "__schema") && !containsName(document, "__type")) {
+			// Avoid parsing, e.g. for queries with __typename
+			return null;
+		}
+		CacheKey key = new CacheKey(normalize(document), executionInput.getOperationName(), executionInput.getVariables());
+		synchronized (this.entries) {
+			if (this.entries.containsKey(key)) {
+				// Only introspection queries are cached: no need to parse
+				return key;
+			}
+		}
+		return (isIntrospectionQuery(document) ? key : null);
+	}
+
+	/**
+	 * Whether the document contains the given name, and not only as part of a
+	 * longer name, e.g. {@code "__type"} but not {@code "__typename"}.
+	 */
+	private static boolean containsName(String document, String name) {
+		int index = document.indexOf(name);
+		while (index != -1) {
+			int end = index + name.length();
+			if ((index == 0 || !isNameChar(document.charAt(index - 1))) &&
+					(end == document.length() || !isNameChar(document.charAt(end)))) {
+				return true;
+			}
+			index = document.indexOf(name, end);
+		}
+		return false;
+	}
+
+	private static boolean isNameChar(char c) {
+		return ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_');
+	}
+
+	private static boolean isIntrospectionQuery(String document) {
+		Document parsed;
+		try {
+			parsed = new Parser().parseDocument(document);
+		}
+		catch (Exception ex) {
+			// Let execution report the error
+			return false;
+		}
+		boolean hasIntrospectionField = false;
+		for (OperationDefinition operation : parsed.getDefinitionsOfType(OperationDefinition.class)) {
+			if (operation.getOperation() != OperationDefinition.Operation.QUERY) {
+				return false;
+			}
+			for (Selection<?> selection : operation.getSelectionSet().getSelections()) {
+				if (!(selection instanceof Field) || !((Field) selection).getName().startsWith("__")) {
+					return false;
+				}
+				String name = ((Field) selection).getName();
+				hasIntrospectionField |= (name.equals("__schema") || name.equals("__type"));
+			}
+		}
+		return hasIntrospectionField;
+	}
+
+	/**
+	 * Collapse insignificant whitespace and commas, outside of string values.
+	 */
+	private static String normalize(String document) {
+		StringBuilder builder = new StringBuilder(document.length());
+		boolean whitespace = false;
+		boolean inString = false;
+		for (int i = 0; i < document.length(); i++) {
+			char c = document.charAt(i);
+			if (inString) {
+				builder.append(c);
+				if (c == '\\' && i + 1 < document.length()) {
+					builder.append(document.charAt(++i));
+				}
+				else if (c == '"') {
+					inString = false;
+				}
+				continue;
+			}
+			if (Character.isWhitespace(c) || c == ',') {
+				whitespace = true;
+				continue;
+			}
+			inString = (c == '"');
+			if (whitespace && builder.length() > 0) {
+				builder.append(' ');
+			}
+			whitespace = false;
+			builder.append(c);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Return the cached result for the given key, if any, and if it is for
+	 * the given schema instance.
+	 */
+	@Nullable
+	ExecutionResult get(GraphQLSchema schema, Object key) {
+		CacheEntry entry;
+		synchronized (this.entries) {
+			entry = (this.schema == schema ? this.entries.get(key) : null);
+		}
+		if (entry != null) {
+			this.hitCount.increment();
+			return entry.result;
+		}
+		this.missCount.increment();
+		return null;
+	}
+
+	/**
+	 * Cache the result for the given key, without extensions, if it has no
+	 * errors. All results for a different schema instance are removed.
+	 */
+	void put(GraphQLSchema schema, Object key, ExecutionResult result) {
+		if (!result.getErrors().isEmpty() || !result.isDataPresent()) {
+			return;
+		}
+		long entryWeight = estimateWeight(result.getData());
+		if (entryWeight > this.maxWeight) {
+			return;
+		}
+		synchronized (this.entries) {
+			if (this.schema != schema) {
+				this.entries.clear();
+				this.weight = 0;
+				this.schema = schema;
+			}
+			CacheEntry previous = this.entries.put((CacheKey) key, new CacheEntry(withoutExtensions(result), entryWeight));
+			this.weight += entryWeight - (previous != null ? previous.weight : 0);
+			Iterator<CacheEntry> iterator = this.entries.values().iterator();
+			while ((this.entries.size() > this.maxEntries || this.weight > this.maxWeight) && iterator.hasNext()) {
+				this.weight -= iterator.next().weight;
+				iterator.remove();
+			}
+		}
+	}
+
+	private static ExecutionResult withoutExtensions(ExecutionResult result) {
+		return (result.getExtensions() != null ?
+				ExecutionResultImpl.newExecutionResult().data(result.getData()).build() : result);
+	}
+
+	private static long estimateWeight(@Nullable Object value) {
+		if (value instanceof Map) {
+			long weight = 2;
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				weight += estimateWeight(entry.getKey()) + estimateWeight(entry.getValue()) + 2;
+			}
+			return weight;
+		}
+		else if (value instanceof Collection) {
+			long weight = 2;
+			for (Object element : (Collection<?>) value) {
+				weight += estimateWeight(element) + 1;
+			}
+			return weight;
+		}
+		else if (value instanceof CharSequence) {
+			return ((CharSequence) value).length() + 2;
+		}
+		return 8;
+	}
+
+	/**
+	 * Remove all cached results. Counters are not reset.
+	 */
+	public void clear() {
+		synchronized (this.entries) {
+			this.entries.clear();
+			this.weight = 0;
+			this.schema = null;
+		}
+	}
+
+	/**
+	 * Return the number of cached results.
+	 */
+	public int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	/**
+	 * Return the total estimated size of currently cached results.
+	 */
+	public long getWeight() {
+		synchronized (this.entries) {
+			return this.weight;
+		}
+	}
+
+	/**
+	 * Return the number of times a result was found in the cache.
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Return the number of times an introspection query had to be executed.
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+
+	private static final class CacheKey {
+
+		private final String document;
+
+		@Nullable
+		private final String operationName;
+
+		private final Map<String, Object> variables;
+
+		private final int hashCode;
+
+		CacheKey(String document, @Nullable String operationName, Map<String, Object> variables) {
+			this.document = document;
+			this.operationName = operationName;
+			this.variables = variables;
+			this.hashCode = Objects.hash(document, operationName, variables);
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey otherKey = (CacheKey) other;
+			return (this.document.equals(otherKey.document) &&
+					Objects.equals(this.operationName, otherKey.operationName) &&
+					this.variables.equals(otherKey.variables));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+	}
+
+
+	private static final class CacheEntry {
+
+		private final ExecutionResult result;
+
+		private final long weight;
+
+		CacheEntry(ExecutionResult result, long weight) {
+			this.result = result;
+			this.weight = weight;
+		}
+
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.execution;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link DataLoaderRegistry} that creates {@link DataLoader}s on first lookup
+ * by name, so that a request creates only the {@code DataLoader}s it uses.
+ *
+ * <p>{@link #getDataLoaders()} and {@link #getDataLoadersMap()} return only
+ * the {@code DataLoader}s created so far. This is what dispatching needs,
+ * since a {@code DataLoader} that was never looked up has no keys to load.
+ * {@link #getKeys()} returns the names of all registered {@code DataLoader}s.
+ *
+ * @author agent
+ * @since 1.1.0
+ */
+class LazyDataLoaderRegistry extends DataLoaderRegistry {
+
+	private final Map<String, Function<String, DataLoader<?, ?>>> factories = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Create an instance with the {@code DataLoader}s of the given registry.
+	 */
+	LazyDataLoaderRegistry(DataLoaderRegistry registry) {
+		registry.getDataLoadersMap().forEach(this::register);
+	}
+
+
+	/**
+	 * Register a factory for a {@code DataLoader} to create on first lookup.
+	 * @param name the name of the {@code DataLoader}
+	 * @param factory the factory to create the {@code DataLoader} with
+	 * @throws IllegalStateException if the name is already registered
+	 */
+	void registerFactory(String name, Function<String, DataLoader<?, ?>> factory) {
+		if (super.getDataLoader(name) != null || this.factories.putIfAbsent(name, factory) != null) {
+			throw new IllegalStateException("More than one DataLoader named '" + name + "'");
+		}
+	}
+
+	@Override
+	@Nullable
+	public <K, V> DataLoader<K, V> getDataLoader(String key) {
+		Function<String, DataLoader<?, ?>> factory = this.factories.get(key);
+		return (factory != null ? computeIfAbsent(key, factory) : super.getDataLoader(key));
+	}
+
+	@Override
+	public Set<String> getKeys() {
+		Set<String> keys = new LinkedHashSet<>(super.getKeys());
+		keys.addAll(this.factories.keySet());
+		return keys;
+	}
+
+	@Override
+	public DataLoaderRegistry unregister(String key) {
+		this.factories.remove(key);
+		return super.unregister(key);
+	}
+
+}
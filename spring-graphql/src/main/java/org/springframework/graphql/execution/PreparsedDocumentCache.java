@@ -0,0 +1,274 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.execution;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+
+/**
+ * {@link PreparsedDocumentProvider} that keeps a bounded, least recently used
+ * cache of parsed and validated documents, keyed by the document text and the
+ * operation name. This allows skipping parsing and validation for documents
+ * that have been seen before.
+ *
+ * <p>The cache is bounded by the number of entries and, optionally, by the
+ * total weight of the cached entries, where the weight of an entry is the
+ * length of its document text. Least recently used entries are evicted first
+ * when either limit is exceeded.
+ *
+ * <p>Validation depends on the schema. When a {@link GraphQlSource} builder
+ * with a cache is built more than once, e.g. to reload the schema, cached
+ * documents are removed once the last built {@code GraphQL} starts to use
+ * the cache, and {@code GraphQL} instances built earlier no longer use it.
+ * An instance must not otherwise be shared across schemas.
+ *
+ * @author agent
+ * @since 1.1.0
+ * @see GraphQlSource.Builder#preparsedDocumentCache(PreparsedDocumentCache)
+ */
+public class PreparsedDocumentCache implements PreparsedDocumentProvider {
+
+	private final int maxEntries;
+
+	private final long maxWeight;
+
+	private final Map<CacheKey, PreparsedDocumentEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long weight;
+
+	private final AtomicLong lastSchemaVersion = new AtomicLong();
+
+	/** The version of the schema of the cached documents, guarded by "entries". */
+	private long schemaVersion;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+
+	/**
+	 * Create an instance bounded by the number of entries only.
+	 * @param maxEntries the maximum number of documents to cache
+	 */
+	public PreparsedDocumentCache(int maxEntries) {
+		this(maxEntries, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Create an instance bounded by the number of entries and by the total
+	 * length of cached document text.
+	 * @param maxEntries the maximum number of documents to cache
+	 * @param maxWeight the maximum total length of cached document text
+	 */
+	public PreparsedDocumentCache(int maxEntries, long maxWeight) {
+		Assert.isTrue(maxEntries > 0, "'maxEntries' must be greater than 0");
+		Assert.isTrue(maxWeight > 0, "'maxWeight' must be greater than 0");
+		this.maxEntries = maxEntries;
+		this.maxWeight = maxWeight;
+	}
+
+
+	/**
+	 * Return the configured maximum number of entries.
+	 */
+	public int getMaxEntries() {
+		return this.maxEntries;
+	}
+
+	/**
+	 * Return the configured maximum total length of cached document text.
+	 */
+	public long getMaxWeight() {
+		return this.maxWeight;
+	}
+
+
+	@Override
+	public PreparsedDocumentEntry getDocument(
+			ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+
+		return getDocument(-1, executionInput, parseAndValidateFunction);
+	}
+
+	/**
+	 * Return a {@link PreparsedDocumentProvider} for a {@code GraphQL} instance
+	 * built with a new, and possibly different schema.
+	 */
+	PreparsedDocumentProvider forNewSchema() {
+		long version = this.lastSchemaVersion.incrementAndGet();
+		return (executionInput, parseAndValidateFunction) ->
+				getDocument(version, executionInput, parseAndValidateFunction);
+	}
+
+	private PreparsedDocumentEntry getDocument(long version,
+			ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+
+		CacheKey key = new CacheKey(executionInput.getQuery(), executionInput.getOperationName());
+
+		PreparsedDocumentEntry entry;
+		boolean previousSchema;
+		synchronized (this.entries) {
+			if (version > this.schemaVersion) {
+				this.entries.clear();
+				this.weight = 0;
+				this.schemaVersion = version;
+			}
+			previousSchema = (version != -1 && version < this.schemaVersion);
+			entry = (!previousSchema ? this.entries.get(key) : null);
+		}
+		if (previousSchema) {
+			// Built before the current schema: do not use the cache
+			return parseAndValidateFunction.apply(executionInput);
+		}
+		if (entry != null) {
+			this.hitCount.increment();
+			return entry;
+		}
+
+		this.missCount.increment();
+		entry = parseAndValidateFunction.apply(executionInput);
+		put(version, key, entry);
+		return entry;
+	}
+
+	private void put(long version, CacheKey key, PreparsedDocumentEntry entry) {
+		int entryWeight = key.weight();
+		if (entryWeight > this.maxWeight) {
+			return;
+		}
+		synchronized (this.entries) {
+			if (version != -1 && version != this.schemaVersion) {
+				return;
+			}
+			if (this.entries.put(key, entry) == null) {
+				this.weight += entryWeight;
+			}
+			Iterator<CacheKey> iterator = this.entries.keySet().iterator();
+			while ((this.entries.size() > this.maxEntries || this.weight > this.maxWeight) && iterator.hasNext()) {
+				CacheKey eldest = iterator.next();
+				iterator.remove();
+				this.weight -= eldest.weight();
+				this.evictionCount.increment();
+			}
+		}
+	}
+
+	/**
+	 * Remove all cached documents. Counters are not reset.
+	 */
+	public void clear() {
+		synchronized (this.entries) {
+			this.entries.clear();
+			this.weight = 0;
+		}
+	}
+
+	/**
+	 * Return the number of cached documents.
+	 */
+	public int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	/**
+	 * Return the total length of currently cached document text.
+	 */
+	public long getWeight() {
+		synchronized (this.entries) {
+			return this.weight;
+		}
+	}
+
+	/**
+	 * Return the number of times a document was found in the cache.
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Return the number of times a document had to be parsed and validated.
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Return the number of documents evicted to stay within the configured bounds.
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+
+	private static final class CacheKey {
+
+		private final String document;
+
+		@Nullable
+		private final String operationName;
+
+		private final int hashCode;
+
+		CacheKey(String document, @Nullable String operationName) {
+			this.document = document;
+			this.operationName = operationName;
+			this.hashCode = 31 * document.hashCode() + Objects.hashCode(operationName);
+		}
+
+		int weight() {
+			return this.document.length();
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey otherKey = (CacheKey) other;
+			return (this.document.equals(otherKey.document) &&
+					Objects.equals(this.operationName, otherKey.operationName));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+	}
+
+}
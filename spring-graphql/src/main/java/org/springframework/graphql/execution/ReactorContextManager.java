@@ -19,6 +19,7 @@ package org.springframework.graphql.execution;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 
 import graphql.GraphQLContext;
 import reactor.util.context.Context;
@@ -40,7 +41,7 @@ import org.springframework.util.Assert;
  */
 public abstract class ReactorContextManager {
 
-	private static final String CONTEXT_VIEW_KEY = ReactorContextManager.class.getName() + ".CONTEXT_VIEW";
+	private static final String CONTEXT_SNAPSHOT_KEY = ReactorContextManager.class.getName() + ".CONTEXT_SNAPSHOT";
 
 	private static final String THREAD_ID = ReactorContextManager.class.getName() + ".THREAD_ID";
 
@@ -54,7 +55,7 @@ public abstract class ReactorContextManager {
 	 * @param graphQLContext the {@code GraphQLContext} where to save
 	 */
 	static void setReactorContext(ContextView contextView, GraphQLContext graphQLContext) {
-		graphQLContext.put(CONTEXT_VIEW_KEY, contextView);
+		graphQLContext.put(CONTEXT_SNAPSHOT_KEY, new ContextSnapshot(contextView));
 	}
 
 	/**
@@ -63,8 +64,19 @@ public abstract class ReactorContextManager {
 	 * @return the reactor {@link ContextView}
 	 */
 	static ContextView getReactorContext(GraphQLContext graphQlContext) {
+		return getContextSnapshot(graphQlContext).getContextView();
+	}
+
+	/**
+	 * Return the {@link ContextSnapshot} saved in the given {@link GraphQLContext},
+	 * which gives access to the Reactor context and ThreadLocal values with
+	 * a single lookup.
+	 * @param graphQlContext the GraphQLContext for the request
+	 * @return the snapshot, possibly empty
+	 */
+	static ContextSnapshot getContextSnapshot(GraphQLContext graphQlContext) {
 		Assert.notNull(graphQlContext, "GraphQLContext is required");
-		return graphQlContext.getOrDefault(CONTEXT_VIEW_KEY, Context.empty());
+		return graphQlContext.getOrDefault(CONTEXT_SNAPSHOT_KEY, ContextSnapshot.EMPTY);
 	}
 
 	/**
@@ -98,14 +110,7 @@ public abstract class ReactorContextManager {
 	 * @return the return value from the invocation
 	 */
 	public static <T> T invokeCallable(Callable<T> callable, GraphQLContext graphQlContext) throws Exception {
-		ContextView contextView = getReactorContext(graphQlContext);
-		try {
-			ReactorContextManager.restoreThreadLocalValues(contextView);
-			return callable.call();
-		}
-		finally {
-			ReactorContextManager.resetThreadLocalValues(contextView);
-		}
+		return getContextSnapshot(graphQlContext).invokeCallable(callable);
 	}
 
 	/**
@@ -138,4 +143,87 @@ public abstract class ReactorContextManager {
 		return (id != null && id != Thread.currentThread().getId() ? view.get(THREAD_LOCAL_ACCESSOR_KEY) : null);
 	}
 
+
+	/**
+	 * Reactor context and ThreadLocal values for a request, looked up once
+	 * when the request is saved, rather than for every data fetcher.
+	 */
+	static final class ContextSnapshot {
+
+		static final ContextSnapshot EMPTY = new ContextSnapshot(Context.empty());
+
+		private final ContextView contextView;
+
+		@Nullable
+		private final ThreadLocalAccessor accessor;
+
+		@Nullable
+		private final Map<String, Object> threadLocalValues;
+
+		private final long threadId;
+
+		ContextSnapshot(ContextView contextView) {
+			this.contextView = contextView;
+			this.accessor = contextView.getOrDefault(THREAD_LOCAL_ACCESSOR_KEY, null);
+			this.threadLocalValues = contextView.getOrDefault(THREAD_LOCAL_VALUES_KEY, null);
+			this.threadId = contextView.getOrDefault(THREAD_ID, -1L);
+		}
+
+		ContextView getContextView() {
+			return this.contextView;
+		}
+
+		/**
+		 * Whether there are ThreadLocal values, extracted on a thread other
+		 * than the current one, that need to be restored.
+		 */
+		boolean requiresRestore() {
+			return (this.accessor != null && this.threadId != Thread.currentThread().getId());
+		}
+
+		/**
+		 * Invoke the given {@code Callable}, restoring ThreadLocal values
+		 * around it, if necessary.
+		 */
+		<T> T invokeCallable(Callable<T> callable) throws Exception {
+			if (!requiresRestore()) {
+				return callable.call();
+			}
+			try {
+				restoreValues();
+				return callable.call();
+			}
+			finally {
+				resetValues();
+			}
+		}
+
+		/**
+		 * Variant of {@link #invokeCallable(Callable)} for a {@code Supplier}.
+		 */
+		<T> T invokeSupplier(Supplier<T> supplier) {
+			if (!requiresRestore()) {
+				return supplier.get();
+			}
+			try {
+				restoreValues();
+				return supplier.get();
+			}
+			finally {
+				resetValues();
+			}
+		}
+
+		@SuppressWarnings("ConstantConditions")
+		private void restoreValues() {
+			this.accessor.restoreValues(this.threadLocalValues);
+		}
+
+		@SuppressWarnings("ConstantConditions")
+		private void resetValues() {
+			this.accessor.resetValues(this.threadLocalValues);
+		}
+
+	}
+
 }
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.execution;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import graphql.ExecutionInput;
+import graphql.GraphQL;
+import graphql.ParseAndValidate;
+import graphql.ParseAndValidateResult;
+import graphql.schema.GraphQLSchema;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.util.Assert;
+
+
+/**
+ * {@link GraphQlSource} that delegates to a {@code GraphQlSource} created
+ * from a factory, typically {@link GraphQlSource.Builder#build()}, and that
+ * can be {@link #reload() reloaded} to pick up changes to schema resources
+ * or to wiring, without a restart. Reloads are not triggered automatically,
+ * and applications call {@link #reload()} when they detect a change.
+ *
+ * <p>A reload creates a new {@code GraphQlSource} in the background, while
+ * the current one remains in use, and then replaces it atomically. Requests
+ * use the {@link GraphQL} instance they started with until they complete,
+ * so in-flight executions and subscriptions finish on the previous schema.
+ * If creating the new {@code GraphQlSource} fails, the current one remains
+ * in use.
+ *
+ * <p>Before the new {@code GraphQlSource} is put in use, operations passed to
+ * {@link #recordOperation(String)} are parsed and validated against the new
+ * schema, which helps to detect operations that clients use and that are
+ * no longer valid. Operations are not executed.
+ *
+ * @author agent
+ * @since 1.1.0
+ */
+public class ReloadableGraphQlSource implements GraphQlSource {
+
+	private static final Log logger = LogFactory.getLog(ReloadableGraphQlSource.class);
+
+
+	private final Supplier<GraphQlSource> graphQlSourceFactory;
+
+	private volatile GraphQlSource graphQlSource;
+
+	private Executor executor = (task) -> Schedulers.boundedElastic().schedule(task);
+
+	private int maxRecordedOperations = 100;
+
+	private final Set<String> recordedOperations = new LinkedHashSet<>();
+
+	private CompletableFuture<GraphQlSource> lastReload;
+
+
+	/**
+	 * Create an instance, and the initial {@code GraphQlSource}.
+	 * @param graphQlSourceFactory factory to create a {@code GraphQlSource}
+	 * with, on startup and on each reload
+	 */
+	public ReloadableGraphQlSource(Supplier<GraphQlSource> graphQlSourceFactory) {
+		Assert.notNull(graphQlSourceFactory, "GraphQlSource factory is required");
+		this.graphQlSourceFactory = graphQlSourceFactory;
+		this.graphQlSource = graphQlSourceFactory.get();
+		this.lastReload = CompletableFuture.completedFuture(this.graphQlSource);
+	}
+
+
+	/**
+	 * Configure the {@link Executor} to create the new {@code GraphQlSource}
+	 * on when reloading.
+	 * <p>By default, this is Reactor's {@link Schedulers#boundedElastic()}.
+	 * @param executor the executor to use
+	 */
+	public void setExecutor(Executor executor) {
+		Assert.notNull(executor, "Executor is required");
+		this.executor = executor;
+	}
+
+	/**
+	 * Configure the maximum number of operations to keep, from those passed
+	 * to {@link #recordOperation(String)}, with least recently recorded
+	 * operations removed first.
+	 * <p>By default, this is 100.
+	 * @param maxRecordedOperations the maximum number of operations
+	 */
+	public void setMaxRecordedOperations(int maxRecordedOperations) {
+		Assert.isTrue(maxRecordedOperations >= 0, "'maxRecordedOperations' must not be negative");
+		this.maxRecordedOperations = maxRecordedOperations;
+	}
+
+
+	@Override
+	public GraphQL graphQl() {
+		return this.graphQlSource.graphQl();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p><strong>Note:</strong> use {@code graphQl().getGraphQLSchema()} for
+	 * the schema of a given {@code GraphQL} instance, since the schema may
+	 * change between calls to {@link #graphQl()} and this method.
+	 */
+	@Override
+	public GraphQLSchema schema() {
+		return this.graphQlSource.schema();
+	}
+
+	/**
+	 * Record an operation to parse and validate against the schema before it
+	 * is put in use on a reload, e.g. from a
+	 * {@code WebGraphQlInterceptor} for each request document.
+	 * @param document the operation document
+	 */
+	public void recordOperation(String document) {
+		synchronized (this.recordedOperations) {
+			this.recordedOperations.remove(document);
+			this.recordedOperations.add(document);
+			Iterator<String> iterator = this.recordedOperations.iterator();
+			while (this.recordedOperations.size() > this.maxRecordedOperations && iterator.hasNext()) {
+				iterator.next();
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Return the currently recorded operations, least recently recorded first.
+	 */
+	public List<String> getRecordedOperations() {
+		synchronized (this.recordedOperations) {
+			return new ArrayList<>(this.recordedOperations);
+		}
+	}
+
+	/**
+	 * Create a new {@code GraphQlSource} in the background, and put it in use
+	 * once created. Reloads are performed one at a time, in the order they
+	 * are requested, so the last reload reflects all changes made before it
+	 * was requested.
+	 * @return completes with the new {@code GraphQlSource} once it is in use,
+	 * or with the error from creating it
+	 */
+	public CompletableFuture<GraphQlSource> reload() {
+		synchronized (this) {
+			CompletableFuture<GraphQlSource> reload = this.lastReload
+					.handle((source, ex) -> null)
+					.thenApplyAsync((result) -> createGraphQlSource(), this.executor);
+			this.lastReload = reload;
+			return reload;
+		}
+	}
+
+	private GraphQlSource createGraphQlSource() {
+		GraphQlSource source;
+		try {
+			source = this.graphQlSourceFactory.get();
+		}
+		catch (RuntimeException ex) {
+			logger.error("Failed to reload GraphQlSource, continuing with the current schema", ex);
+			throw ex;
+		}
+		warmUp(source.graphQl().getGraphQLSchema());
+		this.graphQlSource = source;
+		if (logger.isDebugEnabled()) {
+			logger.debug("Reloaded GraphQlSource");
+		}
+		return source;
+	}
+
+	private void warmUp(GraphQLSchema schema) {
+		int invalidCount = 0;
+		for (String document : getRecordedOperations()) {
+			ExecutionInput executionInput = ExecutionInput.newExecutionInput(document).build();
+			ParseAndValidateResult result = ParseAndValidate.parseAndValidate(schema, executionInput);
+			if (result.isFailure()) {
+				invalidCount++;
+				if (logger.isTraceEnabled()) {
+					logger.trace("Recorded operation is not valid for the reloaded schema: " + result.getErrors());
+				}
+			}
+		}
+		if (invalidCount > 0 && logger.isWarnEnabled()) {
+			logger.warn(invalidCount + " recorded operation(s) are not valid for the reloaded schema");
+		}
+	}
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.execution;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import graphql.schema.idl.TypeDefinitionRegistry;
+
+import org.springframework.util.Assert;
+import org.springframework.util.DigestUtils;
+
+
+/**
+ * Bounded, least recently used cache of parsed schema resources, keyed by a
+ * hash of their content. Use this to skip parsing schema resources that have
+ * not changed when a {@link GraphQlSource} is built more than once in the same
+ * JVM, typically when the schema is reloaded through
+ * {@link ReloadableGraphQlSource}.
+ *
+ * <p>Cached {@link TypeDefinitionRegistry} instances are not modified. They
+ * are merged into a new registry every time a schema is built.
+ *
+ * @author agent
+ * @since 1.1.0
+ * @see GraphQlSource.SchemaResourceBuilder#schemaResourceCache(SchemaResourceCache)
+ */
+public class SchemaResourceCache {
+
+	private final int maxEntries;
+
+	private final Map<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+
+	/**
+	 * Create an instance.
+	 * @param maxEntries the maximum number of parsed resources to cache
+	 */
+	public SchemaResourceCache(int maxEntries) {
+		Assert.isTrue(maxEntries > 0, "'maxEntries' must be greater than 0");
+		this.maxEntries = maxEntries;
+	}
+
+
+	/**
+	 * Return the configured maximum number of entries.
+	 */
+	public int getMaxEntries() {
+		return this.maxEntries;
+	}
+
+
+	/**
+	 * Return the cached registry for the given resource content, or parse it
+	 * with the given function, and cache the result.
+	 */
+	TypeDefinitionRegistry getRegistry(byte[] content, Function<byte[], TypeDefinitionRegistry> parser) {
+		String key = DigestUtils.md5DigestAsHex(content);
+		CacheEntry entry;
+		synchronized (this.entries) {
+			entry = this.entries.get(key);
+		}
+		if (entry != null && Arrays.equals(entry.content, content)) {
+			this.hitCount.increment();
+			return entry.registry;
+		}
+		this.missCount.increment();
+		TypeDefinitionRegistry registry = parser.apply(content);
+		synchronized (this.entries) {
+			this.entries.put(key, new CacheEntry(content, registry));
+			Iterator<CacheEntry> iterator = this.entries.values().iterator();
+			while (this.entries.size() > this.maxEntries && iterator.hasNext()) {
+				iterator.next();
+				iterator.remove();
+			}
+		}
+		return registry;
+	}
+
+	/**
+	 * Remove all cached resources. Counters are not reset.
+	 */
+	public void clear() {
+		synchronized (this.entries) {
+			this.entries.clear();
+		}
+	}
+
+	/**
+	 * Return the number of cached resources.
+	 */
+	public int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	/**
+	 * Return the number of times a parsed resource was found in the cache.
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Return the number of times a resource had to be parsed.
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+
+	private static final class CacheEntry {
+
+		private final byte[] content;
+
+		private final TypeDefinitionRegistry registry;
+
+		CacheEntry(byte[] content, TypeDefinitionRegistry registry) {
+			this.content = content;
+			this.registry = registry;
+		}
+
+	}
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.execution;
+
+import java.util.function.Consumer;
+
+import org.dataloader.DataLoaderRegistry;
+
+/**
+ * {@link DataLoaderRegistry} to share across several requests, e.g. the
+ * operations of a batched HTTP request, so that {@code DataLoader} keys are
+ * batched and cached across the requests.
+ *
+ * <p>When this registry is set on the {@link graphql.ExecutionInput} of a
+ * request, {@link DefaultExecutionGraphQlService} registers
+ * {@code DataLoader}s in it for the first request only, and uses it as is for
+ * the rest, rather than creating a new registry for each request. As a result,
+ * batch loaders see the {@link graphql.GraphQLContext} of the first request.
+ *
+ * <p>The {@code DataLoader} cache is shared by all requests, including
+ * mutations, so a query may see values loaded before a mutation in another
+ * request changed them.
+ *
+ * @author agent
+ * @since 1.1.0
+ */
+public class SharedDataLoaderRegistry extends DataLoaderRegistry {
+
+	private boolean initialized;
+
+
+	/**
+	 * Invoke the given callback to register {@code DataLoader}s, if this is
+	 * the first time the method is called.
+	 * @param initializer callback to register {@code DataLoader}s with
+	 */
+	public synchronized void initialize(Consumer<DataLoaderRegistry> initializer) {
+		if (!this.initialized) {
+			initializer.accept(this);
+			this.initialized = true;
+		}
+	}
+
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.execution;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.dataloader.ValueCache;
+import reactor.core.publisher.Mono;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+
+/**
+ * {@link ValueCache} shared across requests, for a batch loader registered
+ * through {@link BatchLoaderRegistry.RegistrationSpec#withSharedCache(SharedValueCache)}.
+ * Values found in the cache are not passed to the batch loading function, and
+ * values it loads are cached for subsequent requests.
+ *
+ * <p>The cache is bounded by the number of entries, with least recently used
+ * entries evicted first, and entries expire after a fixed time to live.
+ * While a key is being loaded, batch loads for the same key from other
+ * requests wait for that load rather than loading it again.
+ *
+ * <p>Use {@link #invalidate(Object)} and {@link #invalidateAll()} when the
+ * underlying data changes. Note that {@link org.dataloader.DataLoader#clear}
+ * and {@link org.dataloader.DataLoader#clearAll()} also invalidate entries
+ * in this cache.
+ *
+ * @author agent
+ * @since 1.1.0
+ * @param <K> the type of key
+ * @param <V> the type of value
+ */
+public class SharedValueCache<K, V> implements ValueCache<K, V> {
+
+	private static final CompletableFuture<?> MISS = CompletableFuture.failedFuture(new CacheMissException());
+
+
+	private final int maxEntries;
+
+	private final long timeToLiveNanos;
+
+	private final Map<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+
+	/**
+	 * Create an instance.
+	 * @param maxEntries the maximum number of values to cache
+	 * @param timeToLive how long a value remains in the cache
+	 */
+	public SharedValueCache(int maxEntries, Duration timeToLive) {
+		Assert.isTrue(maxEntries > 0, "'maxEntries' must be greater than 0");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "'timeToLive' must be positive");
+		this.maxEntries = maxEntries;
+		this.timeToLiveNanos = timeToLive.toNanos();
+	}
+
+
+	/**
+	 * Return the configured maximum number of entries.
+	 */
+	public int getMaxEntries() {
+		return this.maxEntries;
+	}
+
+	/**
+	 * Return the configured time to live for entries.
+	 */
+	public Duration getTimeToLive() {
+		return Duration.ofNanos(this.timeToLiveNanos);
+	}
+
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public CompletableFuture<V> get(K key) {
+		V value = getValue(key);
+		if (value != null) {
+			this.hitCount.increment();
+			return CompletableFuture.completedFuture(value);
+		}
+		this.missCount.increment();
+		return (CompletableFuture<V>) MISS;
+	}
+
+	@Nullable
+	private V getValue(K key) {
+		synchronized (this.entries) {
+			Entry<V> entry = this.entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (entry.isExpired(System.nanoTime())) {
+				this.entries.remove(key);
+				return null;
+			}
+			return entry.value;
+		}
+	}
+
+	@Override
+	public CompletableFuture<V> set(K key, V value) {
+		put(key, value);
+		return CompletableFuture.completedFuture(value);
+	}
+
+	@Override
+	public CompletableFuture<Void> delete(K key) {
+		invalidate(key);
+		return CompletableFuture.completedFuture(null);
+	}
+
+	@Override
+	public CompletableFuture<Void> clear() {
+		invalidateAll();
+		return CompletableFuture.completedFuture(null);
+	}
+
+	private void put(K key, @Nullable V value) {
+		if (value == null) {
+			return;
+		}
+		Entry<V> entry = new Entry<>(value, System.nanoTime() + this.timeToLiveNanos);
+		synchronized (this.entries) {
+			this.entries.put(key, entry);
+			Iterator<K> iterator = this.entries.keySet().iterator();
+			while (this.entries.size() > this.maxEntries && iterator.hasNext()) {
+				iterator.next();
+				iterator.remove();
+				this.evictionCount.increment();
+			}
+		}
+	}
+
+	/**
+	 * Load values through the given batch loading function, for keys that are
+	 * not already being loaded for another request, and wait for the rest.
+	 * Keys whose load for another request fails are loaded again, together,
+	 * in a single further invocation of the batch loading function.
+	 * Loaded values are cached, except for {@code null} values.
+	 * @param keys the keys to load
+	 * @param loader the batch loading function
+	 * @return the loaded values, without entries for missing values
+	 */
+	Mono<Map<K, V>> load(Collection<K> keys, Function<List<K>, Mono<Map<K, V>>> loader) {
+		List<K> ownKeys = new ArrayList<>(keys.size());
+		Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>(keys.size());
+		for (K key : keys) {
+			if (!futures.containsKey(key)) {
+				CompletableFuture<V> future = new CompletableFuture<>();
+				CompletableFuture<V> existing = this.loading.putIfAbsent(key, future);
+				if (existing == null) {
+					ownKeys.add(key);
+				}
+				futures.put(key, (existing != null ? existing : future));
+			}
+		}
+		Mono<Void> ownLoad = (ownKeys.isEmpty() ? Mono.empty() :
+				Mono.defer(() -> loader.apply(ownKeys))
+						.defaultIfEmpty(Collections.emptyMap())
+						.doOnNext(values -> ownKeys.forEach(key -> loadCompleted(key, values.get(key))))
+						.doOnError(ex -> ownKeys.forEach(key -> loadFailed(key, ex)))
+						.doOnCancel(() -> ownKeys.forEach(key -> loadFailed(key, new CancellationException())))
+						.then());
+		CompletableFuture<Void> allLoaded = CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]));
+		return ownLoad
+				.then(Mono.fromFuture(allLoaded).onErrorResume(ex -> Mono.empty()))
+				.then(Mono.defer(() -> collectValues(futures, loader)));
+	}
+
+	private Mono<Map<K, V>> collectValues(
+			Map<K, CompletableFuture<V>> futures, Function<List<K>, Mono<Map<K, V>>> loader) {
+
+		Map<K, V> values = new LinkedHashMap<>(futures.size());
+		List<K> failedKeys = new ArrayList<>();
+		futures.forEach((key, future) -> {
+			if (future.isCompletedExceptionally()) {
+				failedKeys.add(key);
+			}
+			else {
+				V value = future.join();
+				if (value != null) {
+					values.put(key, value);
+				}
+			}
+		});
+		if (failedKeys.isEmpty()) {
+			return Mono.just(values);
+		}
+		// Loads for other requests failed: load those keys here, in one batch
+		return loader.apply(failedKeys)
+				.defaultIfEmpty(Collections.emptyMap())
+				.map(reloadedValues -> {
+					for (K key : failedKeys) {
+						V value = reloadedValues.get(key);
+						if (value != null) {
+							put(key, value);
+							values.put(key, value);
+						}
+					}
+					return values;
+				});
+	}
+
+	private void loadCompleted(K key, @Nullable V value) {
+		put(key, value);
+		CompletableFuture<V> future = this.loading.remove(key);
+		if (future != null) {
+			future.complete(value);
+		}
+	}
+
+	private void loadFailed(K key, Throwable ex) {
+		CompletableFuture<V> future = this.loading.remove(key);
+		if (future != null) {
+			future.completeExceptionally(ex);
+		}
+	}
+
+	/**
+	 * Remove the value for the given key.
+	 * @param key the key to remove
+	 */
+	public void invalidate(K key) {
+		synchronized (this.entries) {
+			this.entries.remove(key);
+		}
+	}
+
+	/**
+	 * Remove all values. Counters are not reset.
+	 */
+	public void invalidateAll() {
+		synchronized (this.entries) {
+			this.entries.clear();
+		}
+	}
+
+	/**
+	 * Return the number of cached values, including expired values that have
+	 * not yet been removed.
+	 */
+	public int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	/**
+	 * Return the number of times a value was found in the cache.
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Return the number of times a value was not found in the cache.
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Return the number of values evicted to stay within the maximum number
+	 * of entries.
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+
+	private static final class Entry<V> {
+
+		private final V value;
+
+		private final long expirationTime;
+
+		Entry(V value, long expirationTime) {
+			this.value = value;
+			this.expirationTime = expirationTime;
+		}
+
+		boolean isExpired(long now) {
+			return (now - this.expirationTime >= 0);
+		}
+
+	}
+
+
+	/**
+	 * Signals to {@code DataLoader} that a value was not found in the cache.
+	 */
+	@SuppressWarnings("serial")
+	private static final class CacheMissException extends RuntimeException {
+
+		CacheMissException() {
+			super("Value not in cache", null, false, false);
+		}
+
+	}
+
+}
@@ -29,6 +29,8 @@ import org.springframework.graphql.server.WebGraphQlInterceptor.Chain;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebInputException;
 
 
 /**
@@ -89,7 +91,14 @@ class DefaultWebGraphQlHandlerBuilder implements WebGraphQlHandler.Builder {
 	@Override
 	public WebGraphQlHandler build() {
 
-		Chain endOfChain = request -> this.service.execute(request).map(WebGraphQlResponse::new);
+		Chain endOfChain = request -> {
+			if (!StringUtils.hasText(request.getDocument()) &&
+					!StringUtils.hasText(request.toExecutionInput().getQuery())) {
+				// Persisted query extension, but not resolved by an interceptor
+				return Mono.error(new ServerWebInputException("No \"query\" in the request document"));
+			}
+			return this.service.execute(request).map(WebGraphQlResponse::new);
+		};
 
 		Chain executionChain = this.interceptors.stream()
 				.reduce(WebGraphQlInterceptor::andThen)
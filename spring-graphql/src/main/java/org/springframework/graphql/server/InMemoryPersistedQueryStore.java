@@ -0,0 +1,79 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.server;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link PersistedQueryStore} that keeps documents in memory, evicting the
+ * least recently used ones once the maximum number of entries is reached.
+ *
+ * @author agent
+ * @since 1.1.0
+ */
+public class InMemoryPersistedQueryStore implements PersistedQueryStore {
+
+	private final Map<String, String> documents;
+
+
+	/**
+	 * Create an instance that holds up to 1000 documents.
+	 */
+	public InMemoryPersistedQueryStore() {
+		this(1000);
+	}
+
+	/**
+	 * Create an instance that holds up to the given number of documents.
+	 * @param maxEntries the maximum number of documents to hold
+	 */
+	public InMemoryPersistedQueryStore(int maxEntries) {
+		Assert.isTrue(maxEntries > 0, "'maxEntries' must be greater than 0");
+		this.documents = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+				return (size() > maxEntries);
+			}
+		};
+	}
+
+
+	@Override
+	public Mono<String> getDocument(String hash) {
+		return Mono.fromSupplier(() -> {
+			synchronized (this.documents) {
+				return this.documents.get(hash);
+			}
+		});
+	}
+
+	@Override
+	public Mono<Void> saveDocument(String hash, String document) {
+		return Mono.fromRunnable(() -> {
+			synchronized (this.documents) {
+				this.documents.put(hash, document);
+			}
+		});
+	}
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.server;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import reactor.core.publisher.Mono;
+
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.graphql.server.support.OperationTypeUtils;
+import org.springframework.graphql.support.DefaultExecutionGraphQlResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link WebGraphQlInterceptor} that supports automatic persisted queries as
+ * defined by the {@code "persistedQuery"} request extension, e.g.:
+ * <pre class="code">
+ * {"extensions": {"persistedQuery": {"version": 1, "sha256Hash": "..."}}}
+ * </pre>
+ *
+ * <p>When a request has only the hash, the document is looked up in the
+ * {@link PersistedQueryStore}, and if it is not found, the response has a
+ * {@code "PersistedQueryNotFound"} error, which instructs the client to send
+ * the request again with both the hash and the document. When a request has
+ * both, the hash is verified and the document is saved for subsequent requests.
+ *
+ * <p>Documents are saved regardless of their operation type. A hash only
+ * request sent over HTTP GET is rejected if the stored document has mutation
+ * or subscription operations, in the same way that the HTTP handlers reject
+ * such documents sent with GET. Whether a stored document has query
+ * operations only is decided once per hash, and then remembered.
+ *
+ * @author agent
+ * @since 1.1.0
+ */
+public class PersistedQueryInterceptor implements WebGraphQlInterceptor {
+
+	private static final String PERSISTED_QUERY_KEY = "persistedQuery";
+
+	private static final int QUERY_OPERATIONS_ONLY_CACHE_LIMIT = 1000;
+
+
+	private final PersistedQueryStore store;
+
+	private final Map<String, Boolean> queryOperationsOnly = new LinkedHashMap<>(16, 0.75f, true) {
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+			return (size() > QUERY_OPERATIONS_ONLY_CACHE_LIMIT);
+		}
+	};
+
+
+	/**
+	 * Create an instance with an {@link InMemoryPersistedQueryStore}.
+	 */
+	public PersistedQueryInterceptor() {
+		this(new InMemoryPersistedQueryStore());
+	}
+
+	/**
+	 * Create an instance with the given store.
+	 * @param store the store to look up and save documents with
+	 */
+	public PersistedQueryInterceptor(PersistedQueryStore store) {
+		Assert.notNull(store, "PersistedQueryStore is required");
+		this.store = store;
+	}
+
+
+	/**
+	 * Return the configured store.
+	 */
+	public PersistedQueryStore getStore() {
+		return this.store;
+	}
+
+
+	@Override
+	public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, Chain chain) {
+		Object value = request.getExtensions().get(PERSISTED_QUERY_KEY);
+		if (!(value instanceof Map)) {
+			return chain.next(request);
+		}
+
+		Map<?, ?> persistedQuery = (Map<?, ?>) value;
+		Object version = persistedQuery.get("version");
+		if (!(version instanceof Number) || ((Number) version).intValue() != 1) {
+			return Mono.just(errorResponse(request,
+					"Unsupported persisted query version: " + version, "PERSISTED_QUERY_NOT_SUPPORTED"));
+		}
+
+		Object hashValue = persistedQuery.get("sha256Hash");
+		if (!(hashValue instanceof String) || !StringUtils.hasText((String) hashValue)) {
+			return Mono.just(errorResponse(request,
+					"No \"sha256Hash\" in the persisted query extension", "PERSISTED_QUERY_HASH_MISSING"));
+		}
+		String hash = ((String) hashValue).toLowerCase(Locale.ROOT);
+
+		String document = request.getDocument();
+		if (!StringUtils.hasText(document)) {
+			return this.store.getDocument(hash)
+					.flatMap(storedDocument -> {
+						if (HttpMethod.GET.equals(request.getHttpMethod()) &&
+								!hasQueryOperationsOnly(hash, storedDocument)) {
+							return Mono.just(errorResponse(request,
+									"Persisted query is not a query operation", "PERSISTED_QUERY_NOT_QUERY"));
+						}
+						request.configureExecutionInput((input, builder) -> builder.query(storedDocument).build());
+						return chain.next(request);
+					})
+					.switchIfEmpty(Mono.fromSupplier(() ->
+							errorResponse(request, "PersistedQueryNotFound", "PERSISTED_QUERY_NOT_FOUND")));
+		}
+
+		if (!sha256Hex(document).equals(hash)) {
+			return Mono.just(errorResponse(request,
+					"Provided sha256Hash does not match the query", "PERSISTED_QUERY_HASH_MISMATCH"));
+		}
+
+		return this.store.saveDocument(hash, document).then(Mono.defer(() -> chain.next(request)));
+	}
+
+	private boolean hasQueryOperationsOnly(String hash, String document) {
+		Boolean result;
+		synchronized (this.queryOperationsOnly) {
+			result = this.queryOperationsOnly.get(hash);
+		}
+		if (result == null) {
+			result = OperationTypeUtils.hasQueryOperationsOnly(document, false);
+			synchronized (this.queryOperationsOnly) {
+				this.queryOperationsOnly.put(hash, result);
+			}
+		}
+		return result;
+	}
+
+	private static String sha256Hex(String document) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(document.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 not supported", ex);
+		}
+	}
+
+	private static WebGraphQlResponse errorResponse(WebGraphQlRequest request, String message, String code) {
+		GraphQLError error = GraphqlErrorBuilder.newError()
+				.message(message)
+				.errorType(ErrorType.BAD_REQUEST)
+				.extensions(Collections.singletonMap("code", code))
+				.build();
+		ExecutionResult result = ExecutionResultImpl.newExecutionResult().addError(error).build();
+		return new WebGraphQlResponse(new DefaultExecutionGraphQlResponse(request.toExecutionInput(), result));
+	}
+
+}
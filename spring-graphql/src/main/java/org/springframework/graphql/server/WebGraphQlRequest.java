@@ -23,6 +23,7 @@ import java.util.Map;
 import org.springframework.graphql.ExecutionGraphQlRequest;
 import org.springframework.graphql.support.DefaultExecutionGraphQlRequest;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -44,6 +45,9 @@ public class WebGraphQlRequest extends DefaultExecutionGraphQlRequest implements
 
 	private final UriComponents uri;
 
+	@Nullable
+	private final HttpMethod httpMethod;
+
 	private final HttpHeaders headers;
 
 
@@ -58,21 +62,49 @@ public class WebGraphQlRequest extends DefaultExecutionGraphQlRequest implements
 	public WebGraphQlRequest(
 			URI uri, HttpHeaders headers, Map<String, Object> body, String id, @Nullable Locale locale) {
 
-		super(getKey("query", body), getKey("operationName", body), getKey("variables", body),
+		this(uri, null, headers, body, id, locale);
+	}
+
+	/**
+	 * Create an instance for an HTTP request with the given HTTP method.
+	 * @param uri the URL for the HTTP request
+	 * @param httpMethod the HTTP method of the request
+	 * @param headers the HTTP request headers
+	 * @param body the deserialized content of the GraphQL request
+	 * @param id an identifier for the GraphQL request
+	 * @param locale the locale from the HTTP request, if any
+	 * @since 1.1.0
+	 */
+	public WebGraphQlRequest(URI uri, @Nullable HttpMethod httpMethod, HttpHeaders headers,
+			Map<String, Object> body, String id, @Nullable Locale locale) {
+
+		super(getDocument(body), getKey("operationName", body), getKey("variables", body),
 				getKey("extensions", body), id, locale);
 
 		Assert.notNull(uri, "URI is required'");
 		Assert.notNull(headers, "HttpHeaders is required'");
 
 		this.uri = UriComponentsBuilder.fromUri(uri).build(true);
+		this.httpMethod = httpMethod;
 		this.headers = headers;
 	}
 
+	private static String getDocument(Map<String, Object> body) {
+		String document = getKey("query", body);
+		if (StringUtils.hasText(document)) {
+			return document;
+		}
+		Map<String, Object> extensions = getKey("extensions", body);
+		if (extensions != null && extensions.get("persistedQuery") instanceof Map) {
+			// Document to be resolved by a PersistedQueryInterceptor, or else the
+			// request is rejected at the end of the WebGraphQlHandler interceptor chain
+			return "";
+		}
+		throw new ServerWebInputException("No \"query\" in the request document");
+	}
+
 	@SuppressWarnings("unchecked")
 	private static <T> T getKey(String key, Map<String, Object> body) {
-		if (key.equals("query") && !StringUtils.hasText((String) body.get(key))) {
-			throw new ServerWebInputException("No \"query\" in the request document");
-		}
 		return (T) body.get(key);
 	}
 
@@ -84,6 +116,16 @@ public class WebGraphQlRequest extends DefaultExecutionGraphQlRequest implements
 		return this.uri;
 	}
 
+	/**
+	 * Return the HTTP method of the request, or {@code null} if not known,
+	 * e.g. for a request over WebSocket.
+	 * @since 1.1.0
+	 */
+	@Nullable
+	public HttpMethod getHttpMethod() {
+		return this.httpMethod;
+	}
+
 	/**
 	 * Return the HTTP headers of the request or WebSocket handshake.
 	 */
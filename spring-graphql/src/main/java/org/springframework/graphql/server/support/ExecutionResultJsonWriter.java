@@ -0,0 +1,137 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.server.support;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import graphql.ExecutionResult;
+import graphql.GraphQLError;
+
+import org.springframework.util.Assert;
+
+
+/**
+ * Write an {@link ExecutionResult} as JSON, in the format of
+ * {@link ExecutionResult#toSpecification()}, with Jackson. The
+ * {@code "errors"}, {@code "data"}, and {@code "extensions"} are serialized
+ * directly to the given {@link OutputStream}, without first collecting them
+ * into a {@code Map}.
+ *
+ * @author agent
+ * @since 1.1.0
+ */
+public final class ExecutionResultJsonWriter {
+
+	private final ObjectMapper objectMapper;
+
+	private final ObjectWriter objectWriter;
+
+
+	/**
+	 * Create an instance.
+	 * @param objectMapper the mapper to serialize with, typically the one
+	 * from the JSON encoder or message converter of the web framework
+	 */
+	public ExecutionResultJsonWriter(ObjectMapper objectMapper) {
+		Assert.notNull(objectMapper, "ObjectMapper is required");
+		this.objectMapper = objectMapper;
+		this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+	}
+
+
+	/**
+	 * Write the given result to the output stream. The stream is neither
+	 * flushed nor closed.
+	 * @param result the result to write
+	 * @param outputStream the stream to write to
+	 * @throws IOException in case of I/O or serialization errors
+	 */
+	public void write(ExecutionResult result, OutputStream outputStream) throws IOException {
+		JsonGenerator generator = createGenerator(outputStream);
+		try {
+			writeResult(result, generator);
+		}
+		finally {
+			// Flush buffered content to the stream
+			generator.close();
+		}
+	}
+
+	/**
+	 * Write the given results to the output stream as a JSON array, e.g. for
+	 * a batch of requests. The stream is neither flushed nor closed.
+	 * @param results the results to write
+	 * @param outputStream the stream to write to
+	 * @throws IOException in case of I/O or serialization errors
+	 */
+	public void writeAll(List<ExecutionResult> results, OutputStream outputStream) throws IOException {
+		JsonGenerator generator = createGenerator(outputStream);
+		try {
+			generator.writeStartArray();
+			for (ExecutionResult result : results) {
+				writeResult(result, generator);
+			}
+			generator.writeEndArray();
+		}
+		finally {
+			generator.close();
+		}
+	}
+
+	private JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+		JsonGenerator generator = this.objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+		generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+		return generator;
+	}
+
+	private void writeResult(ExecutionResult result, JsonGenerator generator) throws IOException {
+		generator.writeStartObject();
+
+		List<GraphQLError> errors = result.getErrors();
+		if (errors != null && !errors.isEmpty()) {
+			generator.writeFieldName("errors");
+			generator.writeStartArray();
+			for (GraphQLError error : errors) {
+				this.objectWriter.writeValue(generator, error.toSpecification());
+			}
+			generator.writeEndArray();
+		}
+
+		if (result.isDataPresent()) {
+			generator.writeFieldName("data");
+			this.objectWriter.writeValue(generator, result.getData());
+		}
+
+		Map<Object, Object> extensions = result.getExtensions();
+		if (extensions != null) {
+			generator.writeFieldName("extensions");
+			this.objectWriter.writeValue(generator, extensions);
+		}
+
+		generator.writeEndObject();
+	}
+
+}
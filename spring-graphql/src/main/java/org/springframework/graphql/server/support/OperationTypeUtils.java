@@ -0,0 +1,52 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.server.support;
+
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import graphql.parser.Parser;
+
+/**
+ * Utility methods to check the type of operations in a GraphQL document,
+ * e.g. to reject mutations over HTTP GET.
+ *
+ * @author agent
+ * @since 1.1.0
+ */
+public abstract class OperationTypeUtils {
+
+	/**
+	 * Whether the given document has query operations only, and no mutation
+	 * or subscription operations.
+	 * @param document the document to check
+	 * @param resultIfInvalid the value to return if the document cannot be
+	 * parsed, e.g. {@code true} to let execution report the syntax error
+	 * @return whether the document has query operations only
+	 */
+	public static boolean hasQueryOperationsOnly(String document, boolean resultIfInvalid) {
+		Document parsed;
+		try {
+			parsed = new Parser().parseDocument(document);
+		}
+		catch (Exception ex) {
+			return resultIfInvalid;
+		}
+		return parsed.getDefinitionsOfType(OperationDefinition.class).stream()
+				.allMatch(definition -> definition.getOperation() == OperationDefinition.Operation.QUERY);
+	}
+
+}
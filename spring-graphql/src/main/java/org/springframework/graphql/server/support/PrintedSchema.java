@@ -0,0 +1,139 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.server.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaPrinter;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * A {@link GraphQLSchema} printed via {@link SchemaPrinter}, as UTF-8 encoded
+ * content and as gzip compressed content, each with a strong ETag. This is
+ * computed once for a given schema instance, and kept in memory to serve
+ * repeated requests for the schema.
+ *
+ * @author agent
+ * @since 1.1.0
+ */
+public final class PrintedSchema {
+
+	private static final SchemaPrinter printer = new SchemaPrinter();
+
+
+	private final GraphQLSchema schema;
+
+	private final byte[] content;
+
+	private final String eTag;
+
+	private final byte[] gzipContent;
+
+	private final String gzipETag;
+
+
+	private PrintedSchema(GraphQLSchema schema) {
+		this.schema = schema;
+		this.content = printer.print(schema).getBytes(StandardCharsets.UTF_8);
+		String hash = DigestUtils.md5DigestAsHex(this.content);
+		this.eTag = "\"" + hash + "\"";
+		this.gzipContent = gzip(this.content);
+		this.gzipETag = "\"" + hash + "-gzip\"";
+	}
+
+	private static byte[] gzip(byte[] content) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4);
+		try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+			gzipOut.write(content);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return out.toByteArray();
+	}
+
+
+	/**
+	 * Return the printed schema, as UTF-8 encoded content, or as gzip
+	 * compressed content.
+	 * @param gzip whether to return the gzip compressed content
+	 */
+	public byte[] getContent(boolean gzip) {
+		return (gzip ? this.gzipContent : this.content);
+	}
+
+	/**
+	 * Return the strong ETag for the {@link #getContent(boolean) content}.
+	 * @param gzip whether to return the ETag for the gzip compressed content
+	 */
+	public String getETag(boolean gzip) {
+		return (gzip ? this.gzipETag : this.eTag);
+	}
+
+
+	/**
+	 * Return the printed schema for the given schema instance, reusing the
+	 * given, previously printed schema, if it is for the same instance.
+	 * @param schema the schema to print
+	 * @param printedSchema the previously printed schema, if any
+	 */
+	public static PrintedSchema forSchema(GraphQLSchema schema, @Nullable PrintedSchema printedSchema) {
+		return (printedSchema != null && printedSchema.schema == schema ? printedSchema : new PrintedSchema(schema));
+	}
+
+	/**
+	 * Whether the given values of the "Accept-Encoding" header allow a gzip
+	 * compressed response, either through {@code "gzip"}, or through
+	 * {@code "*"} if {@code "gzip"} is not listed, and in both cases with a
+	 * quality value other than 0.
+	 * @param acceptEncodingValues the header values
+	 */
+	public static boolean acceptsGzip(List<String> acceptEncodingValues) {
+		boolean wildcard = false;
+		for (String headerValue : acceptEncodingValues) {
+			for (String coding : StringUtils.tokenizeToStringArray(headerValue, ",")) {
+				String[] parts = StringUtils.tokenizeToStringArray(coding, ";");
+				if (parts.length == 0) {
+					continue;
+				}
+				boolean accepted = (parts.length == 1 || !isZeroQuality(parts[1]));
+				if (parts[0].equalsIgnoreCase("gzip")) {
+					return accepted;
+				}
+				if (parts[0].equals("*")) {
+					wildcard = accepted;
+				}
+			}
+		}
+		return wildcard;
+	}
+
+	private static boolean isZeroQuality(String parameter) {
+		String value = parameter.replace(" ", "");
+		return (value.startsWith("q=") && value.substring(2).matches("0(\\.0*)?"));
+	}
+
+}
@@ -16,21 +16,59 @@
 
 package org.springframework.graphql.server.webflux;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.ExecutionResult;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.graphql.execution.SharedDataLoaderRegistry;
 import org.springframework.graphql.server.WebGraphQlHandler;
 import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.graphql.server.support.ExecutionResultJsonWriter;
+import org.springframework.graphql.server.support.OperationTypeUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.codec.DecoderHttpMessageReader;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.codec.json.AbstractJackson2Encoder;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
 
 /**
  * WebFlux.fn Handler for GraphQL over HTTP requests.
@@ -46,11 +84,31 @@ public class GraphQlHttpHandler {
 	private static final ParameterizedTypeReference<Map<String, Object>> MAP_PARAMETERIZED_TYPE_REF =
 			new ParameterizedTypeReference<Map<String, Object>>() {};
 
+	private static final ResolvableType MAP_TYPE = ResolvableType.forType(MAP_PARAMETERIZED_TYPE_REF);
+
 	private static final List<MediaType> SUPPORTED_MEDIA_TYPES =
 			Arrays.asList(MediaType.APPLICATION_GRAPHQL, MediaType.APPLICATION_JSON);
 
+	private static final List<MediaType> INCREMENTAL_MEDIA_TYPES =
+			Arrays.asList(MediaType.MULTIPART_MIXED, MediaType.TEXT_EVENT_STREAM);
+
+	private static final MediaType MULTIPART_MIXED_RESPONSE_TYPE =
+			new MediaType(MediaType.MULTIPART_MIXED, Collections.singletonMap("boundary", "\"-\""));
+
+	private static final byte[] MULTIPART_PART_START =
+			"\r\n---\r\nContent-Type: application/json; charset=utf-8\r\n\r\n".getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] MULTIPART_END = "\r\n-----\r\n".getBytes(StandardCharsets.UTF_8);
+
+	private static final boolean jackson2Present = ClassUtils.isPresent(
+			"com.fasterxml.jackson.databind.ObjectMapper", GraphQlHttpHandler.class.getClassLoader());
+
 	private final WebGraphQlHandler graphQlHandler;
 
+	private int maxBatchSize;
+
+	private boolean shareDataLoaderRegistry;
+
 	/**
 	 * Create a new instance.
 	 * @param graphQlHandler common handler for GraphQL over HTTP requests
@@ -60,34 +118,287 @@ public class GraphQlHttpHandler {
 		this.graphQlHandler = graphQlHandler;
 	}
 
+	/**
+	 * Configure the maximum number of requests in a batch, i.e. in a POST
+	 * request with a JSON array body. The requests in a batch are executed
+	 * concurrently, and the response is a JSON array with the results in the
+	 * same order. A batch with more requests is rejected with 400.
+	 * <p>By default, this is set to 0, in which case batches are not supported.
+	 * @param maxBatchSize the maximum batch size
+	 * @since 1.1.0
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		Assert.isTrue(maxBatchSize >= 0, "'maxBatchSize' must not be negative");
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Return the {@link #setMaxBatchSize configured} maximum batch size.
+	 * @since 1.1.0
+	 */
+	public int getMaxBatchSize() {
+		return this.maxBatchSize;
+	}
+
+	/**
+	 * Whether the requests in a batch should share one
+	 * {@link SharedDataLoaderRegistry}, so that {@code DataLoader} keys are
+	 * batched and cached across the requests.
+	 * <p>{@code DataLoader}s are registered once, for the first request in the
+	 * batch to execute, and batch loaders see the {@code GraphQLContext} of
+	 * that request, also when loading keys for other requests in the batch.
+	 * Do not enable this if batch loaders depend on per-request context values.
+	 * <p>The {@code DataLoader} cache is also shared by all operations in the
+	 * batch, including mutations. As the requests execute concurrently, a query
+	 * may see values cached before a mutation in the same batch ran. Do not
+	 * enable this if batches may mix mutations with queries that depend on
+	 * their results.
+	 * <p>By default, this is set to {@code false}.
+	 * @param shareDataLoaderRegistry whether to share the registry
+	 * @since 1.1.0
+	 */
+	public void setShareDataLoaderRegistry(boolean shareDataLoaderRegistry) {
+		this.shareDataLoaderRegistry = shareDataLoaderRegistry;
+	}
+
+	/**
+	 * Whether the requests in a batch {@link #setShareDataLoaderRegistry share}
+	 * a {@code DataLoaderRegistry}.
+	 * @since 1.1.0
+	 */
+	public boolean isShareDataLoaderRegistry() {
+		return this.shareDataLoaderRegistry;
+	}
+
 	/**
 	 * Handle GraphQL requests over HTTP.
+	 * <p>POST requests are expected to have the GraphQL request in the body.
+	 * GET requests are expected to have it in query parameters, with
+	 * {@code "variables"} and {@code "extensions"} as JSON, and are limited
+	 * to query operations.
+	 * <p>If the request accepts {@code "multipart/mixed"} or
+	 * {@code "text/event-stream"}, the response is written in parts, each
+	 * flushed as soon as it is available, starting with the initial result,
+	 * followed by subsequent results when the {@code ExecutionResult} data is
+	 * a {@link Publisher} of results.
+	 * <p>POST requests may also have a JSON array body with a batch of
+	 * requests, if {@link #setMaxBatchSize batches} are enabled.
 	 * @param serverRequest the incoming HTTP request
 	 * @return the HTTP response
 	 */
 	public Mono<ServerResponse> handleRequest(ServerRequest serverRequest) {
-		return serverRequest.bodyToMono(MAP_PARAMETERIZED_TYPE_REF)
-				.flatMap(body -> {
-					WebGraphQlRequest graphQlRequest = new WebGraphQlRequest(
-							serverRequest.uri(), serverRequest.headers().asHttpHeaders(), body,
-							serverRequest.exchange().getRequest().getId(),
-							serverRequest.exchange().getLocaleContext().getLocale());
-					if (logger.isDebugEnabled()) {
-						logger.debug("Executing: " + graphQlRequest);
-					}
-					return this.graphQlHandler.handleRequest(graphQlRequest);
-				})
+		boolean isGet = HttpMethod.GET.equals(serverRequest.method());
+		if (!isGet && this.maxBatchSize > 0) {
+			return serverRequest.bodyToMono(Object.class).flatMap(body -> (body instanceof List ?
+					handleBatch(serverRequest, (List<?>) body) :
+					handleSingle(serverRequest, asMap(body), false)));
+		}
+		Mono<Map<String, Object>> bodyMono = (isGet ?
+				Mono.fromSupplier(() -> readQueryParams(serverRequest)) :
+				serverRequest.bodyToMono(MAP_PARAMETERIZED_TYPE_REF));
+
+		return bodyMono.flatMap(body -> handleSingle(serverRequest, body, isGet));
+	}
+
+	private Mono<ServerResponse> handleSingle(ServerRequest serverRequest, Map<String, Object> body, boolean isGet) {
+		WebGraphQlRequest graphQlRequest = new WebGraphQlRequest(
+				serverRequest.uri(), serverRequest.method(), serverRequest.headers().asHttpHeaders(), body,
+				serverRequest.exchange().getRequest().getId(),
+				serverRequest.exchange().getLocaleContext().getLocale());
+		if (isGet && !hasQueryOperationsOnly(graphQlRequest.getDocument())) {
+			return ServerResponse.status(HttpStatus.METHOD_NOT_ALLOWED).build();
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Executing: " + graphQlRequest);
+		}
+		return this.graphQlHandler.handleRequest(graphQlRequest)
 				.flatMap(response -> {
 					if (logger.isDebugEnabled()) {
 						logger.debug("Execution complete");
 					}
 					ServerResponse.BodyBuilder builder = ServerResponse.ok();
 					builder.headers(headers -> headers.putAll(response.getResponseHeaders()));
+					MediaType incrementalType = selectIncrementalMediaType(serverRequest);
+					if (MediaType.TEXT_EVENT_STREAM.equals(incrementalType)) {
+						builder.contentType(MediaType.TEXT_EVENT_STREAM);
+						return builder.body(BodyInserters.fromServerSentEvents(toServerSentEvents(response)));
+					}
+					if (MediaType.MULTIPART_MIXED.equals(incrementalType)) {
+						builder.contentType(MULTIPART_MIXED_RESPONSE_TYPE);
+						return builder.body(multipartInserter(response));
+					}
+					builder.contentType(selectResponseMediaType(serverRequest));
+					return (jackson2Present ?
+							builder.body(JacksonResponseWriter.inserter(response)) :
+							builder.bodyValue(response.toMap()));
+				});
+	}
+
+	private Mono<ServerResponse> handleBatch(ServerRequest serverRequest, List<?> bodies) {
+		if (bodies.isEmpty() || bodies.size() > this.maxBatchSize) {
+			return Mono.error(new ServerWebInputException(
+					"Batch of " + bodies.size() + " requests, expected 1 to " + this.maxBatchSize));
+		}
+		String id = serverRequest.exchange().getRequest().getId();
+		SharedDataLoaderRegistry registry = (this.shareDataLoaderRegistry ? new SharedDataLoaderRegistry() : null);
+		List<WebGraphQlRequest> requests = new ArrayList<>(bodies.size());
+		for (int i = 0; i < bodies.size(); i++) {
+			WebGraphQlRequest graphQlRequest = new WebGraphQlRequest(
+					serverRequest.uri(), serverRequest.method(), serverRequest.headers().asHttpHeaders(),
+					asMap(bodies.get(i)), id + "-" + i, serverRequest.exchange().getLocaleContext().getLocale());
+			if (registry != null) {
+				graphQlRequest.configureExecutionInput((input, builder) -> builder.dataLoaderRegistry(registry).build());
+			}
+			requests.add(graphQlRequest);
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Executing batch: " + requests);
+		}
+		return Flux.fromIterable(requests)
+				.flatMapSequential(this.graphQlHandler::handleRequest)
+				.collectList()
+				.flatMap(responses -> {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Batch execution complete");
+					}
+					ServerResponse.BodyBuilder builder = ServerResponse.ok();
+					for (WebGraphQlResponse response : responses) {
+						builder.headers(headers -> headers.putAll(response.getResponseHeaders()));
+					}
 					builder.contentType(selectResponseMediaType(serverRequest));
-					return builder.bodyValue(response.toMap());
+					return (jackson2Present ?
+							builder.body(JacksonResponseWriter.batchInserter(responses)) :
+							builder.bodyValue(toMaps(responses)));
 				});
 	}
 
+	private static List<Map<String, Object>> toMaps(List<WebGraphQlResponse> responses) {
+		List<Map<String, Object>> results = new ArrayList<>(responses.size());
+		for (WebGraphQlResponse response : responses) {
+			results.add(response.toMap());
+		}
+		return results;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> asMap(Object body) {
+		if (!(body instanceof Map)) {
+			throw new ServerWebInputException("Expected JSON object for a GraphQL request");
+		}
+		return (Map<String, Object>) body;
+	}
+
+	private static Map<String, Object> readQueryParams(ServerRequest request) {
+		Map<String, Object> body = new LinkedHashMap<>();
+		request.queryParam("query").ifPresent(value -> body.put("query", value));
+		request.queryParam("operationName").ifPresent(value -> body.put("operationName", value));
+		request.queryParam("variables").ifPresent(value -> body.put("variables", readJson(request, value)));
+		request.queryParam("extensions").ifPresent(value -> body.put("extensions", readJson(request, value)));
+		return body;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> readJson(ServerRequest request, String json) {
+		Decoder<?> decoder = request.messageReaders().stream()
+				.filter(reader -> reader instanceof DecoderHttpMessageReader)
+				.filter(reader -> reader.canRead(MAP_TYPE, MediaType.APPLICATION_JSON))
+				.map(reader -> ((DecoderHttpMessageReader<?>) reader).getDecoder())
+				.findFirst()
+				.orElseThrow(() -> new IllegalStateException("No JSON Decoder"));
+		DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+		try {
+			return (Map<String, Object>) decoder.decode(buffer, MAP_TYPE, MediaType.APPLICATION_JSON, null);
+		}
+		catch (DecodingException ex) {
+			throw new ServerWebInputException("Invalid JSON in query parameter", null, ex);
+		}
+	}
+
+	private static boolean hasQueryOperationsOnly(String document) {
+		if (!StringUtils.hasText(document)) {
+			// Persisted query, resolved by PersistedQueryInterceptor, which checks the operation type for GET
+			return true;
+		}
+		// Let execution report syntax errors
+		return OperationTypeUtils.hasQueryOperationsOnly(document, true);
+	}
+
+	@Nullable
+	private static MediaType selectIncrementalMediaType(ServerRequest serverRequest) {
+		for (MediaType accepted : serverRequest.headers().accept()) {
+			if (SUPPORTED_MEDIA_TYPES.contains(accepted)) {
+				return null;
+			}
+			for (MediaType mediaType : INCREMENTAL_MEDIA_TYPES) {
+				if (mediaType.equalsTypeAndSubtype(accepted)) {
+					return mediaType;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Return the initial result, followed by subsequent results if the data
+	 * is a {@link Publisher} of {@link ExecutionResult}s.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Flux<Map<String, Object>> getResults(WebGraphQlResponse response) {
+		Object data = response.getExecutionResult().getData();
+		if (data instanceof Publisher) {
+			return Flux.from((Publisher<ExecutionResult>) data).map(ExecutionResult::toSpecification);
+		}
+		return Flux.just(response.toMap());
+	}
+
+	private static Flux<ServerSentEvent<Map<String, Object>>> toServerSentEvents(WebGraphQlResponse response) {
+		return getResults(response)
+				.map(result -> ServerSentEvent.builder(result).event("next").build())
+				.concatWith(Mono.fromSupplier(() ->
+						ServerSentEvent.<Map<String, Object>>builder().event("complete").build()));
+	}
+
+	/**
+	 * Write each result as a part of a {@code "multipart/mixed"} response, with
+	 * the {@code "hasNext"} field of the incremental delivery format.
+	 */
+	private static BodyInserter<Object, ReactiveHttpOutputMessage> multipartInserter(WebGraphQlResponse response) {
+		boolean hasSubsequentResults = (response.getExecutionResult().getData() instanceof Publisher);
+		Flux<Map<String, Object>> payloads = getResults(response)
+				.map(result -> withHasNext(result, hasSubsequentResults));
+		if (hasSubsequentResults) {
+			payloads = payloads.concatWith(
+					Mono.fromSupplier(() -> Collections.<String, Object>singletonMap("hasNext", false)));
+		}
+		Flux<Map<String, Object>> payloadFlux = payloads;
+		return (message, context) -> {
+			Encoder<Map<String, Object>> encoder = findJsonEncoder(context.messageWriters());
+			DataBufferFactory bufferFactory = message.bufferFactory();
+			Flux<Publisher<DataBuffer>> parts = payloadFlux
+					.map(payload -> Flux.just(
+							bufferFactory.wrap(MULTIPART_PART_START),
+							encoder.encodeValue(payload, bufferFactory, MAP_TYPE, MediaType.APPLICATION_JSON, null)));
+			return message.writeAndFlushWith(parts.concatWith(
+					Mono.fromSupplier(() -> Mono.fromSupplier(() -> bufferFactory.wrap(MULTIPART_END)))));
+		};
+	}
+
+	private static Map<String, Object> withHasNext(Map<String, Object> result, boolean hasNext) {
+		Map<String, Object> payload = new LinkedHashMap<>(result);
+		payload.put("hasNext", hasNext);
+		return payload;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Encoder<Map<String, Object>> findJsonEncoder(List<HttpMessageWriter<?>> writers) {
+		for (HttpMessageWriter<?> writer : writers) {
+			if (writer instanceof EncoderHttpMessageWriter && writer.canWrite(MAP_TYPE, MediaType.APPLICATION_JSON)) {
+				return (Encoder<Map<String, Object>>) ((EncoderHttpMessageWriter<?>) writer).getEncoder();
+			}
+		}
+		throw new IllegalStateException("No JSON Encoder");
+	}
+
 	private static MediaType selectResponseMediaType(ServerRequest serverRequest) {
 		for (MediaType accepted : serverRequest.headers().accept()) {
 			if (SUPPORTED_MEDIA_TYPES.contains(accepted)) {
@@ -97,4 +408,156 @@ public class GraphQlHttpHandler {
 		return MediaType.APPLICATION_JSON;
 	}
 
+
+
+	/**
+	 * Write the response with the {@code ObjectMapper} of the configured
+	 * Jackson encoder through {@link ExecutionResultJsonWriter}, or fall back
+	 * on encoding {@link WebGraphQlResponse#toMap()}. The result is
+	 * serialized into a list of fixed size data buffers, without a contiguous
+	 * intermediate byte array, and the buffers are written only once
+	 * serialization is complete, as demanded by the response. This holds the
+	 * serialized result in memory, as encoding a single value does, but if
+	 * serialization fails, nothing has been written yet, and the error results
+	 * in a 500 response rather than a truncated 200 response.
+	 */
+	private static final class JacksonResponseWriter {
+
+		private static final int CHUNK_SIZE = 8192;
+
+		static BodyInserter<Object, ReactiveHttpOutputMessage> inserter(WebGraphQlResponse response) {
+			return inserter(response::toMap,
+					(writer, outputStream) -> writer.write(response.getExecutionResult(), outputStream));
+		}
+
+		static BodyInserter<Object, ReactiveHttpOutputMessage> batchInserter(List<WebGraphQlResponse> responses) {
+			List<ExecutionResult> results = new ArrayList<>(responses.size());
+			for (WebGraphQlResponse response : responses) {
+				results.add(response.getExecutionResult());
+			}
+			return inserter(() -> toMaps(responses), (writer, outputStream) -> writer.writeAll(results, outputStream));
+		}
+
+		private static BodyInserter<Object, ReactiveHttpOutputMessage> inserter(
+				Supplier<Object> fallbackValue, JsonWriteAction writeAction) {
+
+			return (message, context) -> {
+				ObjectMapper objectMapper = findObjectMapper(context.messageWriters());
+				if (objectMapper == null) {
+					return BodyInserters.fromValue(fallbackValue.get()).insert(message, context);
+				}
+				Flux<DataBuffer> body = Flux.defer(() -> {
+					List<DataBuffer> buffers = new ArrayList<>();
+					DataBufferOutputStream outputStream = new DataBufferOutputStream(message.bufferFactory(), buffers::add);
+					try {
+						writeAction.write(new ExecutionResultJsonWriter(objectMapper), outputStream);
+						outputStream.emitCurrent();
+					}
+					catch (IOException | RuntimeException ex) {
+						outputStream.release();
+						buffers.forEach(DataBufferUtils::release);
+						return Flux.error(ex);
+					}
+					return Flux.fromIterable(buffers);
+				});
+				return message.writeWith(body.doOnDiscard(DataBuffer.class, DataBufferUtils::release));
+			};
+		}
+
+		@Nullable
+		private static ObjectMapper findObjectMapper(List<HttpMessageWriter<?>> writers) {
+			for (HttpMessageWriter<?> writer : writers) {
+				if (writer instanceof EncoderHttpMessageWriter) {
+					Encoder<?> encoder = ((EncoderHttpMessageWriter<?>) writer).getEncoder();
+					if (encoder instanceof AbstractJackson2Encoder &&
+							encoder.canEncode(MAP_TYPE, MediaType.APPLICATION_JSON)) {
+						return ((AbstractJackson2Encoder) encoder).getObjectMapper();
+					}
+				}
+			}
+			return null;
+		}
+
+
+		private interface JsonWriteAction {
+
+			void write(ExecutionResultJsonWriter writer, OutputStream outputStream) throws IOException;
+
+		}
+
+	}
+
+
+	/**
+	 * {@link OutputStream} that writes to fixed size data buffers, and passes
+	 * each buffer to a consumer once it is full.
+	 */
+	private static final class DataBufferOutputStream extends OutputStream {
+
+		private final DataBufferFactory bufferFactory;
+
+		private final Consumer<DataBuffer> bufferConsumer;
+
+		@Nullable
+		private DataBuffer current;
+
+		DataBufferOutputStream(DataBufferFactory bufferFactory, Consumer<DataBuffer> bufferConsumer) {
+			this.bufferFactory = bufferFactory;
+			this.bufferConsumer = bufferConsumer;
+		}
+
+		@Override
+		public void write(int b) {
+			currentBuffer().write((byte) b);
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) {
+			while (length > 0) {
+				DataBuffer buffer = currentBuffer();
+				int count = Math.min(length, buffer.writableByteCount());
+				buffer.write(bytes, offset, count);
+				offset += count;
+				length -= count;
+			}
+		}
+
+		private DataBuffer currentBuffer() {
+			if (this.current != null && this.current.writableByteCount() == 0) {
+				emitCurrent();
+			}
+			if (this.current == null) {
+				this.current = this.bufferFactory.allocateBuffer(JacksonResponseWriter.CHUNK_SIZE);
+			}
+			return this.current;
+		}
+
+		/**
+		 * Pass on the current buffer, if it has any content.
+		 */
+		void emitCurrent() {
+			DataBuffer buffer = this.current;
+			this.current = null;
+			if (buffer != null) {
+				if (buffer.readableByteCount() > 0) {
+					this.bufferConsumer.accept(buffer);
+				}
+				else {
+					DataBufferUtils.release(buffer);
+				}
+			}
+		}
+
+		/**
+		 * Release the current buffer. Buffers already passed on are not released.
+		 */
+		void release() {
+			if (this.current != null) {
+				DataBufferUtils.release(this.current);
+				this.current = null;
+			}
+		}
+
+	}
+
 }
@@ -16,26 +16,60 @@
 
 package org.springframework.graphql.server.webmvc;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.ExecutionResult;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.reactivestreams.Publisher;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.graphql.execution.SharedDataLoaderRegistry;
 import org.springframework.graphql.server.WebGraphQlHandler;
 import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.graphql.server.support.ExecutionResultJsonWriter;
+import org.springframework.graphql.server.support.OperationTypeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
 import org.springframework.util.AlternativeJdkIdGenerator;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.IdGenerator;
+import org.springframework.util.StringUtils;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.server.ServerWebInputException;
 import org.springframework.web.servlet.function.ServerRequest;
 import org.springframework.web.servlet.function.ServerResponse;
@@ -55,13 +89,34 @@ public class GraphQlHttpHandler {
 	private static final ParameterizedTypeReference<Map<String, Object>> MAP_PARAMETERIZED_TYPE_REF =
 			new ParameterizedTypeReference<Map<String, Object>>() {};
 
+	private static final ParameterizedTypeReference<Object> OBJECT_PARAMETERIZED_TYPE_REF =
+			new ParameterizedTypeReference<Object>() {};
+
 	private static final List<MediaType> SUPPORTED_MEDIA_TYPES =
 			Arrays.asList(MediaType.APPLICATION_GRAPHQL, MediaType.APPLICATION_JSON);
 
+	private static final List<MediaType> INCREMENTAL_MEDIA_TYPES =
+			Arrays.asList(MediaType.MULTIPART_MIXED, MediaType.TEXT_EVENT_STREAM);
+
+	private static final MediaType MULTIPART_MIXED_RESPONSE_TYPE =
+			new MediaType(MediaType.MULTIPART_MIXED, Collections.singletonMap("boundary", "\"-\""));
+
+	private static final byte[] MULTIPART_PART_START =
+			"\r\n---\r\nContent-Type: application/json; charset=utf-8\r\n\r\n".getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] MULTIPART_END = "\r\n-----\r\n".getBytes(StandardCharsets.UTF_8);
+
+	private static final boolean jackson2Present = ClassUtils.isPresent(
+			"com.fasterxml.jackson.databind.ObjectMapper", GraphQlHttpHandler.class.getClassLoader());
+
 	private final IdGenerator idGenerator = new AlternativeJdkIdGenerator();
 
 	private final WebGraphQlHandler graphQlHandler;
 
+	private int maxBatchSize;
+
+	private boolean shareDataLoaderRegistry;
+
 	/**
 	 * Create a new instance.
 	 * @param graphQlHandler common handler for GraphQL over HTTP requests
@@ -71,19 +126,101 @@ public class GraphQlHttpHandler {
 		this.graphQlHandler = graphQlHandler;
 	}
 
+	/**
+	 * Configure the maximum number of requests in a batch, i.e. in a POST
+	 * request with a JSON array body. The requests in a batch are executed
+	 * concurrently, and the response is a JSON array with the results in the
+	 * same order. A batch with more requests is rejected with 400.
+	 * <p>By default, this is set to 0, in which case batches are not supported.
+	 * @param maxBatchSize the maximum batch size
+	 * @since 1.1.0
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		Assert.isTrue(maxBatchSize >= 0, "'maxBatchSize' must not be negative");
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Return the {@link #setMaxBatchSize configured} maximum batch size.
+	 * @since 1.1.0
+	 */
+	public int getMaxBatchSize() {
+		return this.maxBatchSize;
+	}
+
+	/**
+	 * Whether the requests in a batch should share one
+	 * {@link SharedDataLoaderRegistry}, so that {@code DataLoader} keys are
+	 * batched and cached across the requests.
+	 * <p>{@code DataLoader}s are registered once, for the first request in the
+	 * batch to execute, and batch loaders see the {@code GraphQLContext} of
+	 * that request, also when loading keys for other requests in the batch.
+	 * Do not enable this if batch loaders depend on per-request context values.
+	 * <p>The {@code DataLoader} cache is also shared by all operations in the
+	 * batch, including mutations. As the requests execute concurrently, a query
+	 * may see values cached before a mutation in the same batch ran. Do not
+	 * enable this if batches may mix mutations with queries that depend on
+	 * their results.
+	 * <p>By default, this is set to {@code false}.
+	 * @param shareDataLoaderRegistry whether to share the registry
+	 * @since 1.1.0
+	 */
+	public void setShareDataLoaderRegistry(boolean shareDataLoaderRegistry) {
+		this.shareDataLoaderRegistry = shareDataLoaderRegistry;
+	}
+
+	/**
+	 * Whether the requests in a batch {@link #setShareDataLoaderRegistry share}
+	 * a {@code DataLoaderRegistry}.
+	 * @since 1.1.0
+	 */
+	public boolean isShareDataLoaderRegistry() {
+		return this.shareDataLoaderRegistry;
+	}
+
 	/**
 	 * Handle GraphQL requests over HTTP.
+	 * <p>POST requests are expected to have the GraphQL request in the body.
+	 * GET requests are expected to have it in query parameters, with
+	 * {@code "variables"} and {@code "extensions"} as JSON, and are limited
+	 * to query operations.
+	 * <p>If the request accepts {@code "multipart/mixed"} or
+	 * {@code "text/event-stream"}, the response is written in parts, each
+	 * flushed as soon as it is available, starting with the initial result,
+	 * followed by subsequent results when the {@code ExecutionResult} data is
+	 * a {@link Publisher} of results.
+	 * <p>POST requests may also have a JSON array body with a batch of
+	 * requests, if {@link #setMaxBatchSize batches} are enabled.
 	 * @param serverRequest the incoming HTTP request
 	 * @return the HTTP response
 	 * @throws ServletException may be raised when reading the request body, e.g.
 	 * {@link HttpMediaTypeNotSupportedException}.
 	 */
 	public ServerResponse handleRequest(ServerRequest serverRequest) throws ServletException {
+		boolean isGet = HttpMethod.GET.equals(serverRequest.method());
+		Map<String, Object> body;
+		if (isGet) {
+			body = readQueryParams(serverRequest);
+		}
+		else if (this.maxBatchSize > 0) {
+			Object value = readBody(serverRequest, OBJECT_PARAMETERIZED_TYPE_REF);
+			if (value instanceof List) {
+				return handleBatch(serverRequest, (List<?>) value);
+			}
+			body = asMap(value);
+		}
+		else {
+			body = readBody(serverRequest, MAP_PARAMETERIZED_TYPE_REF);
+		}
 
 		WebGraphQlRequest graphQlRequest = new WebGraphQlRequest(
-				serverRequest.uri(), serverRequest.headers().asHttpHeaders(), readBody(serverRequest),
+				serverRequest.uri(), serverRequest.method(), serverRequest.headers().asHttpHeaders(), body,
 				this.idGenerator.generateId().toString(), LocaleContextHolder.getLocale());
 
+		if (isGet && !hasQueryOperationsOnly(graphQlRequest.getDocument())) {
+			return ServerResponse.status(HttpStatus.METHOD_NOT_ALLOWED).build();
+		}
+
 		if (logger.isDebugEnabled()) {
 			logger.debug("Executing: " + graphQlRequest);
 		}
@@ -95,22 +232,285 @@ public class GraphQlHttpHandler {
 					}
 					ServerResponse.BodyBuilder builder = ServerResponse.ok();
 					builder.headers(headers -> headers.putAll(response.getResponseHeaders()));
+					MediaType incrementalType = selectIncrementalMediaType(serverRequest);
+					if (incrementalType != null) {
+						boolean sse = MediaType.TEXT_EVENT_STREAM.equals(incrementalType);
+						builder.contentType(sse ? MediaType.TEXT_EVENT_STREAM : MULTIPART_MIXED_RESPONSE_TYPE);
+						HttpMessageConverter<Object> converter = findJsonConverter(serverRequest.messageConverters());
+						return builder.build((servletRequest, servletResponse) -> {
+							writeIncremental(response, converter, servletRequest, servletResponse, sse);
+							return null;
+						});
+					}
 					builder.contentType(selectResponseMediaType(serverRequest));
+					if (jackson2Present) {
+						ServerResponse jacksonResponse = JacksonResponseWriter.write(builder, serverRequest, response);
+						if (jacksonResponse != null) {
+							return jacksonResponse;
+						}
+					}
 					return builder.body(response.toMap());
 				});
 
 		return ServerResponse.async(responseMono);
 	}
 
-	private static Map<String, Object> readBody(ServerRequest request) throws ServletException {
+	private static <T> T readBody(
+			ServerRequest request, ParameterizedTypeReference<T> bodyType) throws ServletException {
+
 		try {
-			return request.body(MAP_PARAMETERIZED_TYPE_REF);
+			return request.body(bodyType);
 		}
 		catch (IOException ex) {
 			throw new ServerWebInputException("I/O error while reading request body", null, ex);
 		}
 	}
 
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> asMap(Object body) {
+		if (!(body instanceof Map)) {
+			throw new ServerWebInputException("Expected JSON object for a GraphQL request");
+		}
+		return (Map<String, Object>) body;
+	}
+
+	private ServerResponse handleBatch(ServerRequest serverRequest, List<?> bodies) {
+		if (bodies.isEmpty() || bodies.size() > this.maxBatchSize) {
+			throw new ServerWebInputException(
+					"Batch of " + bodies.size() + " requests, expected 1 to " + this.maxBatchSize);
+		}
+		String id = this.idGenerator.generateId().toString();
+		SharedDataLoaderRegistry registry = (this.shareDataLoaderRegistry ? new SharedDataLoaderRegistry() : null);
+		List<WebGraphQlRequest> requests = new ArrayList<>(bodies.size());
+		for (int i = 0; i < bodies.size(); i++) {
+			WebGraphQlRequest graphQlRequest = new WebGraphQlRequest(
+					serverRequest.uri(), serverRequest.method(), serverRequest.headers().asHttpHeaders(),
+					asMap(bodies.get(i)), id + "-" + i, LocaleContextHolder.getLocale());
+			if (registry != null) {
+				graphQlRequest.configureExecutionInput((input, builder) -> builder.dataLoaderRegistry(registry).build());
+			}
+			requests.add(graphQlRequest);
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Executing batch: " + requests);
+		}
+		Mono<ServerResponse> responseMono = Flux.fromIterable(requests)
+				.flatMapSequential(this.graphQlHandler::handleRequest)
+				.collectList()
+				.map(responses -> {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Batch execution complete");
+					}
+					ServerResponse.BodyBuilder builder = ServerResponse.ok();
+					for (WebGraphQlResponse response : responses) {
+						builder.headers(headers -> headers.putAll(response.getResponseHeaders()));
+					}
+					builder.contentType(selectResponseMediaType(serverRequest));
+					if (jackson2Present) {
+						ServerResponse jacksonResponse = JacksonResponseWriter.writeBatch(builder, serverRequest, responses);
+						if (jacksonResponse != null) {
+							return jacksonResponse;
+						}
+					}
+					List<Map<String, Object>> results = new ArrayList<>(responses.size());
+					for (WebGraphQlResponse response : responses) {
+						results.add(response.toMap());
+					}
+					return builder.body(results);
+				});
+		return ServerResponse.async(responseMono);
+	}
+
+	private static Map<String, Object> readQueryParams(ServerRequest request) {
+		Map<String, Object> body = new LinkedHashMap<>();
+		request.param("query").ifPresent(value -> body.put("query", value));
+		request.param("operationName").ifPresent(value -> body.put("operationName", value));
+		request.param("variables").ifPresent(value -> body.put("variables", readJson(request, value)));
+		request.param("extensions").ifPresent(value -> body.put("extensions", readJson(request, value)));
+		return body;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> readJson(ServerRequest request, String json) {
+		HttpMessageConverter<Object> converter = request.messageConverters().stream()
+				.filter(candidate -> candidate.canRead(Map.class, MediaType.APPLICATION_JSON))
+				.map(candidate -> (HttpMessageConverter<Object>) candidate)
+				.findFirst()
+				.orElseThrow(() -> new IllegalStateException("No JSON HttpMessageConverter"));
+		HttpInputMessage inputMessage = new HttpInputMessage() {
+
+			@Override
+			public InputStream getBody() {
+				return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+			}
+
+			@Override
+			public HttpHeaders getHeaders() {
+				HttpHeaders headers = new HttpHeaders();
+				headers.setContentType(MediaType.APPLICATION_JSON);
+				return headers;
+			}
+		};
+		try {
+			return (Map<String, Object>) converter.read((Class<Object>) (Class<?>) Map.class, inputMessage);
+		}
+		catch (IOException | HttpMessageNotReadableException ex) {
+			throw new ServerWebInputException("Invalid JSON in query parameter", null, ex);
+		}
+	}
+
+	private static boolean hasQueryOperationsOnly(String document) {
+		if (!StringUtils.hasText(document)) {
+			// Persisted query, resolved by PersistedQueryInterceptor, which checks the operation type for GET
+			return true;
+		}
+		// Let execution report syntax errors
+		return OperationTypeUtils.hasQueryOperationsOnly(document, true);
+	}
+
+	@Nullable
+	private static MediaType selectIncrementalMediaType(ServerRequest serverRequest) {
+		for (MediaType accepted : serverRequest.headers().accept()) {
+			if (SUPPORTED_MEDIA_TYPES.contains(accepted)) {
+				return null;
+			}
+			for (MediaType mediaType : INCREMENTAL_MEDIA_TYPES) {
+				if (mediaType.equalsTypeAndSubtype(accepted)) {
+					return mediaType;
+				}
+			}
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static HttpMessageConverter<Object> findJsonConverter(List<HttpMessageConverter<?>> converters) {
+		for (HttpMessageConverter<?> converter : converters) {
+			if (converter.canWrite(Map.class, MediaType.APPLICATION_JSON)) {
+				return (HttpMessageConverter<Object>) converter;
+			}
+		}
+		throw new IllegalStateException("No JSON HttpMessageConverter");
+	}
+
+	/**
+	 * Write the initial result, followed by subsequent results if the data
+	 * is a {@link Publisher} of {@link ExecutionResult}s, flushing after each.
+	 * Results are written asynchronously, as they are produced, through Servlet
+	 * async processing, and the Servlet container thread is released.
+	 */
+	@SuppressWarnings("unchecked")
+	private static void writeIncremental(
+			WebGraphQlResponse response, HttpMessageConverter<Object> converter,
+			HttpServletRequest servletRequest, HttpServletResponse servletResponse, boolean sse)
+			throws ServletException, IOException {
+
+		Object data = response.getExecutionResult().getData();
+		boolean hasSubsequentResults = (data instanceof Publisher);
+
+		Flux<Map<String, Object>> results = (hasSubsequentResults ?
+				Flux.from((Publisher<ExecutionResult>) data).map(ExecutionResult::toSpecification) :
+				Flux.just(response.toMap()));
+
+		DeferredResult<Object> deferredResult = new DeferredResult<>();
+		WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(servletRequest);
+		asyncManager.setAsyncWebRequest(WebAsyncUtils.createAsyncWebRequest(servletRequest, servletResponse));
+		try {
+			asyncManager.startDeferredResultProcessing(deferredResult);
+		}
+		catch (IOException | ServletException ex) {
+			throw ex;
+		}
+		catch (Exception ex) {
+			throw new ServletException("Async processing failed", ex);
+		}
+
+		OutputStream outputStream = servletResponse.getOutputStream();
+		Disposable subscription = results
+				.doOnNext(result -> {
+					try {
+						writePart(result, converter, outputStream, sse, hasSubsequentResults);
+					}
+					catch (IOException ex) {
+						throw new UncheckedIOException(ex);
+					}
+				})
+				.then(Mono.fromRunnable(() -> {
+					try {
+						writeEnd(converter, outputStream, sse, hasSubsequentResults);
+					}
+					catch (IOException ex) {
+						throw new UncheckedIOException(ex);
+					}
+				}))
+				.subscribe(null, deferredResult::setErrorResult, () -> deferredResult.setResult(null));
+
+		// Stop producing results if the request times out, or the client goes away
+		deferredResult.onCompletion(subscription::dispose);
+	}
+
+	private static void writePart(
+			Map<String, Object> result, HttpMessageConverter<Object> converter, OutputStream outputStream,
+			boolean sse, boolean hasSubsequentResults) throws IOException {
+
+		if (sse) {
+			writeEvent("next", encode(result, converter), outputStream);
+		}
+		else {
+			Map<String, Object> payload = new LinkedHashMap<>(result);
+			payload.put("hasNext", hasSubsequentResults);
+			outputStream.write(MULTIPART_PART_START);
+			outputStream.write(encode(payload, converter));
+		}
+		outputStream.flush();
+	}
+
+	private static void writeEnd(
+			HttpMessageConverter<Object> converter, OutputStream outputStream,
+			boolean sse, boolean hasSubsequentResults) throws IOException {
+
+		if (sse) {
+			writeEvent("complete", null, outputStream);
+		}
+		else {
+			if (hasSubsequentResults) {
+				outputStream.write(MULTIPART_PART_START);
+				outputStream.write(encode(Collections.singletonMap("hasNext", false), converter));
+			}
+			outputStream.write(MULTIPART_END);
+		}
+		outputStream.flush();
+	}
+
+	private static byte[] encode(Object value, HttpMessageConverter<Object> converter) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		HttpHeaders headers = new HttpHeaders();
+		converter.write(value, MediaType.APPLICATION_JSON, new HttpOutputMessage() {
+
+			@Override
+			public OutputStream getBody() {
+				return outputStream;
+			}
+
+			@Override
+			public HttpHeaders getHeaders() {
+				return headers;
+			}
+		});
+		return outputStream.toByteArray();
+	}
+
+	private static void writeEvent(String event, @Nullable byte[] data, OutputStream outputStream) throws IOException {
+		StringBuilder sb = new StringBuilder("event:").append(event).append('\n');
+		if (data != null) {
+			for (String line : StringUtils.delimitedListToStringArray(new String(data, StandardCharsets.UTF_8), "\n")) {
+				sb.append("data:").append(line).append('\n');
+			}
+		}
+		sb.append('\n');
+		outputStream.write(sb.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
 	private static MediaType selectResponseMediaType(ServerRequest serverRequest) {
 		for (MediaType accepted : serverRequest.headers().accept()) {
 			if (SUPPORTED_MEDIA_TYPES.contains(accepted)) {
@@ -120,4 +520,70 @@ public class GraphQlHttpHandler {
 		return MediaType.APPLICATION_JSON;
 	}
 
+
+
+	/**
+	 * Write the response with the {@code ObjectMapper} of the configured
+	 * Jackson message converter through {@link ExecutionResultJsonWriter},
+	 * directly to the Servlet response {@code OutputStream}.
+	 */
+	private static final class JacksonResponseWriter {
+
+		@Nullable
+		static ServerResponse write(
+				ServerResponse.BodyBuilder builder, ServerRequest request, WebGraphQlResponse response) {
+
+			ObjectMapper objectMapper = findObjectMapper(request.messageConverters());
+			if (objectMapper == null) {
+				return null;
+			}
+			ExecutionResultJsonWriter writer = new ExecutionResultJsonWriter(objectMapper);
+			return builder.build((servletRequest, servletResponse) -> {
+				try {
+					writer.write(response.getExecutionResult(), servletResponse.getOutputStream());
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+				return null;
+			});
+		}
+
+		@Nullable
+		static ServerResponse writeBatch(
+				ServerResponse.BodyBuilder builder, ServerRequest request, List<WebGraphQlResponse> responses) {
+
+			ObjectMapper objectMapper = findObjectMapper(request.messageConverters());
+			if (objectMapper == null) {
+				return null;
+			}
+			ExecutionResultJsonWriter writer = new ExecutionResultJsonWriter(objectMapper);
+			List<ExecutionResult> results = new ArrayList<>(responses.size());
+			for (WebGraphQlResponse response : responses) {
+				results.add(response.getExecutionResult());
+			}
+			return builder.build((servletRequest, servletResponse) -> {
+				try {
+					writer.writeAll(results, servletResponse.getOutputStream());
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+				return null;
+			});
+		}
+
+		@Nullable
+		private static ObjectMapper findObjectMapper(List<HttpMessageConverter<?>> converters) {
+			for (HttpMessageConverter<?> converter : converters) {
+				if (converter instanceof AbstractJackson2HttpMessageConverter &&
+						converter.canWrite(Map.class, MediaType.APPLICATION_JSON)) {
+					return ((AbstractJackson2HttpMessageConverter) converter).getObjectMapper();
+				}
+			}
+			return null;
+		}
+
+	}
+
 }
@@ -31,7 +31,13 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import graphql.ExecutionResult;
@@ -44,7 +50,6 @@ import org.reactivestreams.Subscription;
 import reactor.core.publisher.BaseSubscriber;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import org.springframework.graphql.execution.ThreadLocalAccessor;
@@ -103,6 +108,14 @@ public class GraphQlWebSocketHandler extends TextWebSocketHandler implements Sub
 
 	private final Map<String, SessionState> sessionInfoMap = new ConcurrentHashMap<>();
 
+	private Executor sendExecutor = task -> Schedulers.boundedElastic().schedule(task);
+
+	private int sendQueueLimit = 1000;
+
+	private int inboundQueueLimit = 100;
+
+	private Duration sendTimeLimit = Duration.ofSeconds(10);
+
 	/**
 	 * Create a new instance.
 	 * @param graphQlHandler common handler for GraphQL over WebSocket requests
@@ -123,6 +136,101 @@ public class GraphQlWebSocketHandler extends TextWebSocketHandler implements Sub
 		this.converter = converter;
 	}
 
+	/**
+	 * Configure the {@link Executor} to send messages with. Each session has
+	 * a queue of messages to send that is drained by one task at a time, so
+	 * sends are serialized per session without a thread per session.
+	 * <p>By default, this is Reactor's shared
+	 * {@link Schedulers#boundedElastic() bounded elastic} scheduler. An
+	 * executor that creates virtual threads may also be used, if available.
+	 * @param sendExecutor the executor to use
+	 * @since 1.1.0
+	 */
+	public void setSendExecutor(Executor sendExecutor) {
+		Assert.notNull(sendExecutor, "Executor is required");
+		this.sendExecutor = sendExecutor;
+	}
+
+	/**
+	 * Return the {@link #setSendExecutor configured} Executor.
+	 * @since 1.1.0
+	 */
+	public Executor getSendExecutor() {
+		return this.sendExecutor;
+	}
+
+	/**
+	 * Configure the maximum number of messages that may be waiting to be sent
+	 * for a session. Each subscription requests its next item only after the
+	 * previous message is sent, so the queue grows mainly when the client
+	 * does not keep up. When the limit is exceeded, the session is closed
+	 * with {@link CloseStatus#SESSION_NOT_RELIABLE}.
+	 * <p>By default, this is set to 1000.
+	 * @param sendQueueLimit the limit to use
+	 * @since 1.1.0
+	 */
+	public void setSendQueueLimit(int sendQueueLimit) {
+		Assert.isTrue(sendQueueLimit > 0, "'sendQueueLimit' must be greater than 0");
+		this.sendQueueLimit = sendQueueLimit;
+	}
+
+	/**
+	 * Return the {@link #setSendQueueLimit configured} send queue limit.
+	 * @since 1.1.0
+	 */
+	public int getSendQueueLimit() {
+		return this.sendQueueLimit;
+	}
+
+	/**
+	 * Configure the maximum number of received messages that may be waiting
+	 * to be handled for a session. Messages are handled in order, one at a
+	 * time, and wait while the handling of a previous message completes
+	 * asynchronously, e.g. for {@code "connection_init"}. When the limit is
+	 * exceeded, the session is closed with {@link CloseStatus#POLICY_VIOLATION}.
+	 * <p>By default, this is set to 100.
+	 * @param inboundQueueLimit the limit to use
+	 * @since 1.1.0
+	 */
+	public void setInboundQueueLimit(int inboundQueueLimit) {
+		Assert.isTrue(inboundQueueLimit > 0, "'inboundQueueLimit' must be greater than 0");
+		this.inboundQueueLimit = inboundQueueLimit;
+	}
+
+	/**
+	 * Return the {@link #setInboundQueueLimit configured} inbound queue limit.
+	 * @since 1.1.0
+	 */
+	public int getInboundQueueLimit() {
+		return this.inboundQueueLimit;
+	}
+
+	/**
+	 * Configure how long sending a single message may take. Sends block the
+	 * {@link #setSendExecutor send Executor} thread, and a client that stops
+	 * reading can hold it indefinitely. As with
+	 * {@link org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator},
+	 * the limit is checked when another message is sent or queued for the
+	 * session, and if it is exceeded, the session is closed with
+	 * {@link CloseStatus#SESSION_NOT_RELIABLE}, which also releases the
+	 * blocked thread.
+	 * <p>By default, this is set to 10 seconds.
+	 * @param sendTimeLimit the limit to use
+	 * @since 1.1.0
+	 */
+	public void setSendTimeLimit(Duration sendTimeLimit) {
+		Assert.isTrue(sendTimeLimit.toMillis() > 0, "'sendTimeLimit' must be greater than 0");
+		this.sendTimeLimit = sendTimeLimit;
+	}
+
+	/**
+	 * Return the {@link #setSendTimeLimit configured} send time limit.
+	 * @since 1.1.0
+	 */
+	public Duration getSendTimeLimit() {
+		return this.sendTimeLimit;
+	}
+
 	@Override
 	public List<String> getSubProtocols() {
 		return SUB_PROTOCOL_LIST;
@@ -151,41 +259,91 @@ public class GraphQlWebSocketHandler extends TextWebSocketHandler implements Sub
 			return;
 		}
 
-		SessionState sessionState = new SessionState(session.getId(), new WebMvcSessionInfo(session));
+		SessionState sessionState = new SessionState(session, new WebMvcSessionInfo(session),
+				this.sendExecutor, this.sendQueueLimit, this.sendTimeLimit.toMillis(), this.inboundQueueLimit);
 		this.sessionInfoMap.put(session.getId(), sessionState);
 
 		Mono.delay(this.initTimeoutDuration)
 				.then(Mono.fromRunnable(() -> {
 						if (sessionState.setConnectionInitPayload(Collections.emptyMap())) {
-							GraphQlStatus.closeSession(session, GraphQlStatus.INIT_TIMEOUT_STATUS);
+							sessionState.close(GraphQlStatus.INIT_TIMEOUT_STATUS);
 						}
 				}))
 				.subscribe();
 
 	}
 
-	@SuppressWarnings({"unused", "try"})
 	@Override
 	protected void handleTextMessage(WebSocketSession session, TextMessage webSocketMessage) throws Exception {
-		try (Closeable closeable = this.contextHandshakeInterceptor.restoreThreadLocalValue(session)) {
-			handleInternal(session, webSocketMessage);
+		SessionState state = getSessionInfo(session);
+		if (!state.offerInbound(webSocketMessage)) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Closing " + session + ", more than " +
+						this.inboundQueueLimit + " received messages waiting to be handled");
+			}
+			GraphQlStatus.closeSession(session, CloseStatus.POLICY_VIOLATION);
+			return;
+		}
+		if (state.startInbound()) {
+			drainInbound(session, state);
+		}
+	}
+
+	/**
+	 * Handle queued messages in order, until there are no more. Handling that
+	 * completes asynchronously, such as {@code "connection_init"}, suspends the
+	 * loop, and the thread that completes it resumes the loop, unless it
+	 * completed before the loop could suspend, in which case the loop simply
+	 * continues. This avoids blocking the calling thread as well as recursion.
+	 */
+	@SuppressWarnings({"unused", "try"})
+	private void drainInbound(WebSocketSession session, SessionState state) {
+		do {
+			TextMessage message = state.pollInbound();
+			Mono<Void> completion;
+			try (Closeable closeable = this.contextHandshakeInterceptor.restoreThreadLocalValue(session)) {
+				completion = handleInternal(session, state, message);
+			}
+			catch (Throwable ex) {
+				// Leave the in-progress count as is, so no further messages are handled
+				ExceptionWebSocketHandlerDecorator.tryCloseWithError(session, ex, logger);
+				return;
+			}
+			if (completion != null) {
+				AtomicBoolean suspended = new AtomicBoolean();
+				completion.doFinally(signal -> {
+					if (!suspended.compareAndSet(false, true) && state.completeInbound()) {
+						drainInbound(session, state);
+					}
+				}).subscribe();
+				if (suspended.compareAndSet(false, true)) {
+					return;
+				}
+			}
 		}
+		while (state.completeInbound());
 	}
 
-	private void handleInternal(WebSocketSession session, TextMessage webSocketMessage) throws IOException {
+	/**
+	 * Handle a message, and return a {@code Mono} if handling completes
+	 * asynchronously, in which case the next message must wait for it.
+	 */
+	@Nullable
+	private Mono<Void> handleInternal(
+			WebSocketSession session, SessionState state, TextMessage webSocketMessage) throws IOException {
+
 		GraphQlWebSocketMessage message = decode(webSocketMessage);
 		String id = message.getId();
 		Map<String, Object> payload = message.getPayload();
-		SessionState state = getSessionInfo(session);
 		switch (message.resolvedType()) {
 			case SUBSCRIBE:
 				if (state.getConnectionInitPayload() == null) {
-					GraphQlStatus.closeSession(session, GraphQlStatus.UNAUTHORIZED_STATUS);
-					return;
+					state.close(GraphQlStatus.UNAUTHORIZED_STATUS);
+					return null;
 				}
 				if (id == null) {
-					GraphQlStatus.closeSession(session, GraphQlStatus.INVALID_MESSAGE_STATUS);
-					return;
+					state.close(GraphQlStatus.INVALID_MESSAGE_STATUS);
+					return null;
 				}
 				URI uri = session.getUri();
 				Assert.notNull(uri, "Expected handshake url");
@@ -196,48 +354,46 @@ public class GraphQlWebSocketHandler extends TextWebSocketHandler implements Sub
 					logger.debug("Executing: " + request);
 				}
 				this.graphQlHandler.handleRequest(request)
-						.flatMapMany((response) -> handleResponse(session, request.getId(), response))
-						.publishOn(state.getScheduler()) // Serial blocking send via single thread
+						.flatMapMany((response) -> handleResponse(state, request.getId(), response))
 						.subscribe(new SendMessageSubscriber(id, session, state));
-				return;
+				return null;
 			case PING:
-				session.sendMessage(encode(GraphQlWebSocketMessage.pong(null)));
-				return;
+				state.send(encode(GraphQlWebSocketMessage.pong(null)), null);
+				return null;
 			case COMPLETE:
-				if (id != null) {
-					Subscription subscription = state.getSubscriptions().remove(id);
-					if (subscription != null) {
-						subscription.cancel();
-					}
-					this.webSocketGraphQlInterceptor.handleCancelledSubscription(state.getSessionInfo(), id)
-							.block(Duration.ofSeconds(10));
+				if (id == null) {
+					return null;
 				}
-				return;
+				Subscription subscription = state.getSubscriptions().remove(id);
+				if (subscription != null) {
+					subscription.cancel();
+				}
+				return this.webSocketGraphQlInterceptor.handleCancelledSubscription(state.getSessionInfo(), id)
+						.onErrorResume(ex -> {
+							if (logger.isDebugEnabled()) {
+								logger.debug("Error from handleCancelledSubscription for " + id, ex);
+							}
+							return Mono.empty();
+						});
 			case CONNECTION_INIT:
 				if (!state.setConnectionInitPayload(payload)) {
-					GraphQlStatus.closeSession(session, GraphQlStatus.TOO_MANY_INIT_REQUESTS_STATUS);
-					return;
+					state.close(GraphQlStatus.TOO_MANY_INIT_REQUESTS_STATUS);
+					return null;
 				}
-				this.webSocketGraphQlInterceptor.handleConnectionInitialization(state.getSessionInfo(), payload)
+				return this.webSocketGraphQlInterceptor.handleConnectionInitialization(state.getSessionInfo(), payload)
 						.defaultIfEmpty(Collections.emptyMap())
-						.publishOn(state.getScheduler()) // Serial blocking send via single thread
 						.doOnNext(ackPayload -> {
 							TextMessage outputMessage = encode(GraphQlWebSocketMessage.connectionAck(ackPayload));
-							try {
-								session.sendMessage(outputMessage);
-							}
-							catch (IOException ex) {
-								throw new IllegalStateException(ex);
-							}
+							state.send(outputMessage, null);
 						})
 						.onErrorResume(ex -> {
-							GraphQlStatus.closeSession(session, GraphQlStatus.UNAUTHORIZED_STATUS);
+							state.close(GraphQlStatus.UNAUTHORIZED_STATUS);
 							return Mono.empty();
 						})
-						.block(Duration.ofSeconds(10));
-				return;
+						.then();
 			default:
-				GraphQlStatus.closeSession(session, GraphQlStatus.INVALID_MESSAGE_STATUS);
+				state.close(GraphQlStatus.INVALID_MESSAGE_STATUS);
+				return null;
 		}
 	}
 
@@ -254,7 +410,7 @@ public class GraphQlWebSocketHandler extends TextWebSocketHandler implements Sub
 	}
 
 	@SuppressWarnings("unchecked")
-	private Flux<TextMessage> handleResponse(WebSocketSession session, String id, WebGraphQlResponse response) {
+	private Flux<TextMessage> handleResponse(SessionState state, String id, WebGraphQlResponse response) {
 		if (logger.isDebugEnabled()) {
 			logger.debug("Execution result ready"
 					+ (!CollectionUtils.isEmpty(response.getErrors()) ? " with errors: " + response.getErrors() : "")
@@ -266,7 +422,7 @@ public class GraphQlWebSocketHandler extends TextWebSocketHandler implements Sub
 			responseFlux = Flux.from((Publisher<ExecutionResult>) response.getData())
 					.map(ExecutionResult::toSpecification)
 					.doOnSubscribe((subscription) -> {
-							Subscription prev = getSessionInfo(session).getSubscriptions().putIfAbsent(id, subscription);
+							Subscription prev = state.getSubscriptions().putIfAbsent(id, subscription);
 							if (prev != null) {
 								throw new SubscriptionExistsException();
 							}
@@ -283,7 +439,7 @@ public class GraphQlWebSocketHandler extends TextWebSocketHandler implements Sub
 				.onErrorResume((ex) -> {
 						if (ex instanceof SubscriptionExistsException) {
 							CloseStatus status = new CloseStatus(4409, "Subscriber for " + id + " already exists");
-							GraphQlStatus.closeSession(session, status);
+							state.close(status);
 							return Flux.empty();
 						}
 						String message = ex.getMessage();
@@ -439,17 +595,50 @@ public class GraphQlWebSocketHandler extends TextWebSocketHandler implements Sub
 
 	private static class SessionState {
 
+		private static final int MAX_SENDS_PER_DRAIN = 256;
+
+		private final WebSocketSession session;
+
 		private final WebSocketSessionInfo sessionInfo;
 
 		private final AtomicReference<Map<String, Object>> connectionInitPayloadRef = new AtomicReference<>();
 
 		private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
 
-		private final Scheduler scheduler;
+		private final Executor sendExecutor;
+
+		private final int sendQueueLimit;
+
+		private final long sendTimeLimit;
+
+		private final Queue<PendingMessage> sendQueue = new ConcurrentLinkedQueue<>();
+
+		private final AtomicInteger sendQueueSize = new AtomicInteger();
 
-		SessionState(String graphQlSessionId, WebSocketSessionInfo sessionInfo) {
+		private final AtomicInteger sendWip = new AtomicInteger();
+
+		private final int inboundQueueLimit;
+
+		private final Queue<TextMessage> inboundQueue = new ConcurrentLinkedQueue<>();
+
+		private final AtomicInteger inboundWip = new AtomicInteger();
+
+		private volatile long sendStartTime;
+
+		private volatile boolean limitExceeded;
+
+		private volatile boolean disposed;
+
+		SessionState(
+				WebSocketSession session, WebSocketSessionInfo sessionInfo,
+				Executor sendExecutor, int sendQueueLimit, long sendTimeLimit, int inboundQueueLimit) {
+
+			this.session = session;
 			this.sessionInfo = sessionInfo;
-			this.scheduler = Schedulers.newSingle("GraphQL-WsSession-" + graphQlSessionId);
+			this.sendExecutor = sendExecutor;
+			this.sendQueueLimit = sendQueueLimit;
+			this.sendTimeLimit = sendTimeLimit;
+			this.inboundQueueLimit = inboundQueueLimit;
 		}
 
 		public WebSocketSessionInfo getSessionInfo() {
@@ -470,7 +659,149 @@ public class GraphQlWebSocketHandler extends TextWebSocketHandler implements Sub
 			return this.subscriptions;
 		}
 
+		/**
+		 * Queue a received message, unless the number of messages waiting to
+		 * be handled, including the one in progress, has reached the limit.
+		 * Messages for a session are received one at a time.
+		 * @param message the received message
+		 * @return {@code false} if the limit has been reached
+		 */
+		boolean offerInbound(TextMessage message) {
+			if (this.inboundWip.get() >= this.inboundQueueLimit) {
+				return false;
+			}
+			this.inboundQueue.offer(message);
+			return true;
+		}
+
+		/**
+		 * Count a queued message, and return {@code true} if the caller should
+		 * start handling queued messages, i.e. if none are in progress.
+		 */
+		boolean startInbound() {
+			return (this.inboundWip.getAndIncrement() == 0);
+		}
+
+		/**
+		 * Return the next queued message. Only invoked by the one caller that
+		 * handles messages, while there is a counted message.
+		 */
+		TextMessage pollInbound() {
+			TextMessage message = this.inboundQueue.poll();
+			Assert.state(message != null, "No queued message");
+			return message;
+		}
+
+		/**
+		 * Mark the handling of a message as complete, and return {@code true}
+		 * if there are more messages to handle.
+		 */
+		boolean completeInbound() {
+			return (this.inboundWip.decrementAndGet() != 0);
+		}
+
+		/**
+		 * Queue a message to be sent, and make sure the queue is being drained.
+		 * @param message the message to send
+		 * @param afterSend callback to invoke once the message is sent
+		 * @return {@code false} if the message was not queued because the
+		 * session is closed, or it was closed for exceeding the queue limit
+		 * or the send time limit
+		 */
+		boolean send(TextMessage message, @Nullable Runnable afterSend) {
+			if (this.disposed || this.limitExceeded) {
+				return false;
+			}
+			long sendStartTime = this.sendStartTime;
+			if (sendStartTime != 0 && System.currentTimeMillis() - sendStartTime > this.sendTimeLimit) {
+				closeForLimit("a send has taken more than " + this.sendTimeLimit + " ms");
+				return false;
+			}
+			if (this.sendQueueSize.incrementAndGet() > this.sendQueueLimit) {
+				this.sendQueueSize.decrementAndGet();
+				closeForLimit("more than " + this.sendQueueLimit + " messages waiting to be sent");
+				return false;
+			}
+			enqueue(new PendingMessage(message, null, afterSend));
+			return true;
+		}
+
+		private void closeForLimit(String reason) {
+			this.limitExceeded = true;
+			if (logger.isDebugEnabled()) {
+				logger.debug("Closing " + this.session + ", " + reason);
+			}
+			GraphQlStatus.closeSession(this.session, CloseStatus.SESSION_NOT_RELIABLE);
+		}
+
+		/**
+		 * Close the session after messages already in the queue are sent.
+		 * @param status the status to close with
+		 */
+		void close(CloseStatus status) {
+			this.sendQueueSize.incrementAndGet();
+			enqueue(new PendingMessage(null, status, null));
+		}
+
+		private void enqueue(PendingMessage pending) {
+			this.sendQueue.offer(pending);
+			if (this.sendWip.getAndIncrement() == 0) {
+				scheduleDrain();
+			}
+		}
+
+		private void scheduleDrain() {
+			try {
+				this.sendExecutor.execute(this::drain);
+			}
+			catch (RejectedExecutionException ex) {
+				ExceptionWebSocketHandlerDecorator.tryCloseWithError(this.session, ex, logger);
+			}
+		}
+
+		private void drain() {
+			int missed = this.sendWip.get();
+			int sent = 0;
+			while (true) {
+				PendingMessage pending;
+				while ((pending = this.sendQueue.poll()) != null) {
+					this.sendQueueSize.decrementAndGet();
+					if (this.disposed || this.limitExceeded || !this.session.isOpen()) {
+						continue;
+					}
+					if (pending.closeStatus != null) {
+						GraphQlStatus.closeSession(this.session, pending.closeStatus);
+						continue;
+					}
+					this.sendStartTime = System.currentTimeMillis();
+					try {
+						this.session.sendMessage(pending.message);
+					}
+					catch (Throwable ex) {
+						ExceptionWebSocketHandlerDecorator.tryCloseWithError(this.session, ex, logger);
+						continue;
+					}
+					finally {
+						this.sendStartTime = 0;
+					}
+					if (pending.afterSend != null) {
+						pending.afterSend.run();
+					}
+					if (++sent >= MAX_SENDS_PER_DRAIN && !this.sendQueue.isEmpty()) {
+						// Give other sessions a turn, keeping the wip count so no one else drains
+						scheduleDrain();
+						return;
+					}
+				}
+				missed = this.sendWip.addAndGet(-missed);
+				if (missed == 0) {
+					return;
+				}
+			}
+		}
+
 		void dispose() {
+			this.disposed = true;
 			for (Map.Entry<String, Subscription> entry : this.subscriptions.entrySet()) {
 				try {
 					entry.getValue().cancel();
@@ -480,11 +811,29 @@ public class GraphQlWebSocketHandler extends TextWebSocketHandler implements Sub
 				}
 			}
 			this.subscriptions.clear();
-			this.scheduler.dispose();
 		}
 
-		Scheduler getScheduler() {
-			return this.scheduler;
+	}
+
+
+	/**
+	 * A message to send, or a status to close the session with.
+	 */
+	private static class PendingMessage {
+
+		@Nullable
+		private final TextMessage message;
+
+		@Nullable
+		private final CloseStatus closeStatus;
+
+		@Nullable
+		private final Runnable afterSend;
+
+		PendingMessage(@Nullable TextMessage message, @Nullable CloseStatus closeStatus, @Nullable Runnable afterSend) {
+			this.message = message;
+			this.closeStatus = closeStatus;
+			this.afterSend = afterSend;
 		}
 
 	}
@@ -552,12 +901,9 @@ public class GraphQlWebSocketHandler extends TextWebSocketHandler implements Sub
 
 		@Override
 		protected void hookOnNext(TextMessage nextMessage) {
-			try {
-				this.session.sendMessage(nextMessage);
-				request(1);
-			}
-			catch (IOException ex) {
-				ExceptionWebSocketHandlerDecorator.tryCloseWithError(this.session, ex, logger);
+			// Request more only after the message is sent
+			if (!this.sessionState.send(nextMessage, () -> request(1))) {
+				cancel();
 			}
 		}
 
@@ -15,10 +15,15 @@
  */
 package org.springframework.graphql.server.webmvc;
 
+import java.nio.charset.StandardCharsets;
+
 import graphql.schema.idl.SchemaPrinter;
 
 import org.springframework.graphql.execution.GraphQlSource;
+import org.springframework.graphql.server.support.PrintedSchema;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
 import org.springframework.web.servlet.function.ServerRequest;
 import org.springframework.web.servlet.function.ServerResponse;
 
@@ -26,13 +31,19 @@ import org.springframework.web.servlet.function.ServerResponse;
  * Spring MVC functional handler that renders the
  * {@link graphql.schema.GraphQLSchema} printed via {@link SchemaPrinter}.
  *
+ * <p>The schema is printed once per schema instance, and served with a strong
+ * ETag, and gzip compressed, if the client accepts it.
+ *
  * @author Rossen Stoyanchev
  */
 public class SchemaHandler {
 
+	private static final MediaType CONTENT_TYPE = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
 	private final GraphQlSource graphQlSource;
 
-	private final SchemaPrinter printer = new SchemaPrinter();
+	@Nullable
+	private volatile PrintedSchema printedSchema;
 
 
 	public SchemaHandler(GraphQlSource graphQlSource) {
@@ -41,9 +52,29 @@ public class SchemaHandler {
 
 
 	public ServerResponse handleRequest(ServerRequest request) {
-		return ServerResponse.ok()
-				.contentType(MediaType.TEXT_PLAIN)
-				.body(this.printer.print(graphQlSource.schema()));
+		PrintedSchema schema = getPrintedSchema();
+		boolean gzip = PrintedSchema.acceptsGzip(request.headers().header(HttpHeaders.ACCEPT_ENCODING));
+		String eTag = schema.getETag(gzip);
+		return request.checkNotModified(eTag).orElseGet(() -> {
+			ServerResponse.BodyBuilder builder = ServerResponse.ok()
+					.contentType(CONTENT_TYPE)
+					.eTag(eTag)
+					.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			if (gzip) {
+				builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+			}
+			return builder.body(schema.getContent(gzip));
+		});
+	}
+
+	/**
+	 * Return the schema printed once per schema instance, to serve repeated
+	 * requests without printing it again.
+	 */
+	private PrintedSchema getPrintedSchema() {
+		PrintedSchema schema = PrintedSchema.forSchema(this.graphQlSource.schema(), this.printedSchema);
+		this.printedSchema = schema;
+		return schema;
 	}
 
 }
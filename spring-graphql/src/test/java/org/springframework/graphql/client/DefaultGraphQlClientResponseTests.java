@@ -22,18 +22,24 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import graphql.GraphQLError;
 import graphql.GraphqlErrorBuilder;
 import graphql.execution.ResultPath;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.shaded.com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.codec.Decoder;
 import org.springframework.graphql.ResponseError;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.lang.Nullable;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 
@@ -117,6 +123,36 @@ public class DefaultGraphQlClientResponseTests {
 				.withMessageStartingWith("Invalid path");
 	}
 
+	@Test
+	void fieldToEntity() throws Exception {
+		String dataJson = "{\"me\": {\"name\":\"Luke\", \"friends\": [{\"name\":\"Han\"}, {\"name\":\"Leia\"}]}}";
+
+		assertThat(getFieldOnDataResponse("me", dataJson).toEntity(MovieCharacter.class))
+				.isEqualTo(MovieCharacter.create("Luke"));
+
+		assertThat(getFieldOnDataResponse("me.friends", dataJson).toEntityList(MovieCharacter.class))
+				.containsExactly(MovieCharacter.create("Han"), MovieCharacter.create("Leia"));
+
+		assertThatExceptionOfType(DecodingException.class)
+				.isThrownBy(() -> getFieldOnDataResponse("me.friends", dataJson).toEntity(MovieCharacter.class));
+	}
+
+	@Test
+	void fieldToEntityWithObjectMapperForType() throws Exception {
+		com.fasterxml.jackson.databind.ObjectMapper characterMapper = Jackson2ObjectMapperBuilder.json()
+				.propertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE)
+				.build();
+
+		Jackson2JsonDecoder decoder = new Jackson2JsonDecoder();
+		decoder.registerObjectMappersForType(MovieCharacter.class,
+				map -> map.put(MediaType.APPLICATION_JSON, characterMapper));
+
+		Map<?, ?> dataMap = mapper.readValue("{\"me\": {\"Name\":\"Luke\"}}", Map.class);
+		ClientGraphQlResponse response = creatResponse(Collections.singletonMap("data", dataMap), decoder);
+
+		assertThat(response.field("me").toEntity(MovieCharacter.class)).isEqualTo(MovieCharacter.create("Luke"));
+	}
+
 	@Test
 	void fieldErrors() {
 
@@ -157,10 +193,14 @@ public class DefaultGraphQlClientResponseTests {
 	}
 
 	private ClientGraphQlResponse creatResponse(Map<String, Object> responseMap) {
+		return creatResponse(responseMap, new Jackson2JsonDecoder());
+	}
+
+	private ClientGraphQlResponse creatResponse(Map<String, Object> responseMap, Decoder<?> decoder) {
 		return new DefaultClientGraphQlResponse(
 				new DefaultClientGraphQlRequest("{test}", null, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap()),
 				new ResponseMapGraphQlResponse(responseMap),
-				new Jackson2JsonEncoder(), new Jackson2JsonDecoder());
+				new Jackson2JsonEncoder(), decoder);
 	}
 
 }
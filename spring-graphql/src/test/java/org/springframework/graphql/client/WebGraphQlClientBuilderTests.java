@@ -19,14 +19,20 @@ package org.springframework.graphql.client;
 import java.net.URI;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import graphql.ExecutionResultImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
 import org.springframework.core.ResolvableType;
 import org.springframework.core.codec.DecodingException;
@@ -199,6 +205,71 @@ public class WebGraphQlClientBuilderTests {
 
 	}
 
+	@Test
+	void batching() {
+		AtomicInteger httpRequestCount = new AtomicInteger();
+
+		HttpBuilderSetup setup = new HttpBuilderSetup();
+		HttpGraphQlClient client = setup.initBuilder()
+				.webClient(builder -> builder.filter((request, next) -> {
+					httpRequestCount.incrementAndGet();
+					return next.exchange(request);
+				}))
+				.batching(Duration.ofMillis(100), 5)
+				.build();
+
+		List<ClientGraphQlResponse> responses = Flux.merge(
+						client.document("{ one }").execute(),
+						client.document("{ two }").execute(),
+						client.document("{ three }").execute())
+				.collectList()
+				.block(TIMEOUT);
+
+		assertThat(responses).hasSize(3).allMatch(ClientGraphQlResponse::isValid);
+		assertThat(httpRequestCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	void batchingPropagatesContext() {
+		AtomicReference<String> contextValue = new AtomicReference<>();
+
+		HttpBuilderSetup setup = new HttpBuilderSetup();
+		HttpGraphQlClient client = setup.initBuilder()
+				.webClient(builder -> builder.filter((request, next) -> Mono.deferContextual(contextView -> {
+					contextValue.set(contextView.getOrDefault("key", null));
+					return next.exchange(request);
+				})))
+				.batching(Duration.ofMillis(100), 5)
+				.build();
+
+		ClientGraphQlResponse response = client.document(DOCUMENT).execute()
+				.contextWrite(Context.of("key", "value"))
+				.block(TIMEOUT);
+
+		assertThat(response).isNotNull();
+		assertThat(contextValue.get()).isEqualTo("value");
+	}
+
+	@Test
+	void batchingRemovesCancelledRequests() {
+		AtomicInteger httpRequestCount = new AtomicInteger();
+
+		HttpBuilderSetup setup = new HttpBuilderSetup();
+		HttpGraphQlClient client = setup.initBuilder()
+				.webClient(builder -> builder.filter((request, next) -> {
+					httpRequestCount.incrementAndGet();
+					return next.exchange(request);
+				}))
+				.batching(Duration.ofMillis(50), 5)
+				.build();
+
+		Disposable disposable = client.document(DOCUMENT).execute().subscribe();
+		disposable.dispose();
+		Mono.delay(Duration.ofMillis(150)).block(TIMEOUT);
+
+		assertThat(httpRequestCount.get()).isEqualTo(0);
+	}
+
 	@ParameterizedTest
 	@MethodSource("argumentSource")
 	void codecConfigurerRegistersJsonPathMappingProvider(ClientBuilderSetup builderSetup) {
@@ -277,6 +348,7 @@ public class WebGraphQlClientBuilderTests {
 		@Override
 		public HttpGraphQlClient.Builder<?> initBuilder() {
 			GraphQlHttpHandler handler = new GraphQlHttpHandler(webGraphQlHandler());
+			handler.setMaxBatchSize(5);
 			RouterFunction<ServerResponse> routerFunction = route().POST("/**", handler::handleRequest).build();
 			HttpHandler httpHandler = RouterFunctions.toHttpHandler(routerFunction, HandlerStrategies.withDefaults());
 			HttpHandlerConnector connector = new HttpHandlerConnector(httpHandler);
@@ -53,7 +53,9 @@ public class BatchMappingInvocationTests extends BatchMappingTestSupport {
 				arguments(named("Returning Map<K,V>", new BatchMapController())),
 				arguments(named("Returning Flux<V>", new BatchFluxController())),
 				arguments(named("Returning List<V>", new BatchListController())),
-				arguments(named("Returning Callable<Map<K,V>>", new BatchCallableMapController()))
+				arguments(named("Returning Callable<Map<K,V>>", new BatchCallableMapController())),
+				arguments(named("Returning Mono<Map<K,V>> with maxBatchSize", new BatchMonoMapMaxSizeController())),
+				arguments(named("Returning Flux<V> with maxBatchSize", new BatchFluxMaxSizeController()))
 		);
 	}
 
@@ -206,4 +208,33 @@ public class BatchMappingInvocationTests extends BatchMappingTestSupport {
 	}
 
 
+	@Controller
+	private static class BatchMonoMapMaxSizeController extends CourseController {
+
+		@BatchMapping(maxBatchSize = 1)
+		public Mono<Map<Course, Person>> instructor(List<Course> courses) {
+			return Flux.fromIterable(courses).collect(Collectors.toMap(Function.identity(), Course::instructor));
+		}
+
+		@BatchMapping(maxBatchSize = 1, batchConcurrency = 1)
+		public Mono<Map<Course, List<Person>>> students(Set<Course> courses) {
+			return Flux.fromIterable(courses).collect(Collectors.toMap(Function.identity(), Course::students));
+		}
+	}
+
+
+	@Controller
+	private static class BatchFluxMaxSizeController extends CourseController {
+
+		@BatchMapping(maxBatchSize = 1)
+		public Flux<Person> instructor(List<Course> courses) {
+			return Flux.fromIterable(courses).map(Course::instructor);
+		}
+
+		@BatchMapping(maxBatchSize = 1, batchConcurrency = 1)
+		public Flux<List<Person>> students(List<Course> courses) {
+			return Flux.fromIterable(courses).map(Course::students);
+		}
+	}
+
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.graphql.data.method.annotation.support;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.Properties;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.idl.RuntimeWiring;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.graphql.Book;
+import org.springframework.graphql.BookSource;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ControllerMappingIndex} and its use in
+ * {@link AnnotatedControllerConfigurer}.
+ *
+ * @author agent
+ */
+public class ControllerMappingIndexTests {
+
+	private static final String CONTROLLER_NAME = BookController.class.getName();
+
+
+	@Test
+	void createAndWrite() throws Exception {
+		ControllerMappingIndex index = initConfigurer(null).createControllerMappingIndex();
+
+		StringWriter writer = new StringWriter();
+		index.write(writer);
+
+		String checksum = ControllerMappingIndex.computeChecksum(BookController.class);
+		assertThat(checksum).isNotNull();
+		assertThat(index.getControllerTypeNames()).containsExactly(CONTROLLER_NAME);
+		assertThat(writer.toString()).isEqualTo(
+				CONTROLLER_NAME + "=" + checksum + "\n" +
+				CONTROLLER_NAME + "#author(org.springframework.graphql.Book)=Book.author\n" +
+				CONTROLLER_NAME + "#bookById(java.lang.Long)=Query.bookById\n");
+
+		Properties properties = new Properties();
+		properties.load(new StringReader(writer.toString()));
+		ControllerMappingIndex loadedIndex = ControllerMappingIndex.fromProperties(properties);
+		assertThat(loadedIndex.size()).isEqualTo(2);
+		assertThat(loadedIndex.getChecksum(CONTROLLER_NAME)).isEqualTo(checksum);
+	}
+
+	@Test
+	void indexedController() {
+		Properties properties = new Properties();
+		properties.setProperty(CONTROLLER_NAME, ControllerMappingIndex.computeChecksum(BookController.class));
+		properties.setProperty(CONTROLLER_NAME + "#bookById(java.lang.Long)", "Query.bookById");
+		properties.setProperty(CONTROLLER_NAME + "#author(org.springframework.graphql.Book)", "Book.author");
+
+		Map<String, Map<String, DataFetcher>> map = configure(ControllerMappingIndex.fromProperties(properties));
+
+		assertThat(map).containsOnlyKeys("Query", "Book");
+		assertThat(map.get("Query")).containsOnlyKeys("bookById");
+		assertThat(map.get("Book")).containsOnlyKeys("author");
+	}
+
+	@Test
+	void indexUsedWhileChecksumMatches() {
+		// The checksum matches, so the index is trusted as is
+		Properties properties = new Properties();
+		properties.setProperty(CONTROLLER_NAME, ControllerMappingIndex.computeChecksum(BookController.class));
+		properties.setProperty(CONTROLLER_NAME + "#bookById(java.lang.Long)", "Query.bookById");
+
+		Map<String, Map<String, DataFetcher>> map = configure(ControllerMappingIndex.fromProperties(properties));
+
+		assertThat(map).containsOnlyKeys("Query");
+	}
+
+	@Test
+	void methodsDetectedForChecksumMismatch() {
+		// Controller changed after the index was generated
+		Properties properties = new Properties();
+		properties.setProperty(CONTROLLER_NAME, "0");
+		properties.setProperty(CONTROLLER_NAME + "#bookById(java.lang.Long)", "Query.bookById");
+
+		Map<String, Map<String, DataFetcher>> map = configure(ControllerMappingIndex.fromProperties(properties));
+
+		assertThat(map).containsOnlyKeys("Query", "Book");
+		assertThat(map.get("Query")).containsOnlyKeys("bookById");
+		assertThat(map.get("Book")).containsOnlyKeys("author");
+	}
+
+	@Test
+	void methodsDetectedWithoutChecksum() {
+		Properties properties = new Properties();
+		properties.setProperty(CONTROLLER_NAME + "#bookById(java.lang.Long)", "Query.bookById");
+
+		Map<String, Map<String, DataFetcher>> map = configure(ControllerMappingIndex.fromProperties(properties));
+
+		assertThat(map).containsOnlyKeys("Query", "Book");
+	}
+
+	@Test
+	void methodsDetectedForStaleIndex() {
+		Properties properties = new Properties();
+		properties.setProperty(CONTROLLER_NAME, ControllerMappingIndex.computeChecksum(BookController.class));
+		properties.setProperty(CONTROLLER_NAME + "#bookById(java.lang.Long)", "Query.bookById");
+		properties.setProperty(CONTROLLER_NAME + "#removed(java.lang.Long)", "Query.removed");
+
+		Map<String, Map<String, DataFetcher>> map = configure(ControllerMappingIndex.fromProperties(properties));
+
+		assertThat(map).containsOnlyKeys("Query", "Book");
+		assertThat(map.get("Query")).containsOnlyKeys("bookById");
+		assertThat(map.get("Book")).containsOnlyKeys("author");
+	}
+
+	@Test
+	void controllerNotInIndexNotDetected() {
+		Properties properties = new Properties();
+		properties.setProperty("com.example.OtherController#bookById(java.lang.Long)", "Query.bookById");
+
+		Map<String, Map<String, DataFetcher>> map = configure(ControllerMappingIndex.fromProperties(properties));
+
+		assertThat(map).isEmpty();
+	}
+
+	@Test
+	void nonControllerBeanInIndexIgnored() {
+		Properties properties = new Properties();
+		properties.setProperty(NonController.class.getName(), ControllerMappingIndex.computeChecksum(NonController.class));
+		properties.setProperty(NonController.class.getName() + "#bookById(java.lang.Long)", "Query.bookById");
+
+		RuntimeWiring.Builder wiringBuilder = RuntimeWiring.newRuntimeWiring();
+		initConfigurer(ControllerMappingIndex.fromProperties(properties), NonController.class).configure(wiringBuilder);
+
+		assertThat(wiringBuilder.build().getDataFetchers()).isEmpty();
+	}
+
+	private Map<String, Map<String, DataFetcher>> configure(ControllerMappingIndex index) {
+		RuntimeWiring.Builder wiringBuilder = RuntimeWiring.newRuntimeWiring();
+		initConfigurer(index).configure(wiringBuilder);
+		return wiringBuilder.build().getDataFetchers();
+	}
+
+	private AnnotatedControllerConfigurer initConfigurer(@Nullable ControllerMappingIndex index) {
+		return initConfigurer(index, BookController.class);
+	}
+
+	private AnnotatedControllerConfigurer initConfigurer(@Nullable ControllerMappingIndex index, Class<?> beanClass) {
+		AnnotationConfigApplicationContext appContext = new AnnotationConfigApplicationContext();
+		appContext.registerBean(beanClass);
+		appContext.refresh();
+
+		AnnotatedControllerConfigurer configurer = new AnnotatedControllerConfigurer();
+		configurer.setApplicationContext(appContext);
+		configurer.setControllerMappingIndex(index);
+		configurer.afterPropertiesSet();
+		return configurer;
+	}
+
+
+	@Controller
+	private static class BookController {
+
+		@QueryMapping
+		public Book bookById(@Argument Long id) {
+			return BookSource.getBook(id);
+		}
+
+		@SchemaMapping
+		public String author(Book book) {
+			return book.getAuthor().getFirstName();
+		}
+
+	}
+
+
+	private static class NonController {
+
+		@QueryMapping
+		public Book bookById(@Argument Long id) {
+			return BookSource.getBook(id);
+		}
+
+	}
+
+}
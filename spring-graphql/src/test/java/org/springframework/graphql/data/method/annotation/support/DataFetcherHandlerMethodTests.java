@@ -16,15 +16,20 @@
 package org.springframework.graphql.data.method.annotation.support;
 
 
+import java.lang.reflect.Method;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import graphql.GraphQLContext;
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.DataFetchingEnvironmentImpl;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
+import org.springframework.core.MethodParameter;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.graphql.data.method.HandlerMethod;
 import org.springframework.graphql.data.method.HandlerMethodArgumentResolver;
@@ -64,6 +69,130 @@ public class DataFetcherHandlerMethodTests {
 		assertThat(future.get()).isEqualTo("A");
 	}
 
+	@Test
+	void exceptionFromHandlerMethodNotWrapped() throws Exception {
+
+		HandlerMethodArgumentResolverComposite resolvers = new HandlerMethodArgumentResolverComposite();
+		resolvers.addResolver(Mockito.mock(HandlerMethodArgumentResolver.class));
+
+		DataFetcherHandlerMethod handlerMethod = new DataFetcherHandlerMethod(
+				new HandlerMethod(new TestController(), TestController.class.getMethod("handleAndThrow")),
+				resolvers, null, null, false);
+
+		DataFetchingEnvironment environment = DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+				.graphQLContext(new GraphQLContext.Builder().build())
+				.build();
+
+		Object result = handlerMethod.invoke(environment);
+
+		assertThat(result).isInstanceOf(Mono.class);
+		StepVerifier.create((Mono<?>) result)
+				.expectErrorSatisfies(ex -> assertThat(ex)
+						.isExactlyInstanceOf(IllegalArgumentException.class)
+						.hasMessage("Invalid input"))
+				.verify();
+	}
+
+	@Test
+	void classCastExceptionFromHandlerMethodNotWrapped() throws Exception {
+		Object result = invoke(TestController.class.getMethod("handleAndThrowClassCast"), parameter -> null);
+
+		StepVerifier.create((Mono<?>) result)
+				.expectErrorSatisfies(ex -> assertThat(ex)
+						.isExactlyInstanceOf(ClassCastException.class)
+						.hasMessage("Invalid cast"))
+				.verify();
+	}
+
+	@Test
+	void argumentTypeMismatch() throws Exception {
+		Object result = invoke(TestController.class.getMethod("handleString", String.class), parameter -> 1);
+
+		StepVerifier.create((Mono<?>) result)
+				.expectErrorSatisfies(ex -> assertThat(ex)
+						.isExactlyInstanceOf(IllegalStateException.class)
+						.hasMessageContaining("handleString")
+						.hasCauseInstanceOf(IllegalArgumentException.class))
+				.verify();
+	}
+
+	@Test
+	void nullArgumentForPrimitiveParameter() throws Exception {
+		Object result = invoke(TestController.class.getMethod("handleInt", int.class), parameter -> null);
+
+		StepVerifier.create((Mono<?>) result)
+				.expectErrorSatisfies(ex -> assertThat(ex)
+						.isExactlyInstanceOf(IllegalStateException.class)
+						.hasMessageContaining("handleInt")
+						.hasCauseInstanceOf(IllegalArgumentException.class))
+				.verify();
+	}
+
+	@Test
+	void asyncArgumentValues() throws Exception {
+
+		HandlerMethodArgumentResolverComposite resolvers = new HandlerMethodArgumentResolverComposite();
+		resolvers.addResolver(new HandlerMethodArgumentResolver() {
+
+			@Override
+			public boolean supportsParameter(MethodParameter parameter) {
+				return true;
+			}
+
+			@Override
+			public Object resolveArgument(MethodParameter parameter, DataFetchingEnvironment environment) {
+				switch (parameter.getParameterIndex()) {
+					case 0: return Mono.just("a");
+					case 1: return "b";
+					case 2: return Mono.empty();
+					default: return Mono.just("d");
+				}
+			}
+		});
+
+		DataFetcherHandlerMethod handlerMethod = new DataFetcherHandlerMethod(
+				new HandlerMethod(new TestController(), TestController.class.getMethod(
+						"handleAndJoin", String.class, String.class, String.class, String.class)),
+				resolvers, null, null, false);
+
+		DataFetchingEnvironment environment = DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+				.graphQLContext(new GraphQLContext.Builder().build())
+				.build();
+
+		Object result = handlerMethod.invoke(environment);
+
+		assertThat(result).isInstanceOf(Mono.class);
+		StepVerifier.create((Mono<?>) result).expectNext("a,b,null,d").verifyComplete();
+	}
+
+	@Nullable
+	private static Object invoke(Method method, Function<MethodParameter, Object> argumentFunction) {
+		HandlerMethodArgumentResolverComposite resolvers = new HandlerMethodArgumentResolverComposite();
+		resolvers.addResolver(new HandlerMethodArgumentResolver() {
+
+			@Override
+			public boolean supportsParameter(MethodParameter parameter) {
+				return true;
+			}
+
+			@Override
+			public Object resolveArgument(MethodParameter parameter, DataFetchingEnvironment environment) {
+				return argumentFunction.apply(parameter);
+			}
+		});
+
+		DataFetcherHandlerMethod handlerMethod = new DataFetcherHandlerMethod(
+				new HandlerMethod(new TestController(), method), resolvers, null, null, false);
+
+		DataFetchingEnvironment environment = DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+				.graphQLContext(new GraphQLContext.Builder().build())
+				.build();
+
+		Object result = handlerMethod.invoke(environment);
+		assertThat(result).isInstanceOf(Mono.class);
+		return result;
+	}
+
 
 	private static class TestController {
 
@@ -72,6 +201,26 @@ public class DataFetcherHandlerMethodTests {
 			return () -> "A";
 		}
 
+		public String handleAndThrow() {
+			throw new IllegalArgumentException("Invalid input");
+		}
+
+		public String handleAndThrowClassCast() {
+			throw new ClassCastException("Invalid cast");
+		}
+
+		public String handleString(String value) {
+			return value;
+		}
+
+		public String handleInt(int value) {
+			return String.valueOf(value);
+		}
+
+		public String handleAndJoin(String a, String b, @Nullable String c, String d) {
+			return a + "," + b + "," + c + "," + d;
+		}
+
 	}
 
 }
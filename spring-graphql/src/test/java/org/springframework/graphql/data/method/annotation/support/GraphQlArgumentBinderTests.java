@@ -225,6 +225,37 @@ class GraphQlArgumentBinderTests {
 				});
 	}
 
+	@Test
+	void primaryConstructorWithLargeNestedBeanList() throws Exception {
+
+		GraphQlArgumentBinder binder = initializer.get();
+		ResolvableType targetType = ResolvableType.forClass(PrimaryConstructorItemListBean.class);
+
+		StringBuilder json = new StringBuilder("{\"key\":{\"items\":[");
+		for (int i = 0; i < 1000; i++) {
+			json.append(i != 0 ? "," : "").append("{\"name\":\"item").append(i).append("\", \"age\":").append(i).append("}");
+		}
+		json.append("]}}");
+
+		Object result = binder.bind(environment(json.toString()), "key", targetType);
+
+		assertThat(result).isNotNull().isInstanceOf(PrimaryConstructorItemListBean.class);
+		List<Item> items = ((PrimaryConstructorItemListBean) result).getItems();
+		assertThat(items).hasSize(1000);
+		assertThat(items.get(999).getName()).isEqualTo("item999");
+		assertThat(items.get(999).getAge()).isEqualTo(999);
+
+		assertThatThrownBy(
+				() -> binder.bind(
+						environment("{\"key\":{\"items\":[{\"name\":\"first\"},{\"age\":\"invalid\"}]}}"),
+						"key", targetType))
+				.extracting(ex -> ((BindException) ex).getFieldErrors())
+				.satisfies(errors -> {
+					assertThat(errors).hasSize(1);
+					assertThat(errors.get(0).getField()).isEqualTo("items[1].age");
+				});
+	}
+
 	@SuppressWarnings("unchecked")
 	private DataFetchingEnvironment environment(String jsonPayload) throws JsonProcessingException {
 		Map<String, Object> arguments = this.mapper.readValue(jsonPayload, Map.class);
@@ -15,10 +15,16 @@
  */
 package org.springframework.graphql.data.method.annotation.support;
 
+import java.net.URI;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import graphql.GraphQLContext;
 import graphql.schema.DataFetchingEnvironment;
@@ -41,13 +47,19 @@ import org.springframework.graphql.ExecutionGraphQlService;
 import org.springframework.graphql.GraphQlSetup;
 import org.springframework.graphql.ResponseHelper;
 import org.springframework.graphql.TestExecutionRequest;
+import org.springframework.graphql.TestThreadLocalAccessor;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.Blocking;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
 import org.springframework.graphql.execution.BatchLoaderRegistry;
 import org.springframework.graphql.execution.DefaultBatchLoaderRegistry;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -60,6 +72,9 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 public class SchemaMappingInvocationTests {
 
+	private static final ThreadLocal<String> nameThreadLocal = new ThreadLocal<>();
+
+
 	@Test
 	void queryWithScalarArgument() {
 		String document = "{ " +
@@ -206,6 +221,167 @@ public class SchemaMappingInvocationTests {
 				.verifyComplete();
 	}
 
+	@Test
+	void controllerBeanResolution() {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.register(GreetingController.class);
+		context.registerBean(PrototypeGreetingController.class, bd -> bd.setScope("prototype"));
+		context.refresh();
+
+		ExecutionGraphQlService service = GraphQlSetup.schemaContent("type Query { greeting: String prototypeGreeting: String }")
+				.runtimeWiringForAnnotatedControllers(context)
+				.toGraphQlService();
+
+		for (int i = 0; i < 3; i++) {
+			Mono<ExecutionGraphQlResponse> responseMono =
+					service.execute(TestExecutionRequest.forDocument("{ greeting prototypeGreeting }"));
+			ResponseHelper response = ResponseHelper.forResponse(responseMono);
+			assertThat(response.toEntity("greeting", String.class)).isEqualTo("Hello " + (i + 1));
+			assertThat(response.toEntity("prototypeGreeting", String.class)).isEqualTo("Hello 1");
+		}
+	}
+
+	@Test
+	void blockingMethodExecutor() {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.register(ThreadNameController.class);
+		context.refresh();
+
+		AnnotatedControllerConfigurer configurer = new AnnotatedControllerConfigurer();
+		configurer.setBlockingMethodExecutor(new SimpleAsyncTaskExecutor("blocking-"));
+		configurer.setApplicationContext(context);
+		configurer.afterPropertiesSet();
+
+		ExecutionGraphQlService service = GraphQlSetup.schemaContent("type Query { blocking: String async: String }")
+				.runtimeWiring(configurer)
+				.toGraphQlService();
+
+		Mono<ExecutionGraphQlResponse> responseMono =
+				service.execute(TestExecutionRequest.forDocument("{ blocking async }"));
+
+		ResponseHelper response = ResponseHelper.forResponse(responseMono);
+		assertThat(response.toEntity("blocking", String.class)).startsWith("blocking-");
+		assertThat(response.toEntity("async", String.class)).doesNotStartWith("blocking-");
+	}
+
+	@Test
+	void blockingMethodExecutorOnlyForAnnotatedMethods() {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.register(ThreadNameController.class);
+		context.refresh();
+
+		AnnotatedControllerConfigurer configurer = new AnnotatedControllerConfigurer();
+		configurer.setBlockingMethodExecutor(new SimpleAsyncTaskExecutor("blocking-"));
+		configurer.setApplicationContext(context);
+		configurer.afterPropertiesSet();
+
+		ExecutionGraphQlService service = GraphQlSetup.schemaContent("type Query { blocking: String nonBlocking: String }")
+				.runtimeWiring(configurer)
+				.toGraphQlService();
+
+		Mono<ExecutionGraphQlResponse> responseMono =
+				service.execute(TestExecutionRequest.forDocument("{ blocking nonBlocking }"));
+
+		ResponseHelper response = ResponseHelper.forResponse(responseMono);
+		assertThat(response.toEntity("blocking", String.class)).startsWith("blocking-");
+		assertThat(response.toEntity("nonBlocking", String.class)).doesNotStartWith("blocking-");
+	}
+
+	@Test
+	void blockingMethodPredicateDoesNotApplyToAsyncMethods() {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.register(ThreadNameController.class);
+		context.refresh();
+
+		AnnotatedControllerConfigurer configurer = new AnnotatedControllerConfigurer();
+		configurer.setBlockingMethodExecutor(new SimpleAsyncTaskExecutor("blocking-"));
+		configurer.setBlockingMethodPredicate(handlerMethod -> true);
+		configurer.setApplicationContext(context);
+		configurer.afterPropertiesSet();
+
+		ExecutionGraphQlService service = GraphQlSetup.schemaContent("type Query { nonBlocking: String asyncList: [String] }")
+				.runtimeWiring(configurer)
+				.toGraphQlService();
+
+		Mono<ExecutionGraphQlResponse> responseMono =
+				service.execute(TestExecutionRequest.forDocument("{ nonBlocking asyncList }"));
+
+		ResponseHelper response = ResponseHelper.forResponse(responseMono);
+		assertThat(response.errorCount()).isEqualTo(0);
+		assertThat(response.toEntity("nonBlocking", String.class)).startsWith("blocking-");
+		assertThat(response.toList("asyncList", String.class)).hasSize(2)
+				.allSatisfy(name -> assertThat(name).doesNotStartWith("blocking-"));
+	}
+
+	@Test
+	void blockingMethodExecutorWithThreadLocalValues() {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.register(ThreadNameController.class);
+		context.refresh();
+
+		AnnotatedControllerConfigurer configurer = new AnnotatedControllerConfigurer();
+		configurer.setBlockingMethodExecutor(new SimpleAsyncTaskExecutor("blocking-"));
+		configurer.setApplicationContext(context);
+		configurer.afterPropertiesSet();
+
+		nameThreadLocal.set("007");
+		try {
+			WebGraphQlRequest request = new WebGraphQlRequest(
+					URI.create("https://abc.org"), new HttpHeaders(),
+					Collections.singletonMap("query", "{ threadLocal }"), "1", null);
+
+			Mono<WebGraphQlResponse> responseMono =
+					GraphQlSetup.schemaContent("type Query { blocking: String async: String threadLocal: String }")
+							.runtimeWiring(configurer)
+							.threadLocalAccessor(new TestThreadLocalAccessor<>(nameThreadLocal))
+							.toWebGraphQlHandler()
+							.handleRequest(request);
+
+			String value = ResponseHelper.forResponse(responseMono).toEntity("threadLocal", String.class);
+			assertThat(value).startsWith("blocking-").endsWith(":007");
+		}
+		finally {
+			nameThreadLocal.remove();
+		}
+	}
+
+	@Test
+	void blockingMethodExecutorWithBatchMapping() {
+		BatchLoaderRegistry registry = new DefaultBatchLoaderRegistry();
+
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.register(BatchThreadNameController.class);
+		context.registerBean(BatchLoaderRegistry.class, () -> registry);
+		context.refresh();
+
+		AnnotatedControllerConfigurer configurer = new AnnotatedControllerConfigurer();
+		configurer.setBlockingMethodExecutor(new SimpleAsyncTaskExecutor("blocking-"));
+		configurer.setApplicationContext(context);
+		configurer.afterPropertiesSet();
+
+		String schema = "type Query { books: [Book] } " +
+				"type Book { id: ID mapThread: String listThread: String }";
+
+		ExecutionGraphQlService service = GraphQlSetup.schemaContent(schema)
+				.runtimeWiring(configurer)
+				.dataLoaders(registry)
+				.toGraphQlService();
+
+		Mono<ExecutionGraphQlResponse> responseMono =
+				service.execute(TestExecutionRequest.forDocument("{ books { id mapThread listThread } }"));
+
+		ResponseHelper response = ResponseHelper.forResponse(responseMono);
+		assertThat(response.errorCount()).isEqualTo(0);
+
+		List<Book> books = BookSource.books();
+		for (int i = 0; i < books.size(); i++) {
+			String mapThread = response.rawValue("books[" + i + "].mapThread");
+			String listThread = response.rawValue("books[" + i + "].listThread");
+			assertThat(mapThread).startsWith("blocking-").endsWith(":" + books.get(i).getId());
+			assertThat(listThread).startsWith("blocking-").endsWith(":" + books.get(i).getId());
+		}
+	}
+
 
 	private ExecutionGraphQlService graphQlService() {
 		BatchLoaderRegistry registry = new DefaultBatchLoaderRegistry();
@@ -281,6 +457,86 @@ public class SchemaMappingInvocationTests {
 		}
 	}
 
+	@SuppressWarnings("unused")
+	@Controller
+	private static class GreetingController {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@QueryMapping
+		public String greeting() {
+			return "Hello " + this.count.incrementAndGet();
+		}
+	}
+
+	@SuppressWarnings("unused")
+	@Controller
+	private static class ThreadNameController {
+
+		@QueryMapping
+		@Blocking
+		public String blocking() {
+			return Thread.currentThread().getName();
+		}
+
+		@QueryMapping
+		public String nonBlocking() {
+			return Thread.currentThread().getName();
+		}
+
+		@QueryMapping
+		@Blocking
+		public Mono<String> async() {
+			return Mono.just(Thread.currentThread().getName());
+		}
+
+		@QueryMapping
+		public Flux<String> asyncList() {
+			return Flux.defer(() -> Flux.just(Thread.currentThread().getName(), Thread.currentThread().getName()));
+		}
+
+		@QueryMapping
+		@Blocking
+		public String threadLocal() {
+			return Thread.currentThread().getName() + ":" + nameThreadLocal.get();
+		}
+	}
+
+	@SuppressWarnings("unused")
+	@Controller
+	@Blocking
+	private static class BatchThreadNameController {
+
+		@QueryMapping
+		public List<Book> books() {
+			return BookSource.books();
+		}
+
+		@BatchMapping
+		public Map<Book, String> mapThread(List<Book> books) {
+			String threadName = Thread.currentThread().getName();
+			return books.stream().collect(Collectors.toMap(Function.identity(), book -> threadName + ":" + book.getId()));
+		}
+
+		@BatchMapping
+		public List<String> listThread(List<Book> books) {
+			String threadName = Thread.currentThread().getName();
+			return books.stream().map(book -> threadName + ":" + book.getId()).collect(Collectors.toList());
+		}
+	}
+
+	@SuppressWarnings("unused")
+	@Controller
+	private static class PrototypeGreetingController {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@QueryMapping
+		public String prototypeGreeting() {
+			return "Hello " + this.count.incrementAndGet();
+		}
+	}
+
 	@ProjectedPayload
 	interface BookProjection {
 
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.data.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ConcurrencyLimitedExecutor}.
+ *
+ * @author agent
+ */
+public class ConcurrencyLimitedExecutorTests {
+
+	@Test
+	void tasksQueuedOverLimit() {
+		List<Runnable> submitted = new ArrayList<>();
+		ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(submitted::add, 2);
+
+		List<Integer> completed = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			int task = i;
+			executor.execute(() -> completed.add(task));
+		}
+		assertThat(submitted).hasSize(2);
+
+		submitted.remove(0).run();
+		assertThat(completed).containsExactly(0);
+		assertThat(submitted).hasSize(2);
+
+		while (!submitted.isEmpty()) {
+			submitted.remove(0).run();
+		}
+		assertThat(completed).containsExactly(0, 1, 2, 3, 4);
+	}
+
+	@Test
+	void rejectedTaskNotRun() {
+		ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(task -> {
+			throw new RejectedExecutionException("Queue full");
+		}, 1);
+
+		AtomicBoolean ran = new AtomicBoolean();
+		List<RejectedExecutionException> rejections = new ArrayList<>();
+		ConcurrencyLimitedExecutor.RejectableTask task = new ConcurrencyLimitedExecutor.RejectableTask() {
+
+			@Override
+			public void run() {
+				ran.set(true);
+			}
+
+			@Override
+			public void reject(RejectedExecutionException ex) {
+				rejections.add(ex);
+			}
+		};
+
+		executor.execute(task);
+		executor.execute(task);
+
+		assertThat(ran).isFalse();
+		assertThat(rejections).as("Permit released after rejection").hasSize(2);
+	}
+
+	@Test
+	void taskFailureReleasesPermit() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(task -> new Thread(task).start(), 1);
+
+		executor.execute(() -> {
+			throw new IllegalStateException("boom");
+		});
+		executor.execute(latch::countDown);
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.data.query;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link PropertySelection}.
+ *
+ * @author agent
+ */
+class PropertySelectionTests {
+
+	private final TypeInformation<Book> bookType = ClassTypeInformation.from(Book.class);
+
+
+	@Test
+	void nestedPropertyPaths() {
+		DataFetchingFieldSelectionSet selectionSet = bookSelectionSet();
+
+		assertThat(PropertySelection.create(this.bookType, selectionSet).toList())
+				.containsExactly("id", "author.firstName", "author.lastName");
+	}
+
+	@Test
+	void propertyPathsCached() {
+		List<String> paths = PropertySelection.getPropertyPaths(this.bookType, bookSelectionSet());
+
+		assertThat(paths).containsExactly("id", "author.firstName", "author.lastName");
+		assertThat(PropertySelection.getPropertyPaths(this.bookType, bookSelectionSet())).isSameAs(paths);
+	}
+
+	@Test
+	void propertyPathCacheBounded() {
+		List<String> paths = PropertySelection.getPropertyPaths(this.bookType, bookSelectionSet());
+
+		for (int i = 0; i < PropertySelection.PROPERTY_PATH_CACHE_LIMIT; i++) {
+			SelectedField field = selectedField("field" + i, null);
+			DataFetchingFieldSelectionSet selectionSet = mock(DataFetchingFieldSelectionSet.class);
+			when(selectionSet.getImmediateFields()).thenReturn(Collections.singletonList(field));
+			when(selectionSet.getFields()).thenReturn(Collections.singletonList(field));
+			PropertySelection.getPropertyPaths(this.bookType, selectionSet);
+		}
+
+		List<String> recreatedPaths = PropertySelection.getPropertyPaths(this.bookType, bookSelectionSet());
+		assertThat(recreatedPaths).isEqualTo(paths).isNotSameAs(paths);
+	}
+
+	private static DataFetchingFieldSelectionSet bookSelectionSet() {
+		SelectedField id = selectedField("id", null);
+		SelectedField author = selectedField("author", null);
+		SelectedField firstName = selectedField("firstName", author);
+		SelectedField lastName = selectedField("lastName", author);
+		SelectedField unknown = selectedField("unknown", null);
+
+		DataFetchingFieldSelectionSet selectionSet = mock(DataFetchingFieldSelectionSet.class);
+		when(selectionSet.getImmediateFields()).thenReturn(Arrays.asList(id, author, unknown));
+		when(selectionSet.getFields()).thenReturn(Arrays.asList(id, author, firstName, lastName, unknown));
+		return selectionSet;
+	}
+
+	private static SelectedField selectedField(String name, @Nullable SelectedField parent) {
+		SelectedField field = mock(SelectedField.class);
+		when(field.getName()).thenReturn(name);
+		when(field.getQualifiedName()).thenReturn(parent != null ? parent.getName() + "/" + name : name);
+		when(field.getParentField()).thenReturn(parent);
+		return field;
+	}
+
+}
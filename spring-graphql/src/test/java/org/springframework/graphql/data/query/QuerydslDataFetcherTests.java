@@ -17,21 +17,31 @@
 package org.springframework.graphql.data.query;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.querydsl.core.types.Predicate;
+import graphql.GraphQLContext;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.keyvalue.core.KeyValueTemplate;
 import org.springframework.data.keyvalue.repository.support.KeyValueRepositoryFactory;
 import org.springframework.data.map.MapKeyValueAdapter;
@@ -54,6 +64,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.lang.Nullable;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -113,6 +124,73 @@ class QuerydslDataFetcherTests {
 		tester.accept(graphQlSetup(mockRepository));
 	}
 
+	@Test
+	void shouldFetchItemsAsync() {
+		Book book = new Book(42L, "Hitchhiker's Guide to the Galaxy", new Author(0L, "Douglas", "Adams"));
+		mockRepository.save(book);
+
+		List<String> threadNames = new CopyOnWriteArrayList<>();
+		Executor executor = task -> new SimpleAsyncTaskExecutor("query-").execute(() -> {
+			threadNames.add(Thread.currentThread().getName());
+			task.run();
+		});
+
+		Consumer<GraphQlSetup> tester = setup -> {
+			WebGraphQlRequest request = request("{ bookById(id: 42) {name}}");
+			Mono<WebGraphQlResponse> responseMono = setup.toWebGraphQlHandler().handleRequest(request);
+			Book actualBook = ResponseHelper.forResponse(responseMono).toEntity("bookById", Book.class);
+
+			assertThat(actualBook.getName()).isEqualTo(book.getName());
+		};
+
+		// explicit wiring
+		tester.accept(graphQlSetup("bookById",
+				QuerydslDataFetcher.builder(mockRepository).executor(executor).maxConcurrency(1).singleAsync()));
+
+		// auto registration
+		tester.accept(GraphQlSetup.schemaResource(BookSource.schema).runtimeWiring(
+				QuerydslDataFetcher.autoRegistrationConfigurer(
+						Collections.singletonList(mockRepository), Collections.emptyList(), executor, 1)));
+
+		assertThat(threadNames).hasSize(2).allMatch(name -> name.startsWith("query-"));
+	}
+
+	@Test
+	void asyncFetchersShareConcurrencyLimit() throws Exception {
+		List<Runnable> submitted = new ArrayList<>();
+		QuerydslDataFetcher.Builder<Book, Book> builder =
+				QuerydslDataFetcher.builder(mockRepository).executor(submitted::add).maxConcurrency(1);
+
+		builder.singleAsync().get(environment());
+		builder.sortBy(Sort.by("name")).manyAsync().get(environment());
+
+		assertThat(submitted).as("Second query waits for the first").hasSize(1);
+	}
+
+	@Test
+	void invalidMaxConcurrency() {
+		QuerydslDataFetcher.Builder<Book, Book> builder = QuerydslDataFetcher.builder(mockRepository);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> builder.maxConcurrency(0));
+		assertThatIllegalArgumentException().isThrownBy(() -> builder.maxConcurrency(-2));
+		assertThat(builder.maxConcurrency(-1)).isNotNull();
+	}
+
+	@Test
+	void asyncFetchRejected() throws Exception {
+		DataFetcher<CompletableFuture<Book>> fetcher = QuerydslDataFetcher.builder(mockRepository)
+				.executor(task -> {
+					throw new RejectedExecutionException("Queue full");
+				})
+				.maxConcurrency(1)
+				.singleAsync();
+
+		CompletableFuture<Book> future = fetcher.get(environment());
+
+		assertThat(future).isCompletedExceptionally();
+		assertThat(future.handle((value, ex) -> ex).get()).isInstanceOf(RejectedExecutionException.class);
+	}
+
 	@Test
 	void shouldFetchMultipleItemsWithListInput() {
 		Book book1 = new Book(42L, "Hitchhiker's Guide to the Galaxy", new Author(0L, "Douglas", "Adams"));
@@ -292,6 +370,12 @@ class QuerydslDataFetcherTests {
 		return GraphQlSetup.schemaResource(BookSource.schema).runtimeWiring(configurer);
 	}
 
+	private static DataFetchingEnvironment environment() {
+		return DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+				.graphQLContext(GraphQLContext.newContext().build())
+				.build();
+	}
+
 	private WebGraphQlRequest request(String query) {
 		return new WebGraphQlRequest(
 				URI.create("/"), new HttpHeaders(), Collections.singletonMap("query", query), "1", null);
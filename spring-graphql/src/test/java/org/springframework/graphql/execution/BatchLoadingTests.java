@@ -15,8 +15,11 @@
  */
 package org.springframework.graphql.execution;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 
 import org.dataloader.DataLoader;
@@ -87,4 +90,42 @@ public class BatchLoadingTests {
 		assertThat(author.getLastName()).isEqualTo("Orwell");
 	}
 
+	@Test
+	void batchLoaderWithDispatchWindow() {
+		String document = "{ " +
+				"  booksByCriteria(criteria: {author:\"Orwell\"}) { " +
+				"    author {" +
+				"      firstName, " +
+				"      lastName " +
+				"    }" +
+				"  }" +
+				"}";
+
+		this.registry.forTypePair(Long.class, Author.class)
+				.registerBatchLoader((ids, env) -> Flux.fromIterable(ids).map(BookSource::getAuthor));
+
+		DefaultExecutionGraphQlService service = (DefaultExecutionGraphQlService) GraphQlSetup.schemaResource(BookSource.schema)
+				.queryFetcher("booksByCriteria", env -> BookSource.findBooksByAuthor("Orwell"))
+				.dataFetcher("Book", "author", env -> {
+					Book book = env.getSource();
+					DataLoader<Long, Author> dataLoader = env.getDataLoader(Author.class.getName());
+					return dataLoader.load(book.getAuthorId());
+				})
+				.dataLoaders(this.registry)
+				.toGraphQlService();
+
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		try {
+			service.setDataLoaderDispatchWindow(Duration.ofMillis(50), 100, scheduler);
+			Mono<ExecutionGraphQlResponse> responseMono = service.execute(TestExecutionRequest.forDocument(document));
+
+			List<Book> books = ResponseHelper.forResponse(responseMono).toList("booksByCriteria", Book.class);
+			assertThat(books).hasSize(2);
+			assertThat(books.get(0).getAuthor().getLastName()).isEqualTo("Orwell");
+		}
+		finally {
+			scheduler.shutdownNow();
+		}
+	}
+
 }
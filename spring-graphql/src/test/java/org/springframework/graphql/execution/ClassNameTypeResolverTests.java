@@ -17,12 +17,14 @@ package org.springframework.graphql.execution;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
 
 import org.springframework.graphql.ExecutionGraphQlResponse;
+import org.springframework.graphql.ExecutionGraphQlService;
 import org.springframework.graphql.ResponseHelper;
 import org.springframework.graphql.GraphQlSetup;
 import org.springframework.graphql.TestExecutionRequest;
@@ -148,6 +150,40 @@ public class ClassNameTypeResolverTests {
 	}
 
 
+	@Test
+	void typeResolutionIsCachedPerClass() {
+		String document = "{ animals { __typename name } }";
+
+		AtomicInteger extractorCount = new AtomicInteger();
+		ClassNameTypeResolver typeResolver = new ClassNameTypeResolver();
+		typeResolver.setClassNameExtractor(clazz -> {
+			extractorCount.incrementAndGet();
+			return clazz.getSimpleName();
+		});
+
+		ExecutionGraphQlService service = graphQlSetup.queryFetcher("animals", env -> animalList)
+				.typeResolver(typeResolver)
+				.toGraphQlService();
+
+		ResponseHelper response = ResponseHelper.forResponse(service.execute(TestExecutionRequest.forDocument(document)));
+		assertThat(response.toEntity("animals[0].__typename", String.class)).isEqualTo("Mammal");
+		assertThat(response.toEntity("animals[1].__typename", String.class)).isEqualTo("Bird");
+
+		int count = extractorCount.get();
+		assertThat(count).isGreaterThan(0);
+
+		response = ResponseHelper.forResponse(service.execute(TestExecutionRequest.forDocument(document)));
+		assertThat(response.toEntity("animals[1].__typename", String.class)).isEqualTo("Bird");
+		assertThat(extractorCount.get()).isEqualTo(count);
+
+		// Adding a mapping clears cached results
+		typeResolver.addMapping(Penguin.class, "Mammal");
+
+		response = ResponseHelper.forResponse(service.execute(TestExecutionRequest.forDocument(document)));
+		assertThat(response.toEntity("animals[1].__typename", String.class)).isEqualTo("Mammal");
+	}
+
+
 	interface Animal {
 
 		String getName();
@@ -22,6 +22,11 @@ import java.util.List;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
+import graphql.TrivialDataFetcher;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLSchema;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -129,4 +134,29 @@ public class ContextDataFetcherDecoratorTests {
 		}
 	}
 
+	@Test
+	void trivialDataFetcherIsNotDecorated() {
+		DataFetcher<String> dataFetcher = new GreetingDataFetcher();
+		GraphQL graphQl = GraphQlSetup.schemaContent("type Query { greeting: String }")
+				.queryFetcher("greeting", dataFetcher)
+				.toGraphQl();
+
+		GraphQLSchema schema = graphQl.getGraphQLSchema();
+		GraphQLFieldDefinition field = schema.getQueryType().getFieldDefinition("greeting");
+		assertThat(schema.getCodeRegistry().getDataFetcher(schema.getQueryType(), field)).isSameAs(dataFetcher);
+
+		ExecutionResult result = graphQl.execute("{ greeting }");
+		assertThat(ResponseHelper.forResult(result).toEntity("greeting", String.class)).isEqualTo("Hello");
+	}
+
+
+	private static class GreetingDataFetcher implements TrivialDataFetcher<String> {
+
+		@Override
+		public String get(DataFetchingEnvironment environment) {
+			return "Hello";
+		}
+
+	}
+
 }
@@ -15,7 +15,12 @@
  */
 package org.springframework.graphql.execution;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
@@ -34,6 +39,7 @@ import reactor.util.context.ContextView;
 import org.springframework.graphql.Book;
 import org.springframework.graphql.BookSource;
 
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
 /**
@@ -109,6 +115,77 @@ public class DefaultBatchLoaderRegistryTests {
 		assertThat(map.get(name).getStatistics()).isSameAs(collector.getStatistics());
 	}
 
+	@Test
+	void batchLoaderWithMaxBatchSize() throws Exception {
+		List<List<Long>> invocations = new CopyOnWriteArrayList<>();
+
+		this.batchLoaderRegistry.forTypePair(Long.class, Book.class)
+				.withMaxBatchSize(2)
+				.withBatchConcurrency(1)
+				.registerBatchLoader((ids, environment) -> {
+					invocations.add(ids);
+					return Flux.fromIterable(ids).map(BookSource::getBook);
+				});
+
+		this.batchLoaderRegistry.registerDataLoaders(this.dataLoaderRegistry, initGraphQLContext(Context.empty()));
+
+		DataLoader<Long, Book> dataLoader = this.dataLoaderRegistry.getDataLoader(Book.class.getName());
+		List<Long> ids = Arrays.asList(1L, 2L, 3L, 4L, 5L);
+		CompletableFuture<List<Book>> future = dataLoader.loadMany(ids);
+		dataLoader.dispatch();
+
+		assertThat(future.get()).extracting(Book::getId).containsExactlyElementsOf(ids);
+		assertThat(invocations).containsExactly(
+				Arrays.asList(1L, 2L), Arrays.asList(3L, 4L), Collections.singletonList(5L));
+	}
+
+	@Test
+	void mappedBatchLoaderWithMaxBatchSize() throws Exception {
+		List<Integer> invocations = new CopyOnWriteArrayList<>();
+
+		this.batchLoaderRegistry.forTypePair(Long.class, Book.class)
+				.withMaxBatchSize(2)
+				.registerMappedBatchLoader((ids, environment) -> {
+					invocations.add(ids.size());
+					return Flux.fromIterable(ids).map(BookSource::getBook).collectMap(Book::getId, Function.identity());
+				});
+
+		this.batchLoaderRegistry.registerDataLoaders(this.dataLoaderRegistry, initGraphQLContext(Context.empty()));
+
+		DataLoader<Long, Book> dataLoader = this.dataLoaderRegistry.getDataLoader(Book.class.getName());
+		List<Long> ids = Arrays.asList(1L, 2L, 3L, 4L, 5L);
+		CompletableFuture<List<Book>> future = dataLoader.loadMany(ids);
+		dataLoader.dispatch();
+
+		assertThat(future.get()).extracting(Book::getId).containsExactlyElementsOf(ids);
+		assertThat(invocations).containsExactly(2, 2, 1);
+	}
+
+	@Test
+	void dataLoadersCreatedLazily() {
+		this.batchLoaderRegistry.forName("loader1").registerBatchLoader((keys, environment) -> Flux.empty());
+		this.batchLoaderRegistry.forName("loader2").registerMappedBatchLoader((keys, environment) -> Mono.empty());
+
+		LazyDataLoaderRegistry registry = new LazyDataLoaderRegistry(this.dataLoaderRegistry);
+		this.batchLoaderRegistry.registerDataLoaders(registry, GraphQLContext.newContext().build());
+
+		assertThat(registry.getKeys()).containsExactlyInAnyOrder("loader1", "loader2");
+		assertThat(registry.getDataLoaders()).isEmpty();
+
+		DataLoader<Object, Object> dataLoader = registry.getDataLoader("loader1");
+		assertThat(dataLoader).isNotNull();
+		assertThat(registry.getDataLoader("loader1")).isSameAs(dataLoader);
+		assertThat(registry.getDataLoadersMap()).containsOnlyKeys("loader1");
+	}
+
+	@Test
+	void duplicateNameRejectedOnRegistration() {
+		this.batchLoaderRegistry.forName("loader").registerBatchLoader((keys, environment) -> Flux.empty());
+
+		assertThatIllegalStateException().isThrownBy(() ->
+				this.batchLoaderRegistry.forName("loader").registerMappedBatchLoader((keys, environment) -> Mono.empty()));
+	}
+
 	private GraphQLContext initGraphQLContext(ContextView context) {
 		ExecutionInput executionInput = ExecutionInput.newExecutionInput().query("").build();
 		ReactorContextManager.setReactorContext(context, executionInput.getGraphQLContext());
@@ -15,6 +15,7 @@
  */
 package org.springframework.graphql.execution;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import graphql.schema.DataFetcher;
@@ -26,10 +27,13 @@ import graphql.schema.idl.RuntimeWiring;
 import graphql.schema.idl.WiringFactory;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.graphql.BookSource;
 import org.springframework.graphql.GraphQlSetup;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -45,6 +49,68 @@ public class DefaultSchemaResourceGraphQlSourceBuilderTests {
 		GraphQlSetup.schemaResource(BookSource.schema, BookSource.schema).toGraphQlSource();
 	}
 
+	@Test
+	void multipleResourcesMergedInOrder() {
+		GraphQLSchema schema = GraphQlSource.schemaResourceBuilder()
+				.schemaResources(
+						resource("type Query { q1: String }"),
+						resource("extend type Query { q2: String }"),
+						resource("extend type Query { q3: String }"))
+				.build()
+				.schema();
+
+		assertThat(schema.getQueryType().getFieldDefinitions())
+				.extracting(GraphQLFieldDefinition::getName)
+				.containsExactly("q1", "q2", "q3");
+	}
+
+	@Test
+	void firstParseFailureRaised() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> GraphQlSource.schemaResourceBuilder()
+						.schemaResources(
+								resource("type Query { q1: String }"),
+								resource("type Invalid {", "second"),
+								resource("type AlsoInvalid {", "third"))
+						.build())
+				.withMessageContaining("second");
+	}
+
+	@Test
+	void schemaResourceCache() {
+		SchemaResourceCache cache = new SchemaResourceCache(10);
+		Resource[] resources = {resource("type Query { q1: String }"), resource("extend type Query { q2: String }")};
+
+		for (int i = 0; i < 3; i++) {
+			GraphQLSchema schema = GraphQlSource.schemaResourceBuilder()
+					.schemaResources(resources)
+					.schemaResourceCache(cache)
+					.build()
+					.schema();
+
+			assertThat(schema.getQueryType().getFieldDefinitions()).hasSize(2);
+		}
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getMissCount()).isEqualTo(2);
+		assertThat(cache.getHitCount()).isEqualTo(4);
+	}
+
+	@Test
+	void schemaResourceCacheEvictsLeastRecentlyUsed() {
+		SchemaResourceCache cache = new SchemaResourceCache(1);
+		Resource resource1 = resource("type Query { q1: String }");
+		Resource resource2 = resource("type Query { q2: String }");
+
+		GraphQlSource.schemaResourceBuilder().schemaResources(resource1).schemaResourceCache(cache).build();
+		GraphQlSource.schemaResourceBuilder().schemaResources(resource2).schemaResourceCache(cache).build();
+		GraphQlSource.schemaResourceBuilder().schemaResources(resource1).schemaResourceCache(cache).build();
+
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(3);
+		assertThat(cache.getHitCount()).isEqualTo(0);
+	}
+
 	@Test
 	void wiringFactoryList() {
 
@@ -111,6 +177,14 @@ public class DefaultSchemaResourceGraphQlSourceBuilderTests {
 		assertThat(getDataFetcherForQuery(schema, "q2")).isSameAs(dataFetcher2);
 	}
 
+	private static Resource resource(String content) {
+		return resource(content, content);
+	}
+
+	private static Resource resource(String content, String description) {
+		return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8), description);
+	}
+
 	private DataFetcher<?> getDataFetcherForQuery(GraphQLSchema schema, String query) {
 		FieldCoordinates coordinates = FieldCoordinates.coordinates("Query", query);
 		GraphQLFieldDefinition fieldDefinition = schema.getFieldDefinition(coordinates);
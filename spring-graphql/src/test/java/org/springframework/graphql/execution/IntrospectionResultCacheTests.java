@@ -0,0 +1,181 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.execution;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphQL;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.schema.GraphQLSchema;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.graphql.ExecutionGraphQlResponse;
+import org.springframework.graphql.GraphQlSetup;
+import org.springframework.graphql.TestExecutionRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link IntrospectionResultCache}.
+ *
+ * @author agent
+ */
+public class IntrospectionResultCacheTests {
+
+	private static final String SCHEMA = "type Query { greeting: String }";
+
+	private static final String INTROSPECTION_QUERY = "query Introspection { __schema { queryType { name } } }";
+
+
+	@Test
+	void cacheHit() {
+		IntrospectionResultCache cache = new IntrospectionResultCache(10, 10_000);
+		DefaultExecutionGraphQlService service = initService(new TestGraphQlSource(), cache);
+
+		ExecutionGraphQlResponse response1 = execute(service, INTROSPECTION_QUERY);
+		ExecutionGraphQlResponse response2 = execute(service, "query Introspection {\n  __schema {\n    queryType { name }\n  }\n}");
+
+		assertThat(response2.getExecutionResult()).isSameAs(response1.getExecutionResult());
+		Map<String, Object> data = response2.getData();
+		assertThat(data).containsKey("__schema");
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	void nonIntrospectionQueryNotCached() {
+		IntrospectionResultCache cache = new IntrospectionResultCache(10, 10_000);
+		DefaultExecutionGraphQlService service = initService(new TestGraphQlSource(), cache);
+
+		execute(service, "{ greeting __schema { queryType { name } } }");
+		execute(service, "{ greeting }");
+
+		assertThat(cache.size()).isEqualTo(0);
+		assertThat(cache.getMissCount()).isEqualTo(0);
+	}
+
+	@Test
+	void cacheKey() {
+		IntrospectionResultCache cache = new IntrospectionResultCache(10, 10_000);
+
+		assertThat(cache.getCacheKey(input(INTROSPECTION_QUERY))).isNotNull();
+		assertThat(cache.getCacheKey(input("{ __type(name: \"Query\") { name } __typename }"))).isNotNull();
+		assertThat(cache.getCacheKey(input("{ __type (name: \"Query\") { name } }"))).isNotNull();
+
+		assertThat(cache.getCacheKey(input("{ __typename }"))).isNull();
+		assertThat(cache.getCacheKey(input("{ greeting __typename }"))).isNull();
+		assertThat(cache.getCacheKey(input("{ greeting(arg: \"x__schema\") }"))).isNull();
+	}
+
+	@Test
+	void extensionsNotCached() {
+		AtomicInteger count = new AtomicInteger();
+		TestGraphQlSource graphQlSource = new TestGraphQlSource();
+		graphQlSource.graphQl = GraphQL.newGraphQL(GraphQlSetup.schemaContent(SCHEMA).toGraphQl().getGraphQLSchema())
+				.instrumentation(new SimpleInstrumentation() {
+					@Override
+					public CompletableFuture<ExecutionResult> instrumentExecutionResult(
+							ExecutionResult result, InstrumentationExecutionParameters parameters) {
+
+						return CompletableFuture.completedFuture(ExecutionResultImpl.newExecutionResult()
+								.from(result).addExtension("count", count.incrementAndGet()).build());
+					}
+				})
+				.build();
+
+		IntrospectionResultCache cache = new IntrospectionResultCache(10, 10_000);
+		DefaultExecutionGraphQlService service = initService(graphQlSource, cache);
+
+		ExecutionGraphQlResponse response1 = execute(service, INTROSPECTION_QUERY);
+		ExecutionGraphQlResponse response2 = execute(service, INTROSPECTION_QUERY);
+
+		assertThat(response1.getExtensions()).containsEntry("count", 1);
+		assertThat(response2.getExtensions()).isEmpty();
+		Map<String, Object> data = response2.getData();
+		assertThat(data).isEqualTo(response1.getData());
+		assertThat(cache.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void schemaChangeInvalidatesCache() {
+		IntrospectionResultCache cache = new IntrospectionResultCache(10, 10_000);
+		TestGraphQlSource graphQlSource = new TestGraphQlSource();
+		DefaultExecutionGraphQlService service = initService(graphQlSource, cache);
+
+		execute(service, INTROSPECTION_QUERY);
+		graphQlSource.graphQl = GraphQlSetup.schemaContent(SCHEMA).toGraphQl();
+		execute(service, INTROSPECTION_QUERY);
+
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getHitCount()).isEqualTo(0);
+		assertThat(cache.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	void resultOverMaxWeightNotCached() {
+		IntrospectionResultCache cache = new IntrospectionResultCache(10, 10);
+		DefaultExecutionGraphQlService service = initService(new TestGraphQlSource(), cache);
+
+		execute(service, INTROSPECTION_QUERY);
+
+		assertThat(cache.size()).isEqualTo(0);
+	}
+
+	private static DefaultExecutionGraphQlService initService(
+			GraphQlSource graphQlSource, IntrospectionResultCache cache) {
+
+		DefaultExecutionGraphQlService service = new DefaultExecutionGraphQlService(graphQlSource);
+		service.setIntrospectionResultCache(cache);
+		return service;
+	}
+
+	private static ExecutionInput input(String document) {
+		return ExecutionInput.newExecutionInput(document).build();
+	}
+
+	private static ExecutionGraphQlResponse execute(DefaultExecutionGraphQlService service, String document) {
+		ExecutionGraphQlResponse response = service.execute(TestExecutionRequest.forDocument(document)).block();
+		assertThat(response).isNotNull();
+		assertThat(response.getErrors()).isEmpty();
+		return response;
+	}
+
+
+	private static class TestGraphQlSource implements GraphQlSource {
+
+		private GraphQL graphQl = GraphQlSetup.schemaContent(SCHEMA).toGraphQl();
+
+		@Override
+		public GraphQL graphQl() {
+			return this.graphQl;
+		}
+
+		@Override
+		public GraphQLSchema schema() {
+			return this.graphQl.getGraphQLSchema();
+		}
+
+	}
+
+}
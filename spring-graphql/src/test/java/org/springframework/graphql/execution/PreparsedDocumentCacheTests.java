@@ -0,0 +1,119 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.execution;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.graphql.GraphQlSetup;
+import org.springframework.graphql.ResponseHelper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PreparsedDocumentCache}.
+ *
+ * @author agent
+ */
+public class PreparsedDocumentCacheTests {
+
+	private static final String SCHEMA = "type Query { greeting(name: String): String }";
+
+
+	@Test
+	void cacheHit() {
+		PreparsedDocumentCache cache = new PreparsedDocumentCache(10);
+		GraphQL graphQl = initGraphQl(cache);
+
+		for (int i = 0; i < 3; i++) {
+			ExecutionResult result = graphQl.execute("{ greeting(name: \"007\") }");
+			assertThat(ResponseHelper.forResult(result).toEntity("greeting", String.class)).isEqualTo("Hello 007");
+		}
+
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(1);
+		assertThat(cache.getHitCount()).isEqualTo(2);
+	}
+
+	@Test
+	void cacheKeyIncludesOperationName() {
+		PreparsedDocumentCache cache = new PreparsedDocumentCache(10);
+		GraphQL graphQl = initGraphQl(cache);
+
+		String document = "query A { greeting(name: \"A\") } query B { greeting(name: \"B\") }";
+		ExecutionResult resultA = graphQl.execute(ExecutionInput.newExecutionInput(document).operationName("A"));
+		ExecutionResult resultB = graphQl.execute(ExecutionInput.newExecutionInput(document).operationName("B"));
+
+		assertThat(ResponseHelper.forResult(resultA).toEntity("greeting", String.class)).isEqualTo("Hello A");
+		assertThat(ResponseHelper.forResult(resultB).toEntity("greeting", String.class)).isEqualTo("Hello B");
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getHitCount()).isEqualTo(0);
+	}
+
+	@Test
+	void evictLeastRecentlyUsedByCount() {
+		PreparsedDocumentCache cache = new PreparsedDocumentCache(2);
+		GraphQL graphQl = initGraphQl(cache);
+
+		graphQl.execute("{ greeting(name: \"1\") }");
+		graphQl.execute("{ greeting(name: \"2\") }");
+		graphQl.execute("{ greeting(name: \"1\") }");
+		graphQl.execute("{ greeting(name: \"3\") }");
+		graphQl.execute("{ greeting(name: \"1\") }");
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+		assertThat(cache.getHitCount()).isEqualTo(2);
+	}
+
+	@Test
+	void evictByWeight() {
+		String query = "{ greeting(name: \"1\") }";
+		PreparsedDocumentCache cache = new PreparsedDocumentCache(10, query.length() * 2L);
+		GraphQL graphQl = initGraphQl(cache);
+
+		graphQl.execute(query);
+		graphQl.execute("{ greeting(name: \"2\") }");
+		graphQl.execute("{ greeting(name: \"3\") }");
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getWeight()).isEqualTo(query.length() * 2L);
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void validationErrorsAreCached() {
+		PreparsedDocumentCache cache = new PreparsedDocumentCache(10);
+		GraphQL graphQl = initGraphQl(cache);
+
+		assertThat(graphQl.execute("{ unknownField }").getErrors()).hasSize(1);
+		assertThat(graphQl.execute("{ unknownField }").getErrors()).hasSize(1);
+
+		assertThat(cache.getMissCount()).isEqualTo(1);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+	}
+
+	private static GraphQL initGraphQl(PreparsedDocumentCache cache) {
+		return GraphQlSetup.schemaContent(SCHEMA)
+				.queryFetcher("greeting", (env) -> "Hello " + env.getArgument("name"))
+				.preparsedDocumentCache(cache)
+				.toGraphQl();
+	}
+
+}
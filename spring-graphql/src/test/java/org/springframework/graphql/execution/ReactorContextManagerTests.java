@@ -17,6 +17,7 @@ package org.springframework.graphql.execution;
 
 import java.time.Duration;
 
+import graphql.GraphQLContext;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
 import reactor.util.context.Context;
@@ -70,4 +71,40 @@ public class ReactorContextManagerTests {
 		assertThat(threadLocal.get()).isEqualTo("anotherValue");
 	}
 
+	@Test
+	void contextSnapshot() {
+		ThreadLocal<String> threadLocal = new ThreadLocal<>();
+		threadLocal.set("myValue");
+
+		GraphQLContext graphQLContext = GraphQLContext.newContext().build();
+		Context context = ReactorContextManager.extractThreadLocalValues(
+				new TestThreadLocalAccessor<>(threadLocal), Context.of("name", "007"));
+		ReactorContextManager.setReactorContext(context, graphQLContext);
+
+		ReactorContextManager.ContextSnapshot snapshot = ReactorContextManager.getContextSnapshot(graphQLContext);
+		assertThat(snapshot.getContextView().<String>get("name")).isEqualTo("007");
+		try {
+			assertThat(snapshot.requiresRestore()).isFalse();
+			Mono.delay(Duration.ofMillis(10))
+					.doOnNext(aLong -> {
+						assertThat(snapshot.requiresRestore()).isTrue();
+						assertThat(snapshot.invokeSupplier(threadLocal::get)).isEqualTo("myValue");
+						assertThat(threadLocal.get()).isNull();
+					})
+					.block();
+		}
+		finally {
+			threadLocal.remove();
+		}
+	}
+
+	@Test
+	void emptyContextSnapshot() {
+		ReactorContextManager.ContextSnapshot snapshot =
+				ReactorContextManager.getContextSnapshot(GraphQLContext.newContext().build());
+
+		assertThat(snapshot.getContextView().isEmpty()).isTrue();
+		assertThat(snapshot.requiresRestore()).isFalse();
+	}
+
 }
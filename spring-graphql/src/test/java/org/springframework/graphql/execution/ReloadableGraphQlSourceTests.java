@@ -0,0 +1,219 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.execution;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.graphql.Author;
+import org.springframework.graphql.Book;
+import org.springframework.graphql.BookSource;
+import org.springframework.graphql.ExecutionGraphQlResponse;
+import org.springframework.graphql.GraphQlSetup;
+import org.springframework.graphql.TestExecutionRequest;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ReloadableGraphQlSource}.
+ *
+ * @author agent
+ */
+public class ReloadableGraphQlSourceTests {
+
+	private final AtomicReference<GraphQlSetup> setup = new AtomicReference<>(
+			GraphQlSetup.schemaContent("type Query { greeting: String }")
+					.queryFetcher("greeting", (env) -> "Hello"));
+
+
+	@Test
+	void reload() {
+		ReloadableGraphQlSource source = initGraphQlSource();
+		DefaultExecutionGraphQlService service = new DefaultExecutionGraphQlService(source);
+		assertThat(execute(service, "{ greeting }")).containsEntry("greeting", "Hello");
+
+		this.setup.set(GraphQlSetup.schemaContent("type Query { greeting: String farewell: String }")
+				.queryFetcher("greeting", (env) -> "Hi")
+				.queryFetcher("farewell", (env) -> "Bye"));
+		source.reload().join();
+
+		assertThat(execute(service, "{ greeting farewell }"))
+				.containsEntry("greeting", "Hi")
+				.containsEntry("farewell", "Bye");
+	}
+
+	@Test
+	void inFlightExecutionCompletesOnPreviousSchema() {
+		CompletableFuture<String> greeting = new CompletableFuture<>();
+		this.setup.set(GraphQlSetup.schemaContent("type Query { greeting: String }")
+				.queryFetcher("greeting", (env) -> greeting));
+
+		ReloadableGraphQlSource source = initGraphQlSource();
+		DefaultExecutionGraphQlService service = new DefaultExecutionGraphQlService(source);
+		CompletableFuture<ExecutionGraphQlResponse> inFlight =
+				service.execute(TestExecutionRequest.forDocument("{ greeting }")).toFuture();
+
+		this.setup.set(GraphQlSetup.schemaContent("type Query { farewell: String }")
+				.queryFetcher("farewell", (env) -> "Bye"));
+		source.reload().join();
+		greeting.complete("Hello");
+
+		Map<String, Object> data = inFlight.join().getData();
+		assertThat(data).containsEntry("greeting", "Hello");
+		assertThat(execute(service, "{ farewell }")).containsEntry("farewell", "Bye");
+	}
+
+	@Test
+	void failedReloadKeepsCurrentSchema() {
+		ReloadableGraphQlSource source = initGraphQlSource();
+		DefaultExecutionGraphQlService service = new DefaultExecutionGraphQlService(source);
+
+		this.setup.set(GraphQlSetup.schemaContent("type Query { greeting: Unknown }"));
+		CompletableFuture<GraphQlSource> reload = source.reload();
+
+		assertThat(reload).isCompletedExceptionally();
+		assertThat(execute(service, "{ greeting }")).containsEntry("greeting", "Hello");
+
+		// A later reload still succeeds
+		this.setup.set(GraphQlSetup.schemaContent("type Query { greeting: String }")
+				.queryFetcher("greeting", (env) -> "Hi"));
+		source.reload().join();
+
+		assertThat(execute(service, "{ greeting }")).containsEntry("greeting", "Hi");
+	}
+
+	@Test
+	void reloadWithBatchMapping() {
+		BatchLoaderRegistry registry = new DefaultBatchLoaderRegistry();
+
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.registerBean(BookController.class);
+		context.registerBean(BatchLoaderRegistry.class, () -> registry);
+		context.refresh();
+
+		this.setup.set(GraphQlSetup.schemaResource(BookSource.schema).runtimeWiringForAnnotatedControllers(context));
+		ReloadableGraphQlSource source = initGraphQlSource();
+		DefaultExecutionGraphQlService service = new DefaultExecutionGraphQlService(source);
+		service.addDataLoaderRegistrar(registry);
+
+		String document = "{ bookById(id: 1) { author { firstName } } }";
+		Map<String, Object> data = execute(service, document);
+
+		source.reload().join();
+
+		assertThat(execute(service, document)).isEqualTo(data);
+	}
+
+	@Test
+	void recordedOperationsBounded() {
+		ReloadableGraphQlSource source = initGraphQlSource();
+		source.setMaxRecordedOperations(2);
+
+		source.recordOperation("{ a }");
+		source.recordOperation("{ b }");
+		source.recordOperation("{ a }");
+		source.recordOperation("{ c }");
+
+		assertThat(source.getRecordedOperations()).containsExactly("{ a }", "{ c }");
+
+		// Invalid operations are reported, but do not prevent the reload
+		source.reload().join();
+	}
+
+	@Test
+	void preparsedDocumentCacheNotSharedAcrossSchemas() {
+		PreparsedDocumentCache cache = new PreparsedDocumentCache(10);
+		this.setup.get().preparsedDocumentCache(cache);
+		ReloadableGraphQlSource source = initGraphQlSource();
+		DefaultExecutionGraphQlService service = new DefaultExecutionGraphQlService(source);
+		assertThat(execute(service, "{ greeting }")).containsEntry("greeting", "Hello");
+
+		this.setup.set(GraphQlSetup.schemaContent("type Query { farewell: String }")
+				.queryFetcher("farewell", (env) -> "Bye")
+				.preparsedDocumentCache(cache));
+		source.reload().join();
+
+		ExecutionGraphQlResponse response =
+				service.execute(TestExecutionRequest.forDocument("{ greeting }")).block();
+		assertThat(response).isNotNull();
+		assertThat(response.getErrors()).hasSize(1);
+	}
+
+	@Test
+	void reloadWithSchemaResourceCache() {
+		SchemaResourceCache cache = new SchemaResourceCache(10);
+		Resource queryResource = new ByteArrayResource("type Query { greeting: String }".getBytes(StandardCharsets.UTF_8));
+		AtomicReference<String> extension = new AtomicReference<>("extend type Query { farewell: String }");
+
+		ReloadableGraphQlSource source = new ReloadableGraphQlSource(() -> GraphQlSource.schemaResourceBuilder()
+				.schemaResources(queryResource, new ByteArrayResource(extension.get().getBytes(StandardCharsets.UTF_8)))
+				.schemaResourceCache(cache)
+				.build());
+		source.setExecutor(Runnable::run);
+
+		extension.set("extend type Query { farewell: String salutation: String }");
+		source.reload().join();
+
+		assertThat(source.schema().getQueryType().getFieldDefinitions()).hasSize(3);
+		assertThat(cache.getMissCount()).as("Only the changed resource is parsed again").isEqualTo(3);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+	}
+
+	private ReloadableGraphQlSource initGraphQlSource() {
+		ReloadableGraphQlSource source = new ReloadableGraphQlSource(() -> this.setup.get().toGraphQlSource());
+		source.setExecutor(Runnable::run);
+		return source;
+	}
+
+	private static Map<String, Object> execute(DefaultExecutionGraphQlService service, String document) {
+		ExecutionGraphQlResponse response = service.execute(TestExecutionRequest.forDocument(document)).block();
+		assertThat(response).isNotNull();
+		assertThat(response.getErrors()).isEmpty();
+		return response.getData();
+	}
+
+
+	@Controller
+	private static class BookController {
+
+		@QueryMapping
+		public Book bookById(@Argument Long id) {
+			return BookSource.getBook(id);
+		}
+
+		@BatchMapping
+		public Map<Book, Author> author(List<Book> books) {
+			return books.stream().collect(Collectors.toMap(Function.identity(), Book::getAuthor));
+		}
+
+	}
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.execution;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import graphql.GraphQLContext;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import org.springframework.graphql.Book;
+import org.springframework.graphql.BookSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SharedValueCache}.
+ *
+ * @author agent
+ */
+public class SharedValueCacheTests {
+
+	private final BatchLoaderRegistry batchLoaderRegistry = new DefaultBatchLoaderRegistry();
+
+	private final List<List<Long>> invocations = new CopyOnWriteArrayList<>();
+
+
+	@Test
+	void valuesSharedAcrossRequests() throws Exception {
+		SharedValueCache<Long, Book> cache = new SharedValueCache<>(10, Duration.ofMinutes(1));
+		registerBatchLoader(cache);
+
+		assertThat(loadBooks(1L, 2L)).extracting(Book::getId).containsExactly(1L, 2L);
+		assertThat(loadBooks(2L, 3L)).extracting(Book::getId).containsExactly(2L, 3L);
+
+		assertThat(this.invocations).containsExactly(Arrays.asList(1L, 2L), Arrays.asList(3L));
+		assertThat(cache.size()).isEqualTo(3);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(3);
+	}
+
+	@Test
+	void invalidate() throws Exception {
+		SharedValueCache<Long, Book> cache = new SharedValueCache<>(10, Duration.ofMinutes(1));
+		registerBatchLoader(cache);
+
+		loadBooks(1L, 2L);
+		cache.invalidate(1L);
+		loadBooks(1L, 2L);
+
+		assertThat(this.invocations).containsExactly(Arrays.asList(1L, 2L), Arrays.asList(1L));
+	}
+
+	@Test
+	void expiration() throws Exception {
+		SharedValueCache<Long, Book> cache = new SharedValueCache<>(10, Duration.ofMillis(10));
+		registerBatchLoader(cache);
+
+		loadBooks(1L);
+		Thread.sleep(50);
+		loadBooks(1L);
+
+		assertThat(this.invocations).containsExactly(Arrays.asList(1L), Arrays.asList(1L));
+	}
+
+	@Test
+	void evictLeastRecentlyUsed() throws Exception {
+		SharedValueCache<Long, Book> cache = new SharedValueCache<>(2, Duration.ofMinutes(1));
+		registerBatchLoader(cache);
+
+		loadBooks(1L, 2L);
+		loadBooks(1L);
+		loadBooks(3L);
+		loadBooks(1L, 2L);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getEvictionCount()).isEqualTo(2);
+		assertThat(this.invocations).containsExactly(
+				Arrays.asList(1L, 2L), Arrays.asList(3L), Arrays.asList(2L));
+	}
+
+	@Test
+	void concurrentLoadOfSameKeys() {
+		SharedValueCache<Long, Book> cache = new SharedValueCache<>(10, Duration.ofMinutes(1));
+		Sinks.Empty<Void> sink = Sinks.empty();
+
+		Function<List<Long>, Mono<Map<Long, Book>>> loader = keys -> {
+			this.invocations.add(keys);
+			return sink.asMono().then(Flux.fromIterable(keys).map(BookSource::getBook)
+					.collectMap(Book::getId, Function.identity()));
+		};
+
+		CompletableFuture<Map<Long, Book>> future1 = cache.load(Arrays.asList(1L, 2L), loader).toFuture();
+		CompletableFuture<Map<Long, Book>> future2 = cache.load(Arrays.asList(2L, 3L), loader).toFuture();
+		sink.tryEmitEmpty();
+
+		assertThat(future1.join()).containsOnlyKeys(1L, 2L);
+		assertThat(future2.join()).containsOnlyKeys(2L, 3L);
+		assertThat(this.invocations).containsExactly(Arrays.asList(1L, 2L), Arrays.asList(3L));
+	}
+
+	@Test
+	void concurrentLoadFailure() {
+		SharedValueCache<Long, Book> cache = new SharedValueCache<>(10, Duration.ofMinutes(1));
+		Sinks.Empty<Void> sink = Sinks.empty();
+
+		CompletableFuture<Map<Long, Book>> future1 = cache.load(Arrays.asList(1L), keys -> {
+			this.invocations.add(keys);
+			return sink.asMono().then(Mono.error(new IllegalStateException("boom")));
+		}).toFuture();
+
+		CompletableFuture<Map<Long, Book>> future2 = cache.load(Arrays.asList(1L), keys -> {
+			this.invocations.add(keys);
+			return Flux.fromIterable(keys).map(BookSource::getBook).collectMap(Book::getId, Function.identity());
+		}).toFuture();
+
+		sink.tryEmitEmpty();
+
+		assertThat(future1).isCompletedExceptionally();
+		assertThat(future2.join()).containsOnlyKeys(1L);
+		assertThat(this.invocations).containsExactly(Arrays.asList(1L), Arrays.asList(1L));
+	}
+
+	@Test
+	void concurrentLoadFailureReloadedInOneBatch() {
+		SharedValueCache<Long, Book> cache = new SharedValueCache<>(10, Duration.ofMinutes(1));
+		Sinks.Empty<Void> sink = Sinks.empty();
+
+		CompletableFuture<Map<Long, Book>> future1 = cache.load(Arrays.asList(1L, 2L), keys -> {
+			this.invocations.add(keys);
+			return sink.asMono().then(Mono.error(new IllegalStateException("boom")));
+		}).toFuture();
+
+		CompletableFuture<Map<Long, Book>> future2 = cache.load(Arrays.asList(1L, 2L, 3L), keys -> {
+			this.invocations.add(keys);
+			return Flux.fromIterable(keys).map(BookSource::getBook).collectMap(Book::getId, Function.identity());
+		}).toFuture();
+
+		sink.tryEmitEmpty();
+
+		assertThat(future1).isCompletedExceptionally();
+		assertThat(future2.join()).containsOnlyKeys(1L, 2L, 3L);
+		assertThat(this.invocations).containsExactly(Arrays.asList(1L, 2L), Arrays.asList(3L), Arrays.asList(1L, 2L));
+		assertThat(cache.size()).isEqualTo(3);
+	}
+
+	private void registerBatchLoader(SharedValueCache<Long, Book> cache) {
+		this.batchLoaderRegistry.forTypePair(Long.class, Book.class)
+				.withSharedCache(cache)
+				.registerBatchLoader((ids, environment) -> {
+					this.invocations.add(ids);
+					return Flux.fromIterable(ids).map(BookSource::getBook);
+				});
+	}
+
+	private List<Book> loadBooks(Long... ids) throws Exception {
+		// New DataLoader as for a new request
+		DataLoaderRegistry registry = DataLoaderRegistry.newRegistry().build();
+		this.batchLoaderRegistry.registerDataLoaders(registry, GraphQLContext.newContext().build());
+		DataLoader<Long, Book> dataLoader = registry.getDataLoader(Book.class.getName());
+		CompletableFuture<List<Book>> future = dataLoader.loadMany(Arrays.asList(ids));
+		dataLoader.dispatch();
+		return future.get();
+	}
+
+}
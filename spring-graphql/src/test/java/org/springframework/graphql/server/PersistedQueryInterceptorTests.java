@@ -0,0 +1,161 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.server;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import org.springframework.graphql.GraphQlSetup;
+import org.springframework.graphql.ResponseHelper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.server.ServerWebInputException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistedQueryInterceptor}.
+ *
+ * @author agent
+ */
+public class PersistedQueryInterceptorTests {
+
+	private static final String QUERY = "{ greeting }";
+
+
+	private final InMemoryPersistedQueryStore store = new InMemoryPersistedQueryStore();
+
+	private final WebGraphQlHandler handler =
+			GraphQlSetup.schemaContent("type Query { greeting: String } type Mutation { greeting: String }")
+			.queryFetcher("greeting", (env) -> "Hello")
+			.mutationFetcher("greeting", (env) -> "Hello mutation")
+			.interceptor(new PersistedQueryInterceptor(this.store))
+			.toWebGraphQlHandler();
+
+
+	@Test
+	void persistedQueryNotFound() throws Exception {
+		ResponseHelper response = ResponseHelper.forResponse(
+				this.handler.handleRequest(request(null, sha256Hex(QUERY))));
+
+		assertThat(response.errorCount()).isEqualTo(1);
+		assertThat(response.error(0).message()).isEqualTo("PersistedQueryNotFound");
+		assertThat(response.error(0).extensions()).containsEntry("code", "PERSISTED_QUERY_NOT_FOUND");
+	}
+
+	@Test
+	void persistedQueryRegisteredAndFound() throws Exception {
+		String hash = sha256Hex(QUERY);
+
+		ResponseHelper response = ResponseHelper.forResponse(this.handler.handleRequest(request(QUERY, hash)));
+		assertThat(response.toEntity("greeting", String.class)).isEqualTo("Hello");
+		assertThat(this.store.getDocument(hash).block()).isEqualTo(QUERY);
+
+		response = ResponseHelper.forResponse(this.handler.handleRequest(request(null, hash)));
+		assertThat(response.toEntity("greeting", String.class)).isEqualTo("Hello");
+	}
+
+	@Test
+	void hashMismatch() {
+		ResponseHelper response = ResponseHelper.forResponse(
+				this.handler.handleRequest(request(QUERY, "0000")));
+
+		assertThat(response.errorCount()).isEqualTo(1);
+		assertThat(response.error(0).extensions()).containsEntry("code", "PERSISTED_QUERY_HASH_MISMATCH");
+		assertThat(this.store.getDocument("0000").block()).isNull();
+	}
+
+	@Test
+	void mutationPersistedAndFound() throws Exception {
+		String mutation = "mutation { greeting }";
+		String hash = sha256Hex(mutation);
+
+		ResponseHelper response = ResponseHelper.forResponse(this.handler.handleRequest(request(mutation, hash)));
+		assertThat(response.toEntity("greeting", String.class)).isEqualTo("Hello mutation");
+		assertThat(this.store.getDocument(hash).block()).isEqualTo(mutation);
+
+		response = ResponseHelper.forResponse(this.handler.handleRequest(request(null, hash)));
+		assertThat(response.toEntity("greeting", String.class)).isEqualTo("Hello mutation");
+	}
+
+	@Test
+	void storedMutationNotExecutedForHashOnlyGetRequest() throws Exception {
+		String mutation = "mutation { greeting }";
+		String hash = sha256Hex(mutation);
+		this.store.saveDocument(hash, mutation).block();
+
+		ResponseHelper response = ResponseHelper.forResponse(
+				this.handler.handleRequest(request(null, hash, HttpMethod.GET)));
+
+		assertThat(response.errorCount()).isEqualTo(1);
+		assertThat(response.error(0).extensions()).containsEntry("code", "PERSISTED_QUERY_NOT_QUERY");
+	}
+
+	@Test
+	void storedQueryExecutedForHashOnlyGetRequest() throws Exception {
+		String hash = sha256Hex(QUERY);
+		this.store.saveDocument(hash, QUERY).block();
+
+		for (int i = 0; i < 2; i++) {
+			ResponseHelper response = ResponseHelper.forResponse(
+					this.handler.handleRequest(request(null, hash, HttpMethod.GET)));
+			assertThat(response.toEntity("greeting", String.class)).isEqualTo("Hello");
+		}
+	}
+
+	@Test
+	void hashOnlyRequestRejectedWithoutInterceptor() throws Exception {
+		WebGraphQlHandler handler = GraphQlSetup.schemaContent("type Query { greeting: String }")
+				.queryFetcher("greeting", (env) -> "Hello")
+				.toWebGraphQlHandler();
+
+		StepVerifier.create(handler.handleRequest(request(null, sha256Hex(QUERY))))
+				.expectError(ServerWebInputException.class)
+				.verify();
+	}
+
+	private static WebGraphQlRequest request(String query, String hash) {
+		return request(query, hash, HttpMethod.POST);
+	}
+
+	private static WebGraphQlRequest request(String query, String hash, HttpMethod httpMethod) {
+		Map<String, Object> persistedQuery = new HashMap<>();
+		persistedQuery.put("version", 1);
+		persistedQuery.put("sha256Hash", hash);
+
+		Map<String, Object> body = new HashMap<>();
+		if (query != null) {
+			body.put("query", query);
+		}
+		body.put("extensions", Map.of("persistedQuery", persistedQuery));
+
+		return new WebGraphQlRequest(URI.create("https://abc.org"), httpMethod, new HttpHeaders(), body, "1", null);
+	}
+
+	private static String sha256Hex(String value) throws Exception {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.server.support;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.ResultPath;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.graphql.execution.ErrorType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ExecutionResultJsonWriter}.
+ *
+ * @author agent
+ */
+public class ExecutionResultJsonWriterTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+
+	@Test
+	void dataOnly() throws Exception {
+		Map<String, Object> data = new LinkedHashMap<>();
+		data.put("greeting", "Hello");
+		data.put("numbers", Arrays.asList(1, 2, 3));
+
+		ExecutionResult result = ExecutionResultImpl.newExecutionResult().data(data).build();
+
+		assertThat(write(result)).isEqualTo("{\"data\":{\"greeting\":\"Hello\",\"numbers\":[1,2,3]}}");
+		assertThat(write(result)).isEqualTo(this.objectMapper.writeValueAsString(result.toSpecification()));
+	}
+
+	@Test
+	void errorsDataAndExtensions() throws Exception {
+		ExecutionResult result = ExecutionResultImpl.newExecutionResult()
+				.data(Collections.singletonMap("greeting", null))
+				.addError(GraphqlErrorBuilder.newError()
+						.message("Invalid greeting")
+						.errorType(ErrorType.BAD_REQUEST)
+						.path(ResultPath.parse("/greeting"))
+						.build())
+				.addExtension("cost", 5)
+				.build();
+
+		assertThat(write(result)).isEqualTo(this.objectMapper.writeValueAsString(result.toSpecification()));
+	}
+
+	@Test
+	void noData() throws Exception {
+		ExecutionResult result = ExecutionResultImpl.newExecutionResult()
+				.addError(GraphqlErrorBuilder.newError().message("Invalid syntax").build())
+				.build();
+
+		String json = write(result);
+		assertThat(json).doesNotContain("\"data\"");
+		assertThat(json).isEqualTo(this.objectMapper.writeValueAsString(result.toSpecification()));
+	}
+
+	@Test
+	void writeAll() throws Exception {
+		ExecutionResult result1 = ExecutionResultImpl.newExecutionResult()
+				.data(Collections.singletonMap("greeting", "Hello"))
+				.build();
+		ExecutionResult result2 = ExecutionResultImpl.newExecutionResult()
+				.addError(GraphqlErrorBuilder.newError().message("Invalid syntax").build())
+				.build();
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		new ExecutionResultJsonWriter(this.objectMapper).writeAll(Arrays.asList(result1, result2), outputStream);
+
+		assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(this.objectMapper.writeValueAsString(
+				Arrays.asList(result1.toSpecification(), result2.toSpecification())));
+	}
+
+	private String write(ExecutionResult result) throws Exception {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		new ExecutionResultJsonWriter(this.objectMapper).write(result, outputStream);
+		return outputStream.toString(StandardCharsets.UTF_8);
+	}
+
+}
@@ -15,6 +15,10 @@
  */
 package org.springframework.graphql.server.webflux;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -22,23 +26,34 @@ import java.util.Map;
 
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
+import graphql.schema.Coercing;
+import graphql.schema.GraphQLScalarType;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
 
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.graphql.GraphQlSetup;
+import org.springframework.graphql.server.InMemoryPersistedQueryStore;
+import org.springframework.graphql.server.PersistedQueryInterceptor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.EncoderHttpMessageWriter;
 import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.codec.ServerCodecConfigurer;
 import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
 import org.springframework.mock.web.reactive.function.server.MockServerRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import org.springframework.web.reactive.result.view.ViewResolver;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Tests for {@link GraphQlHttpHandler}.
@@ -116,17 +131,182 @@ public class GraphQlHttpHandlerTests {
 		assertThat(id).isEqualTo(httpRequest.getId());
 	}
 
-	private MockServerHttpResponse handleRequest(
-			MockServerHttpRequest httpRequest, GraphQlHttpHandler handler, Map<String, String> body) {
+	@Test
+	void shouldWriteLargeResponseInMultipleBuffers() {
+		String greeting = "Hello".repeat(5000);
+		GraphQlHttpHandler handler = GraphQlSetup.schemaContent("type Query { greeting: String }")
+				.queryFetcher("greeting", (env) -> greeting)
+				.toHttpHandlerWebFlux();
+
+		MockServerHttpRequest httpRequest = MockServerHttpRequest.post("/")
+				.contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON).build();
+
+		MockServerWebExchange exchange = MockServerWebExchange.from(httpRequest);
+		List<String> chunks = new ArrayList<>();
+		exchange.getResponse().setWriteHandler(body -> body
+				.doOnNext(buffer -> {
+					chunks.add(buffer.toString(StandardCharsets.UTF_8));
+					DataBufferUtils.release(buffer);
+				})
+				.then());
+
+		handleRequest(exchange, handler, Collections.singletonMap("query", "{greeting}"));
+
+		assertThat(chunks).hasSizeGreaterThan(1);
+		assertThat(String.join("", chunks)).isEqualTo("{\"data\":{\"greeting\":\"" + greeting + "\"}}");
+	}
+
+	@Test
+	void shouldNotWritePartialResponseOnSerializationError() {
+		Coercing<Object, Object> coercing = new Coercing<>() {
+
+			@Override
+			public Object serialize(Object input) {
+				return new Unserializable();
+			}
+
+			@Override
+			public Object parseValue(Object input) {
+				return input;
+			}
+
+			@Override
+			public Object parseLiteral(Object input) {
+				return input;
+			}
+		};
+
+		String greeting = "Hello".repeat(5000);
+		GraphQlHttpHandler handler = GraphQlSetup.schemaContent(
+						"scalar Unserializable type Query { greeting: String unserializable: Unserializable }")
+				.runtimeWiring(builder -> builder.scalar(
+						GraphQLScalarType.newScalar().name("Unserializable").coercing(coercing).build()))
+				.queryFetcher("greeting", (env) -> greeting)
+				.queryFetcher("unserializable", (env) -> "value")
+				.toHttpHandlerWebFlux();
+
+		MockServerHttpRequest httpRequest = MockServerHttpRequest.post("/")
+				.contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON).build();
 
 		MockServerWebExchange exchange = MockServerWebExchange.from(httpRequest);
+		List<String> chunks = new ArrayList<>();
+		exchange.getResponse().setWriteHandler(body -> body
+				.doOnNext(buffer -> {
+					chunks.add(buffer.toString(StandardCharsets.UTF_8));
+					DataBufferUtils.release(buffer);
+				})
+				.then());
+
+		assertThatThrownBy(() -> handleRequest(exchange, handler,
+				Collections.singletonMap("query", "{ greeting unserializable }")))
+				.hasCauseInstanceOf(IOException.class);
+
+		assertThat(chunks).isEmpty();
+	}
+
+	@Test
+	void shouldHandleGetRequest() {
+		MockServerHttpRequest httpRequest = MockServerHttpRequest.get("/?query={query}", "{ greeting }")
+				.accept(MediaType.APPLICATION_JSON).build();
+
+		MockServerHttpResponse httpResponse = handleGetRequest(httpRequest, this.greetingHandler);
+
+		assertThat(httpResponse.getBodyAsString().block()).isEqualTo("{\"data\":{\"greeting\":\"Hello\"}}");
+	}
+
+	@Test
+	void shouldRejectMutationOverGet() {
+		MockServerHttpRequest httpRequest = MockServerHttpRequest.get("/?query={query}", "mutation { greeting }")
+				.accept(MediaType.APPLICATION_JSON).build();
+
+		MockServerHttpResponse httpResponse = handleGetRequest(httpRequest, this.greetingHandler);
+
+		assertThat(httpResponse.getStatusCode()).isEqualTo(HttpStatus.METHOD_NOT_ALLOWED);
+	}
+
+	@Test
+	void shouldRejectPersistedMutationOverGet() {
+		String mutation = "mutation { greeting }";
+		String hash = "abc";
+		InMemoryPersistedQueryStore store = new InMemoryPersistedQueryStore();
+		store.saveDocument(hash, mutation).block();
+
+		GraphQlHttpHandler handler = GraphQlSetup.schemaContent("type Query { greeting: String }")
+				.queryFetcher("greeting", (env) -> "Hello")
+				.interceptor(new PersistedQueryInterceptor(store))
+				.toHttpHandlerWebFlux();
+
+		String extensions = "{\"persistedQuery\":{\"version\":1,\"sha256Hash\":\"" + hash + "\"}}";
+		MockServerHttpRequest httpRequest = MockServerHttpRequest.get("/?extensions={extensions}", extensions)
+				.accept(MediaType.APPLICATION_JSON).build();
+
+		MockServerHttpResponse httpResponse = handleGetRequest(httpRequest, handler);
+
+		DocumentContext document = JsonPath.parse(httpResponse.getBodyAsString().block());
+		assertThat(document.read("errors[0].extensions.code", String.class)).isEqualTo("PERSISTED_QUERY_NOT_QUERY");
+		assertThat(document.read("data", Object.class)).isNull();
+	}
+
+	@Test
+	void shouldRejectPersistedQueryOverGetWithoutInterceptor() {
+		String extensions = "{\"persistedQuery\":{\"version\":1,\"sha256Hash\":\"abc\"}}";
+		MockServerHttpRequest httpRequest = MockServerHttpRequest.get("/?extensions={extensions}", extensions)
+				.accept(MediaType.APPLICATION_JSON).build();
+
+		assertThatExceptionOfType(ServerWebInputException.class)
+				.isThrownBy(() -> handleGetRequest(httpRequest, this.greetingHandler));
+	}
+
+	@Test
+	void shouldHandleBatchRequest() {
+		GraphQlHttpHandler handler = GraphQlSetup.schemaContent("type Query { greeting: String }")
+				.queryFetcher("greeting", (env) -> "Hello")
+				.toHttpHandlerWebFlux();
+		handler.setMaxBatchSize(2);
+
+		MockServerHttpRequest httpRequest = MockServerHttpRequest.post("/")
+				.contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON).build();
+
+		Map<String, String> body = Collections.singletonMap("query", "{greeting}");
+		MockServerHttpResponse httpResponse = handleRequest(httpRequest, handler, Arrays.asList(body, body));
+
+		assertThat(httpResponse.getBodyAsString().block())
+				.isEqualTo("[{\"data\":{\"greeting\":\"Hello\"}},{\"data\":{\"greeting\":\"Hello\"}}]");
+	}
+
+	@Test
+	void shouldProduceApplicationGraphQlForBatch() {
+		GraphQlHttpHandler handler = GraphQlSetup.schemaContent("type Query { greeting: String }")
+				.queryFetcher("greeting", (env) -> "Hello")
+				.toHttpHandlerWebFlux();
+		handler.setMaxBatchSize(2);
+
+		MockServerHttpRequest httpRequest = MockServerHttpRequest.post("/")
+				.contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_GRAPHQL).build();
+
+		Map<String, String> body = Collections.singletonMap("query", "{greeting}");
+		MockServerHttpResponse httpResponse = handleRequest(httpRequest, handler, Arrays.asList(body, body));
+
+		assertThat(httpResponse.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_GRAPHQL);
+		assertThat(httpResponse.getBodyAsString().block())
+				.isEqualTo("[{\"data\":{\"greeting\":\"Hello\"}},{\"data\":{\"greeting\":\"Hello\"}}]");
+	}
+
+	private MockServerHttpResponse handleRequest(
+			MockServerHttpRequest httpRequest, GraphQlHttpHandler handler, Object body) {
+
+		return handleRequest(MockServerWebExchange.from(httpRequest), handler, body);
+	}
+
+	private MockServerHttpResponse handleRequest(
+			MockServerWebExchange exchange, GraphQlHttpHandler handler, Object body) {
 
 		MockServerRequest serverRequest = MockServerRequest.builder()
 				.exchange(exchange)
 				.uri(((ServerWebExchange) exchange).getRequest().getURI())
 				.method(((ServerWebExchange) exchange).getRequest().getMethod())
 				.headers(((ServerWebExchange) exchange).getRequest().getHeaders())
-				.body(Mono.just((Object) body));
+				.body(Mono.just(body));
 
 		handler.handleRequest(serverRequest)
 				.flatMap(response -> response.writeTo(exchange, new DefaultContext()))
@@ -136,6 +316,27 @@ public class GraphQlHttpHandlerTests {
 	}
 
 
+	private MockServerHttpResponse handleGetRequest(MockServerHttpRequest httpRequest, GraphQlHttpHandler handler) {
+		MockServerWebExchange exchange = MockServerWebExchange.from(httpRequest);
+		ServerRequest serverRequest = ServerRequest.create(exchange, ServerCodecConfigurer.create().getReaders());
+
+		handler.handleRequest(serverRequest)
+				.flatMap(response -> response.writeTo(exchange, new DefaultContext()))
+				.block();
+
+		return exchange.getResponse();
+	}
+
+
+	private static class Unserializable {
+
+		public String getValue() {
+			throw new IllegalStateException("Not serializable");
+		}
+
+	}
+
+
 	private static class DefaultContext implements ServerResponse.Context {
 
 		@Override
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.server.webflux;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.codec.ByteArrayEncoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.graphql.GraphQlSetup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.reactive.result.view.ViewResolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SchemaHandler}.
+ *
+ * @author agent
+ */
+public class SchemaHandlerTests {
+
+	private final SchemaHandler handler =
+			new SchemaHandler(GraphQlSetup.schemaContent("type Query { greeting: String }").toGraphQlSource());
+
+
+	@Test
+	void schemaWithETag() {
+		MockServerHttpResponse response = handleRequest(MockServerHttpRequest.get("/graphql/schema").build());
+
+		String eTag = response.getHeaders().getETag();
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(eTag).isNotNull();
+		assertThat(new String(getBody(response), StandardCharsets.UTF_8)).contains("greeting: String");
+
+		response = handleRequest(MockServerHttpRequest.get("/graphql/schema").ifNoneMatch(eTag).build());
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+	}
+
+	@Test
+	void gzipSchema() throws Exception {
+		MockServerHttpResponse response = handleRequest(MockServerHttpRequest.get("/graphql/schema")
+				.header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8").build());
+
+		assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(getBody(response)))) {
+			assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).contains("greeting: String");
+		}
+
+		response = handleRequest(MockServerHttpRequest.get("/graphql/schema")
+				.header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0").build());
+
+		assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+	}
+
+	@Test
+	void gzipSchemaForWildcard() {
+		MockServerHttpResponse response = handleRequest(MockServerHttpRequest.get("/graphql/schema")
+				.header(HttpHeaders.ACCEPT_ENCODING, "br, *;q=0.5").build());
+
+		assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+
+		response = handleRequest(MockServerHttpRequest.get("/graphql/schema")
+				.header(HttpHeaders.ACCEPT_ENCODING, "*, gzip;q=0").build());
+
+		assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+
+		response = handleRequest(MockServerHttpRequest.get("/graphql/schema")
+				.header(HttpHeaders.ACCEPT_ENCODING, "*;q=0").build());
+
+		assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+	}
+
+	private MockServerHttpResponse handleRequest(MockServerHttpRequest httpRequest) {
+		MockServerWebExchange exchange = MockServerWebExchange.from(httpRequest);
+		ServerRequest serverRequest = ServerRequest.create(exchange, ServerCodecConfigurer.create().getReaders());
+
+		this.handler.handleRequest(serverRequest)
+				.flatMap(response -> response.writeTo(exchange, new DefaultContext()))
+				.block();
+
+		return exchange.getResponse();
+	}
+
+	private static byte[] getBody(MockServerHttpResponse response) {
+		DataBuffer buffer = DataBufferUtils.join(response.getBody()).block();
+		assertThat(buffer).isNotNull();
+		byte[] bytes = new byte[buffer.readableByteCount()];
+		buffer.read(bytes);
+		DataBufferUtils.release(buffer);
+		return bytes;
+	}
+
+
+	private static class DefaultContext implements ServerResponse.Context {
+
+		@Override
+		public List<HttpMessageWriter<?>> messageWriters() {
+			return Collections.singletonList(new EncoderHttpMessageWriter<>(new ByteArrayEncoder()));
+		}
+
+		@Override
+		public List<ViewResolver> viewResolvers() {
+			return Collections.emptyList();
+		}
+
+	}
+
+}
@@ -21,25 +21,32 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.servlet.ServletException;
 
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
 
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.graphql.GraphQlSetup;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.server.ServerWebInputException;
 import org.springframework.web.servlet.function.AsyncServerResponse;
 import org.springframework.web.servlet.function.ServerRequest;
 import org.springframework.web.servlet.function.ServerResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 
 /**
@@ -109,6 +116,160 @@ public class GraphQlHttpHandlerTests {
 		assertThatNoException().isThrownBy(() -> UUID.fromString(id));
 	}
 
+	@Test
+	void shouldProduceMultipartMixed() throws Exception {
+		MockHttpServletRequest servletRequest = createServletRequest("{\"query\":\"{ greeting }\"}", "multipart/mixed");
+		MockHttpServletResponse servletResponse = handleRequest(servletRequest, this.greetingHandler);
+
+		assertThat(servletResponse.getContentType()).startsWith("multipart/mixed");
+		assertThat(servletResponse.getContentAsString()).isEqualTo(
+				"\r\n---\r\nContent-Type: application/json; charset=utf-8\r\n\r\n" +
+						"{\"data\":{\"greeting\":\"Hello\"},\"hasNext\":false}" +
+						"\r\n-----\r\n");
+	}
+
+	@Test
+	void shouldProduceEventStreamForSubscription() throws Exception {
+		GraphQlHttpHandler handler = GraphQlSetup.schemaContent(
+						"type Query { greeting: String } type Subscription { greetings: String }")
+				.subscriptionFetcher("greetings", (env) -> Flux.just("Hi", "Bonjour"))
+				.toHttpHandler();
+
+		MockHttpServletRequest servletRequest = createServletRequest(
+				"{\"query\":\"subscription { greetings }\"}", MediaType.TEXT_EVENT_STREAM_VALUE);
+		MockHttpServletResponse servletResponse = handleRequest(servletRequest, handler);
+
+		assertThat(servletResponse.getContentType()).isEqualTo(MediaType.TEXT_EVENT_STREAM_VALUE);
+		assertThat(servletResponse.getContentAsString()).isEqualTo(
+				"event:next\ndata:{\"data\":{\"greetings\":\"Hi\"}}\n\n" +
+						"event:next\ndata:{\"data\":{\"greetings\":\"Bonjour\"}}\n\n" +
+						"event:complete\n\n");
+	}
+
+	@Test
+	void shouldWriteEventStreamAsynchronously() throws Exception {
+		Sinks.Many<String> sink = Sinks.many().unicast().onBackpressureBuffer();
+		GraphQlHttpHandler handler = GraphQlSetup.schemaContent(
+						"type Query { greeting: String } type Subscription { greetings: String }")
+				.subscriptionFetcher("greetings", (env) -> sink.asFlux())
+				.toHttpHandler();
+
+		MockHttpServletRequest servletRequest = createServletRequest(
+				"{\"query\":\"subscription { greetings }\"}", MediaType.TEXT_EVENT_STREAM_VALUE);
+		MockHttpServletResponse servletResponse = handleRequest(servletRequest, handler);
+
+		assertThat(servletRequest.isAsyncStarted()).isTrue();
+		assertThat(servletResponse.getContentAsString()).isEmpty();
+
+		sink.tryEmitNext("Hi");
+		assertThat(servletResponse.getContentAsString())
+				.isEqualTo("event:next\ndata:{\"data\":{\"greetings\":\"Hi\"}}\n\n");
+
+		sink.tryEmitComplete();
+		assertThat(servletResponse.getContentAsString()).endsWith("event:complete\n\n");
+	}
+
+	@Test
+	void shouldHandleGetRequest() throws Exception {
+		GraphQlHttpHandler handler = GraphQlSetup.schemaContent("type Query { greeting(name: String): String }")
+				.queryFetcher("greeting", (env) -> "Hello " + env.getArgument("name"))
+				.toHttpHandler();
+
+		MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/");
+		servletRequest.addParameter("query", "query Greeting($name: String) { greeting(name: $name) }");
+		servletRequest.addParameter("variables", "{\"name\":\"007\"}");
+		servletRequest.addHeader("Accept", MediaType.APPLICATION_JSON_VALUE);
+		servletRequest.setAsyncSupported(true);
+
+		MockHttpServletResponse servletResponse = handleRequest(servletRequest, handler);
+
+		assertThat(servletResponse.getContentAsString()).isEqualTo("{\"data\":{\"greeting\":\"Hello 007\"}}");
+	}
+
+	@Test
+	void shouldRejectMutationOverGet() throws Exception {
+		MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/");
+		servletRequest.addParameter("query", "mutation { greeting }");
+
+		ServerRequest request = ServerRequest.create(servletRequest, MESSAGE_READERS);
+		ServerResponse response = this.greetingHandler.handleRequest(request);
+
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.METHOD_NOT_ALLOWED);
+	}
+
+	@Test
+	void shouldHandleBatchRequest() throws Exception {
+		AtomicInteger registrarCount = new AtomicInteger();
+		GraphQlHttpHandler handler = GraphQlSetup.schemaContent("type Query { greeting: String }")
+				.queryFetcher("greeting", (env) -> "Hello")
+				.dataLoaders((registry, context) -> registrarCount.incrementAndGet())
+				.toHttpHandler();
+		handler.setMaxBatchSize(2);
+		handler.setShareDataLoaderRegistry(true);
+
+		MockHttpServletRequest servletRequest = createServletRequest(
+				"[{\"query\":\"{ greeting }\"}, {\"query\":\"{ greeting }\"}]", MediaType.APPLICATION_JSON_VALUE);
+
+		MockHttpServletResponse servletResponse = handleRequest(servletRequest, handler);
+
+		assertThat(servletResponse.getContentAsString())
+				.isEqualTo("[{\"data\":{\"greeting\":\"Hello\"}},{\"data\":{\"greeting\":\"Hello\"}}]");
+		assertThat(registrarCount.get()).as("DataLoader registrations for the shared registry").isEqualTo(1);
+	}
+
+	@Test
+	void shouldProduceApplicationGraphQlForBatch() throws Exception {
+		this.greetingHandler.setMaxBatchSize(2);
+		MockHttpServletRequest servletRequest = createServletRequest(
+				"[{\"query\":\"{ greeting }\"}, {\"query\":\"{ greeting }\"}]", MediaType.APPLICATION_GRAPHQL_VALUE);
+
+		MockHttpServletResponse servletResponse = handleRequest(servletRequest, this.greetingHandler);
+
+		assertThat(servletResponse.getContentType()).isEqualTo(MediaType.APPLICATION_GRAPHQL_VALUE);
+		assertThat(servletResponse.getContentAsString())
+				.isEqualTo("[{\"data\":{\"greeting\":\"Hello\"}},{\"data\":{\"greeting\":\"Hello\"}}]");
+	}
+
+	@Test
+	void sharedDataLoaderRegistryUsesContextOfFirstRequest() throws Exception {
+		List<String> requestIds = new CopyOnWriteArrayList<>();
+		GraphQlHttpHandler handler = GraphQlSetup.schemaContent("type Query { greeting: String }")
+				.queryFetcher("greeting", (env) -> "Hello")
+				.dataLoaders((registry, context) -> requestIds.add(context.get("requestId")))
+				.interceptor((request, chain) -> {
+					request.configureExecutionInput((input, builder) -> {
+						input.getGraphQLContext().put("requestId", request.getId());
+						return input;
+					});
+					return chain.next(request);
+				})
+				.toHttpHandler();
+		handler.setMaxBatchSize(2);
+		handler.setShareDataLoaderRegistry(true);
+
+		MockHttpServletRequest servletRequest = createServletRequest(
+				"[{\"query\":\"{ greeting }\"}, {\"query\":\"{ greeting }\"}]", MediaType.APPLICATION_JSON_VALUE);
+
+		handleRequest(servletRequest, handler);
+
+		assertThat(requestIds).hasSize(1);
+		assertThat(requestIds.get(0)).endsWith("-0");
+	}
+
+	@Test
+	void shouldRejectBatchOverMaxBatchSize() {
+		GraphQlHttpHandler handler = GraphQlSetup.schemaContent("type Query { greeting: String }")
+				.queryFetcher("greeting", (env) -> "Hello")
+				.toHttpHandler();
+		handler.setMaxBatchSize(1);
+
+		MockHttpServletRequest servletRequest = createServletRequest(
+				"[{\"query\":\"{ greeting }\"}, {\"query\":\"{ greeting }\"}]", MediaType.APPLICATION_JSON_VALUE);
+		ServerRequest request = ServerRequest.create(servletRequest, MESSAGE_READERS);
+
+		assertThatExceptionOfType(ServerWebInputException.class).isThrownBy(() -> handler.handleRequest(request));
+	}
+
 	private MockHttpServletRequest createServletRequest(String query, String accept) {
 		MockHttpServletRequest servletRequest = new MockHttpServletRequest("POST", "/");
 		servletRequest.setContentType(MediaType.APPLICATION_JSON_VALUE);
@@ -21,10 +21,16 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -32,6 +38,7 @@ import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 import org.springframework.graphql.GraphQlSetup;
@@ -190,6 +197,187 @@ public class GraphQlWebSocketHandlerTests extends WebSocketHandlerTestSupport {
 				.verify(TIMEOUT);
 	}
 
+	@Test
+	void connectionInitHandlingDoesNotBlock() throws Exception {
+		Sinks.One<Object> ackPayloadSink = Sinks.one();
+
+		WebSocketGraphQlInterceptor interceptor = new WebSocketGraphQlInterceptor() {
+
+			@Override
+			public Mono<Object> handleConnectionInitialization(WebSocketSessionInfo info, Map<String, Object> payload) {
+				return ackPayloadSink.asMono();
+			}
+		};
+
+		handle(initWebSocketHandler(interceptor),
+				new TextMessage("{\"type\":\"connection_init\"}"),
+				new TextMessage("{\"type\":\"ping\"}"));
+
+		// Messages after "connection_init" wait for it to complete
+		ackPayloadSink.tryEmitValue(Collections.emptyMap());
+
+		StepVerifier.create(session.getOutput())
+				.consumeNextWith(message -> assertMessageType(message, GraphQlWebSocketMessageType.CONNECTION_ACK))
+				.consumeNextWith(message -> assertMessageType(message, GraphQlWebSocketMessageType.PONG))
+				.then(this.session::close) // Complete output Flux
+				.expectComplete()
+				.verify(TIMEOUT);
+	}
+
+	@Test
+	void inboundQueueLimitExceeded() throws Exception {
+		WebSocketGraphQlInterceptor interceptor = new WebSocketGraphQlInterceptor() {
+
+			@Override
+			public Mono<Object> handleConnectionInitialization(WebSocketSessionInfo info, Map<String, Object> payload) {
+				return Mono.never();
+			}
+		};
+
+		GraphQlWebSocketHandler handler = initWebSocketHandler(interceptor);
+		handler.setInboundQueueLimit(2);
+
+		handle(handler,
+				new TextMessage("{\"type\":\"connection_init\"}"),
+				new TextMessage("{\"type\":\"ping\"}"));
+
+		assertThat(this.session.getCloseStatus()).isNull();
+
+		handler.handleTextMessage(this.session, new TextMessage("{\"type\":\"ping\"}"));
+		assertThat(this.session.getCloseStatus()).isEqualTo(CloseStatus.POLICY_VIOLATION);
+	}
+
+	@Test
+	void manyMessagesCompletingAsynchronouslyAfterConnectionInit() throws Exception {
+		int count = 10_000;
+		Sinks.One<Object> ackPayloadSink = Sinks.one();
+		AtomicInteger cancelledCount = new AtomicInteger();
+
+		WebSocketGraphQlInterceptor interceptor = new WebSocketGraphQlInterceptor() {
+
+			@Override
+			public Mono<Object> handleConnectionInitialization(WebSocketSessionInfo info, Map<String, Object> payload) {
+				return ackPayloadSink.asMono();
+			}
+
+			@Override
+			public Mono<Void> handleCancelledSubscription(WebSocketSessionInfo info, String subscriptionId) {
+				return Mono.fromRunnable(cancelledCount::incrementAndGet);
+			}
+		};
+
+		GraphQlWebSocketHandler handler = initWebSocketHandler(interceptor);
+		handler.setInboundQueueLimit(count + 1);
+
+		handle(handler, new TextMessage("{\"type\":\"connection_init\"}"));
+		for (int i = 0; i < count; i++) {
+			handler.handleTextMessage(this.session, new TextMessage("{\"id\":\"" + i + "\",\"type\":\"complete\"}"));
+		}
+
+		// Each "complete" completes on the thread that resumes handling
+		ackPayloadSink.tryEmitValue(Collections.emptyMap());
+
+		assertThat(cancelledCount.get()).isEqualTo(count);
+		assertThat(this.session.getCloseStatus()).isNull();
+	}
+
+	@Test
+	void connectionInitHandlingAcrossSessions() throws Exception {
+		Map<String, Sinks.One<Object>> initSinks = new ConcurrentHashMap<>();
+
+		WebSocketGraphQlInterceptor interceptor = new WebSocketGraphQlInterceptor() {
+
+			@Override
+			public Mono<Object> handleConnectionInitialization(WebSocketSessionInfo info, Map<String, Object> payload) {
+				return initSinks.computeIfAbsent(info.getId(), id -> Sinks.one()).asMono();
+			}
+		};
+
+		GraphQlWebSocketHandler handler = initWebSocketHandler(interceptor);
+		List<String> ackOrder = new CopyOnWriteArrayList<>();
+		CountDownLatch ackLatch = new CountDownLatch(2);
+		List<TestWebSocketSession> sessions = new ArrayList<>();
+
+		for (String id : Arrays.asList("1", "2")) {
+			TestWebSocketSession webSocketSession = new TestWebSocketSession(id);
+			webSocketSession.getOutput().take(1).subscribe(message -> {
+				ackOrder.add(id);
+				ackLatch.countDown();
+			});
+			sessions.add(webSocketSession);
+			handler.afterConnectionEstablished(webSocketSession);
+			handler.handleTextMessage(webSocketSession, new TextMessage("{\"type\":\"connection_init\"}"));
+		}
+
+		// Both sessions handled while initialization is still pending
+		assertThat(initSinks).containsOnlyKeys("1", "2");
+		assertThat(ackOrder).isEmpty();
+
+		initSinks.get("2").tryEmitValue(Collections.emptyMap());
+		initSinks.get("1").tryEmitValue(Collections.emptyMap());
+
+		assertThat(ackLatch.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(ackOrder).containsExactly("2", "1");
+
+		for (TestWebSocketSession webSocketSession : sessions) {
+			handler.afterConnectionClosed(webSocketSession, CloseStatus.NORMAL);
+		}
+	}
+
+	@Test
+	void sendQueueLimitExceeded() throws Exception {
+		List<Runnable> sendTasks = new ArrayList<>();
+		GraphQlWebSocketHandler handler = initWebSocketHandler();
+		handler.setSendExecutor(sendTasks::add);
+		handler.setSendQueueLimit(2);
+
+		handle(handler,
+				new TextMessage("{\"type\":\"connection_init\"}"),
+				new TextMessage("{\"type\":\"ping\"}"),
+				new TextMessage("{\"type\":\"ping\"}"));
+
+		assertThat(sendTasks).as("Single drain task for the session").hasSize(1);
+		assertThat(this.session.getCloseStatus()).isEqualTo(CloseStatus.SESSION_NOT_RELIABLE);
+	}
+
+	@Test
+	void sendTimeLimitExceeded() throws Exception {
+		CountDownLatch sendStarted = new CountDownLatch(1);
+		CountDownLatch sendReleased = new CountDownLatch(1);
+
+		TestWebSocketSession session = new TestWebSocketSession() {
+
+			@Override
+			public void sendMessage(WebSocketMessage<?> message) {
+				sendStarted.countDown();
+				try {
+					// Client not reading
+					sendReleased.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				super.sendMessage(message);
+			}
+		};
+
+		GraphQlWebSocketHandler handler = initWebSocketHandler();
+		handler.setSendTimeLimit(Duration.ofMillis(50));
+		handler.afterConnectionEstablished(session);
+
+		try {
+			handler.handleTextMessage(session, new TextMessage("{\"type\":\"connection_init\"}"));
+			assertThat(sendStarted.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+			Thread.sleep(100);
+
+			handler.handleTextMessage(session, new TextMessage("{\"type\":\"ping\"}"));
+			assertThat(session.getCloseStatus()).isEqualTo(CloseStatus.SESSION_NOT_RELIABLE);
+		}
+		finally {
+			sendReleased.countDown();
+		}
+	}
+
 	@Test
 	void connectionClosedHandling() throws Exception {
 
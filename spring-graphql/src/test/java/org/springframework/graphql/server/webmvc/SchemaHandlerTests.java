@@ -0,0 +1,95 @@
+/*
+ * Copyright 2002-2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.server.webmvc;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.graphql.GraphQlSetup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SchemaHandler}.
+ *
+ * @author agent
+ */
+public class SchemaHandlerTests {
+
+	private static final List<HttpMessageConverter<?>> MESSAGE_CONVERTERS =
+			Collections.singletonList(new ByteArrayHttpMessageConverter());
+
+
+	private final SchemaHandler handler =
+			new SchemaHandler(GraphQlSetup.schemaContent("type Query { greeting: String }").toGraphQlSource());
+
+
+	@Test
+	void schemaWithETag() throws Exception {
+		MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/graphql/schema");
+		MockHttpServletResponse servletResponse = handleRequest(servletRequest);
+
+		assertThat(servletResponse.getStatus()).isEqualTo(200);
+		assertThat(servletResponse.getHeader(HttpHeaders.ETAG)).isNotNull();
+		assertThat(servletResponse.getContentAsString(StandardCharsets.UTF_8)).contains("greeting: String");
+
+		servletRequest = new MockHttpServletRequest("GET", "/graphql/schema");
+		servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, servletResponse.getHeader(HttpHeaders.ETAG));
+		ServerResponse response = this.handler.handleRequest(ServerRequest.create(servletRequest, MESSAGE_CONVERTERS));
+
+		assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+	}
+
+	@Test
+	void gzipSchema() throws Exception {
+		MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/graphql/schema");
+		servletRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8");
+		MockHttpServletResponse servletResponse = handleRequest(servletRequest);
+
+		assertThat(servletResponse.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(servletResponse.getContentAsByteArray()))) {
+			assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).contains("greeting: String");
+		}
+
+		servletRequest = new MockHttpServletRequest("GET", "/graphql/schema");
+		servletRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0");
+		servletResponse = handleRequest(servletRequest);
+
+		assertThat(servletResponse.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+	}
+
+	private MockHttpServletResponse handleRequest(MockHttpServletRequest servletRequest) throws Exception {
+		ServerResponse response = this.handler.handleRequest(ServerRequest.create(servletRequest, MESSAGE_CONVERTERS));
+		MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+		response.writeTo(servletRequest, servletResponse, () -> MESSAGE_CONVERTERS);
+		return servletResponse;
+	}
+
+}
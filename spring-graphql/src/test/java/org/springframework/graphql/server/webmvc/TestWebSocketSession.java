@@ -51,11 +51,23 @@ public class TestWebSocketSession implements WebSocketSession {
 
 	private Sinks.One<CloseStatus> statusSink = Sinks.one();
 
+	private final String id;
+
 	private boolean closed;
 
+
+	public TestWebSocketSession() {
+		this("1");
+	}
+
+	public TestWebSocketSession(String id) {
+		this.id = id;
+	}
+
+
 	@Override
 	public String getId() {
-		return "1";
+		return this.id;
 	}
 
 	@Override
@@ -33,6 +33,7 @@ import org.springframework.graphql.execution.DataFetcherExceptionResolver;
 import org.springframework.graphql.execution.DataLoaderRegistrar;
 import org.springframework.graphql.execution.DefaultExecutionGraphQlService;
 import org.springframework.graphql.execution.GraphQlSource;
+import org.springframework.graphql.execution.PreparsedDocumentCache;
 import org.springframework.graphql.execution.RuntimeWiringConfigurer;
 import org.springframework.graphql.execution.ThreadLocalAccessor;
 import org.springframework.graphql.server.WebGraphQlHandler;
@@ -109,6 +110,11 @@ public class GraphQlSetup implements GraphQlServiceSetup {
 		return this;
 	}
 
+	public GraphQlSetup preparsedDocumentCache(PreparsedDocumentCache cache) {
+		this.graphQlSourceBuilder.preparsedDocumentCache(cache);
+		return this;
+	}
+
 	public GraphQL toGraphQl() {
 		return this.graphQlSourceBuilder.build().graphQl();
 	}